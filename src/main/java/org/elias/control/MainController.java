@@ -2,8 +2,10 @@ package org.elias.control;
 
 import org.elias.Main;
 import org.elias.model.*;
+import org.elias.model.graph.CompactGraph;
 import org.elias.model.service.*;
 import org.elias.model.sort.*;
+import org.elias.res.Districts;
 import org.elias.res.constant.ErrorMessages;
 import org.elias.res.constant.GeneralConstants;
 import org.elias.res.constant.ViewConstants;
@@ -12,6 +14,10 @@ import org.elias.util.Timer;
 import org.elias.view.ConsoleView;
 import org.elias.view.TablePrinter;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Year;
 import java.util.*;
 
 /**
@@ -31,6 +37,22 @@ public final class MainController
     private final ConsoleView view;
     private final WindFarmRepository germanWindFarms;
     int normalizedCoordinatesCounter = GeneralConstants.EMPTY_INT_VARIABLE;
+    /**
+     * Beim Start geladener Snapshot des normalisierten Repositories, null falls neu importiert wurde
+     */
+    private RepositorySnapshot snapshot = null;
+    /**
+     * Stand des Imports, null falls das Repository aus dem Snapshot geladen wurde
+     */
+    private WindFarmImportState importState = null;
+    /**
+     * Graph des vorherigen Imports fuer den inkrementellen Graphaufbau, null falls neu aufgebaut wird
+     */
+    private CompactGraph<WindFarm> previousWindFarmGraph = null;
+    /**
+     * Zeitbudget der lokalen Suche bei der Routenplanung fuer diesen Lauf
+     */
+    private Duration localSearchTimeBudget = GeneralConstants.LOCAL_SEARCH_TIME_BUDGET;
 
 
     /**
@@ -97,6 +119,7 @@ public final class MainController
      *     <li>Begruessung ausgeben.</li>
      *     <li>Daten vorbereiten.</li>
      *     <li>Koordinaten normalisieren.</li>
+     *     <li>Leistungen normalisieren und Snapshot speichern.</li>
      *     <li>Hauptloop aufrufen.</li>
      * </ol>
      *
@@ -118,6 +141,8 @@ public final class MainController
 
         calculateRuntime(this::validatePerformance);
 
+        saveSnapshot();
+
         waitForEnter();
 
         programLoop();
@@ -125,22 +150,158 @@ public final class MainController
 
 
     /**
-     * Liest die CSV-Datei ein, wandelt die Zellen aus Zeilen um un importiert die Daten
-     * in das {@link WindFarmRepository}.
+     * Liest die speichergemappte CSV-Datei zeilenweise ein, wandelt die Zellen aus Zeilen um und importiert die Daten
+     * blockweise in das {@link WindFarmRepository}.
+     * <p>
+     * Passt der Snapshot unter {@link #getSnapshotPath()} zur CSV-Datei, wird stattdessen das
+     * bereits normalisierte Repository aus dem Snapshot geladen. Hat sich die CSV-Datei geaendert, werden nur neue
+     * und geaenderte Windpark-Bloecke verarbeitet; die uebrigen Windparks stammen aus dem Snapshot.
      *
      * @precondition der Pfad {@code GeneralConstants.PATH_TO_CSV} zur CSV-Datei ist korrekt und die Daten sind lesbar.
      * @postcondition das Repository {@code germanWindFarm} enthaelt WindFarms aus CSV-Tabelle.
      */
     private void setupData ()
     {
-        List<String> dataRows = CSVFileReader.convertCSVtoList(GeneralConstants.PATH_TO_CSV);
-        List<String[]> CSVDataCells = CSVLineParser.convertToDataUnit(dataRows);
-        WindFarmImporter.importData(CSVDataCells, germanWindFarms);
+        RepositorySnapshot previousSnapshot = isSnapshotEnabled()
+                ? RepositorySnapshot.load(getSnapshotPath())
+                : null;
+
+        if (previousSnapshot != null && previousSnapshot.matches(Path.of(GeneralConstants.PATH_TO_CSV)))
+        {
+            previousSnapshot.restore(germanWindFarms);
+            snapshot = previousSnapshot;
+        } else
+        {
+            importState = WindFarmImporter.importMappedIncremental(GeneralConstants.PATH_TO_CSV, germanWindFarms,
+                    previousSnapshot == null ? null : previousSnapshot.getImportState());
+            previousWindFarmGraph = previousSnapshot == null ? null : previousSnapshot.getWindFarmGraph();
+        }
+        selectSortMode();
+        selectLocalSearchTimeBudget();
 
         calculateData();
     }
 
 
+    /**
+     * Waehlt fuer diesen Lauf, ob sortierte Sichten ueber gepackte primitive Schluessel berechnet werden.
+     * <p>
+     * Ohne Angabe der System-Property {@link GeneralConstants#PARALLEL_SORT_PROPERTY} entscheidet die Anzahl
+     * der Windparks ({@link GeneralConstants#PARALLEL_SORT_THRESHOLD}).
+     *
+     * @precondition die Windparks wurden importiert.
+     * @postcondition der Sortiermodus des Repositories ist gesetzt.
+     */
+    private void selectSortMode ()
+    {
+        String parallelSort = System.getProperty(GeneralConstants.PARALLEL_SORT_PROPERTY);
+
+        germanWindFarms.setParallelSortEnabled(parallelSort != null
+                ? Boolean.parseBoolean(parallelSort)
+                : germanWindFarms.getGermanWindFarms().size() >= GeneralConstants.PARALLEL_SORT_THRESHOLD);
+    }
+
+
+    /**
+     * Liest das Zeitbudget der lokalen Suche fuer diesen Lauf.
+     * <p>
+     * Die System-Property {@link GeneralConstants#LOCAL_SEARCH_BUDGET_PROPERTY} gibt das Budget in Millisekunden
+     * an, 0 liefert die reine Nearest-Neighbor-Route. Fehlt sie oder ist sie ungueltig, gilt
+     * {@link GeneralConstants#LOCAL_SEARCH_TIME_BUDGET}.
+     *
+     * @precondition keine.
+     * @postcondition das Zeitbudget ist gesetzt, bei ungueltiger Angabe wurde ein Fehler ausgegeben.
+     */
+    private void selectLocalSearchTimeBudget ()
+    {
+        String budgetMillis = System.getProperty(GeneralConstants.LOCAL_SEARCH_BUDGET_PROPERTY);
+
+        if (budgetMillis == null)
+        {
+            return;
+        }
+
+        try
+        {
+            long millis = Long.parseLong(budgetMillis.trim());
+
+            if (millis < GeneralConstants.INT_ZERO)
+            {
+                throw new NumberFormatException(budgetMillis);
+            }
+            localSearchTimeBudget = Duration.ofMillis(millis);
+        } catch (NumberFormatException exception)
+        {
+            view.printError(ErrorMessages.INVALID_LOCAL_SEARCH_BUDGET + budgetMillis);
+        }
+    }
+
+
+    /**
+     * Prueft, ob der Snapshot des normalisierten Repositories verwendet wird.
+     * <p>
+     * Der Snapshot ist aktiv, solange die System-Property {@link GeneralConstants#SNAPSHOT_PROPERTY} nicht auf
+     * {@code false} gesetzt ist.
+     *
+     * @return true, falls Snapshots gelesen und geschrieben werden.
+     * @precondition keine.
+     * @postcondition keine.
+     */
+    private boolean isSnapshotEnabled ()
+    {
+        return Boolean.parseBoolean(System.getProperty(GeneralConstants.SNAPSHOT_PROPERTY, Boolean.TRUE.toString()));
+    }
+
+
+    /**
+     * Liefert den Pfad des Snapshots.
+     * <p>
+     * Die System-Property {@link GeneralConstants#SNAPSHOT_PATH_PROPERTY} hat Vorrang, sonst liegt der Snapshot
+     * unter {@link GeneralConstants#SNAPSHOT_DIRECTORY} im Benutzerverzeichnis.
+     *
+     * @return Pfad zum Snapshot.
+     * @precondition keine.
+     * @postcondition keine.
+     */
+    private Path getSnapshotPath ()
+    {
+        String snapshotPath = System.getProperty(GeneralConstants.SNAPSHOT_PATH_PROPERTY);
+
+        if (snapshotPath != null)
+        {
+            return Path.of(snapshotPath);
+        }
+        return Path.of(System.getProperty(GeneralConstants.USER_HOME_PROPERTY), GeneralConstants.SNAPSHOT_DIRECTORY,
+                GeneralConstants.SNAPSHOT_FILE_NAME);
+    }
+
+
+    /**
+     * Speichert das normalisierte Repository als Snapshot, falls es in diesem Lauf neu berechnet wurde.
+     * <p>
+     * Ein Fehler beim Schreiben wird gemeldet, der Programmablauf geht aber weiter.
+     *
+     * @precondition Import und Normalisierung sind abgeschlossen.
+     * @postcondition der Snapshot entspricht dem aktuellen Repository oder es wurde ein Fehler ausgegeben.
+     */
+    private void saveSnapshot ()
+    {
+        if (snapshot != null || !isSnapshotEnabled())
+        {
+            return;
+        }
+
+        try
+        {
+            RepositorySnapshot.write(getSnapshotPath(), Path.of(GeneralConstants.PATH_TO_CSV), germanWindFarms,
+                    importState, PerformanceNormalizer.getChangedPerf());
+        } catch (IOException exception)
+        {
+            view.printError(ErrorMessages.ERROR_WRITING_SNAPSHOT + exception.getMessage());
+        }
+    }
+
+
     /**
      * Fuehrt eine Aufgabe aus und misst ihre Laufzeit.
      *
@@ -188,26 +349,42 @@ public final class MainController
     /**
      * Validiert und normalisiert die Koordinaten aller Windparks.
      * <p>
-     * Die Anzahl an geaenderten Koordinaten werden zusammengezaehlt und ausgegeben.
+     * Die Anzahl an geaenderten Koordinaten werden zusammengezaehlt und ausgegeben. Wurde ein Snapshot geladen,
+     * sind die Koordinaten bereits normalisiert und die gespeicherte Anzahl wird ausgegeben. Nach einem
+     * inkrementellen Import werden nur neu erzeugte Windparks normalisiert.
      *
      * @precondition {@link WindFarmRepository} enthaelt einen oder mehrere {@link WindFarm}.
      * @postcondition Alle WindFarm-Objekte enthalten normalisierte Koordinaten.
      */
     private void validateCoordinates ()
     {
+        if (snapshot != null)
+        {
+            normalizedCoordinatesCounter = snapshot.getNormalizedCoordinateCount();
+            view.printMessage(String.format(
+                    ViewConstants.TOTAL_NORMALIZED_COORDINATE_MESSAGE, normalizedCoordinatesCounter));
+            return;
+        }
+
         for (WindFarm windFarm : germanWindFarms.getGermanWindFarms())
         {
+            if (!importState.isReprocessed(windFarm.getId()))
+            {
+                continue;
+            }
+
             Coordinates originalCoordinates = windFarm.getCoordinates();
             windFarm.setCoordinates(
                     CoordinatesNormalizer.normalizeCoordinates(
                             windFarm.getCoordinates().getLatitude(),
                             windFarm.getCoordinates().getLongitude()));
 
-            if (!originalCoordinates.equals(windFarm.getCoordinates()))
-            {
-                normalizedCoordinatesCounter++;
-            }
+            importState.setCoordinatesNormalized(windFarm.getId(),
+                    !originalCoordinates.equals(windFarm.getCoordinates()));
         }
+        normalizedCoordinatesCounter = importState.getNormalizedCoordinateCount();
+
+        germanWindFarms.invalidateDerivedData();
 
         view.printMessage(String.format(
                 ViewConstants.TOTAL_NORMALIZED_COORDINATE_MESSAGE, normalizedCoordinatesCounter));
@@ -217,7 +394,11 @@ public final class MainController
     /**
      * Validiert und normalisiert die Leistungen aller Windparks.
      * <p>
-     * Die Anzahl an geaenderten Leistungen werden zusammengezaehlt und ausgegeben.
+     * Die Anzahl an geaenderten Leistungen werden zusammengezaehlt und ausgegeben. Der Nachbarschaftsgraph wird
+     * unabhaengig von der Anzahl der Windparks als {@link CompactGraph} aufgebaut. Wurde ein Snapshot geladen,
+     * sind Graph und Leistungen bereits gesetzt und die gespeicherten Meldungen werden ausgegeben. Nach einem
+     * inkrementellen Import werden nur die Kanten neuer Windparks gesucht und nur deren Leistungen geprueft; Graph
+     * und Meldungen entsprechen trotzdem einer vollstaendigen Normalisierung.
      *
      * @precondition {@link WindFarmRepository} enthaelt einen oder mehrere {@link WindFarm} und die Leistungswerte
      * der Windparks sind gesetzt.
@@ -226,15 +407,36 @@ public final class MainController
      */
     private void validatePerformance ()
     {
-        germanWindFarms.setWindFarmGraph(GraphFactory.createGraph(germanWindFarms.getGermanWindFarms()));
-
-        for (WindFarm windFarm : germanWindFarms.getGermanWindFarms())
+        if (snapshot != null)
         {
-            PerformanceNormalizer.normalizePerformance(windFarm, germanWindFarms.getWindFarmGraph());
+            printCorrectedPerformance(snapshot.getPerformanceMessages());
+            return;
         }
 
-        List<String> correctedPerformance = PerformanceNormalizer.getChangedPerf();
+        germanWindFarms.setWindFarmIndex(GraphFactory.createIndex(germanWindFarms.getGermanWindFarms()));
 
+        CompactGraph<WindFarm> windFarmGraph = GraphFactory.updateCompactGraph(previousWindFarmGraph,
+                germanWindFarms.getWindFarmIndex());
+        previousWindFarmGraph = null;
+
+        germanWindFarms.setCompactWindFarmGraph(windFarmGraph);
+        PerformanceNormalizer.normalizePerformance(windFarmGraph, importState);
+
+        germanWindFarms.invalidateDerivedData();
+
+        printCorrectedPerformance(PerformanceNormalizer.getChangedPerf());
+    }
+
+
+    /**
+     * Gibt die Anzahl und die Meldungen der korrigierten Leistungen aus.
+     *
+     * @param correctedPerformance Meldungen der Leistungsnormalisierung.
+     * @precondition {@code correctedPerformance} ist nicht null.
+     * @postcondition die Meldungen wurden ueber die {@link ConsoleView} ausgegeben.
+     */
+    private void printCorrectedPerformance (List<String> correctedPerformance)
+    {
         view.printMessage(String.format(ViewConstants.UPDATED_PERFORMANCE_MESSAGE, correctedPerformance.size()));
         for (String message : correctedPerformance)
         {
@@ -327,51 +529,55 @@ public final class MainController
         switch (userChoice)
         {
             case ViewConstants.ID_ASC:
-                sortByAndPrint(new IdComparator());
+                sortByAndPrint(ViewConstants.ID_ASC, new IdComparator(), PrimitiveSortKey.ID, false);
                 break;
             case ViewConstants.ID_DESC:
-                sortByAndPrint(new IdComparator().reversed());
+                sortByAndPrint(ViewConstants.ID_DESC, new IdComparator().reversed(), PrimitiveSortKey.ID, true);
                 break;
             case ViewConstants.TURBINE_AGE_OLD:
-                sortByAndPrint(new OldestTurbineCommissioningComparator());
+                sortByAndPrint(ViewConstants.TURBINE_AGE_OLD, new OldestTurbineCommissioningComparator());
                 break;
             case ViewConstants.TURBINE_AGE_LATE:
-                sortByAndPrint(new LatestTurbineCommissioningComparator());
+                sortByAndPrint(ViewConstants.TURBINE_AGE_LATE, new LatestTurbineCommissioningComparator());
                 break;
             case ViewConstants.LATITUDE_ASC:
-                sortByAndPrint(new LatitudeComparator());
+                sortByAndPrint(ViewConstants.LATITUDE_ASC, new LatitudeComparator(), PrimitiveSortKey.LATITUDE, false);
                 break;
             case ViewConstants.LATITUDE_DESC:
-                sortByAndPrint(new LatitudeComparator().reversed());
+                sortByAndPrint(ViewConstants.LATITUDE_DESC, new LatitudeComparator().reversed(),
+                        PrimitiveSortKey.LATITUDE, true);
                 break;
             case ViewConstants.TURBINE_COUNT:
-                sortByAndPrint(new WindTurbineCountComparator());
+                sortByAndPrint(ViewConstants.TURBINE_COUNT, new WindTurbineCountComparator(),
+                        PrimitiveSortKey.WIND_TURBINE_COUNT, false);
                 break;
             case ViewConstants.MANAGER_COUNT:
-                sortByAndPrint(new ManagerCountComparator());
+                sortByKeyAndPrint(ViewConstants.MANAGER_COUNT, WindFarmSortKey.MANAGER_COUNT_ORDER);
                 break;
             case ViewConstants.PERFORMANCE_ASC:
-                sortByAndPrint(new TotalPerformanceComparator().reversed());
+                sortByAndPrint(ViewConstants.PERFORMANCE_ASC, new TotalPerformanceComparator().reversed(),
+                        PrimitiveSortKey.TOTAL_PERFORMANCE, false);
                 break;
             case ViewConstants.PERFORMANCE_DESC:
-                sortByAndPrint(new TotalPerformanceComparator());
+                sortByAndPrint(ViewConstants.PERFORMANCE_DESC, new TotalPerformanceComparator(),
+                        PrimitiveSortKey.TOTAL_PERFORMANCE, true);
                 break;
             case ViewConstants.NAME_AZ:
-                sortByAndPrint(new WindFarmNameComparator());
+                sortByAndPrint(ViewConstants.NAME_AZ, new WindFarmNameComparator());
                 break;
             case ViewConstants.NAME_ZA:
-                sortByAndPrint(new WindFarmNameComparator().reversed());
+                sortByAndPrint(ViewConstants.NAME_ZA, new WindFarmNameComparator().reversed());
                 break;
             case ViewConstants.AGE_PERFORMANCE:
-                sortByAndPrint(new LatestTurbineCommissioningComparator()
+                sortByAndPrint(ViewConstants.AGE_PERFORMANCE, new LatestTurbineCommissioningComparator()
                         .thenComparing(new TotalPerformanceComparator().reversed()));
                 break;
             case ViewConstants.TURBINE_PERFORMANCE:
-                sortByAndPrint(new WindTurbineCountComparator()
+                sortByAndPrint(ViewConstants.TURBINE_PERFORMANCE, new WindTurbineCountComparator()
                         .thenComparing(new TotalPerformanceComparator().reversed()));
                 break;
             case ViewConstants.TURBINE_MANAGER_COUNT:
-                sortByAndPrint(new WindTurbineCountComparator().thenComparing(new ManagerCountComparator()));
+                sortByKeyAndPrint(ViewConstants.TURBINE_MANAGER_COUNT, WindFarmSortKey.TURBINE_MANAGER_COUNT_ORDER);
                 break;
             case ViewConstants.EXIT_STRING:
                 break;
@@ -386,18 +592,62 @@ public final class MainController
     /**
      * Sortiert die Windparks anhand des uebergebenen Vergleichskriteriums
      * und gibt das Ergebnis anschließend formatiert aus.
+     * <p>
+     * Die Reihenfolge wird als sortierte Sicht im Repository zwischengespeichert, die Liste des Repositories
+     * bleibt unveraendert.
      *
+     * @param viewName   Menueeintrag der Sortierung, dient als Cache-Schluessel.
      * @param comparator das Sortierkriterium, nach dem die Windparks geordnet werden sollen.
      * @precondition der Comparator ist nicht null und das Repository ist initialisiert.
      * @postcondition die Windparks wurden sortiert und tabellarisch ausgegeben.
      */
-    private void sortByAndPrint (Comparator<WindFarm> comparator)
+    private void sortByAndPrint (String viewName, Comparator<WindFarm> comparator)
+    {
+        Timer.startTimer();
+        List<WindFarm> sortedWindFarms = germanWindFarms.getSortedView(viewName, comparator);
+        TableController tableController = TableController.getInstance();
+        view.printMessage(String.format(ViewConstants.TIME_MESSAGE, Timer.getTime()));
+        tableController.printWindFarms(sortedWindFarms);
+    }
+
+    /**
+     * Sortiert die Windparks nach einem Kriterium mit primitivem Schluessel und gibt das Ergebnis formatiert aus.
+     * <p>
+     * Im parallelen Sortiermodus wird die Reihenfolge ueber {@link PackedKeySorter} berechnet.
+     *
+     * @param viewName   Menueeintrag der Sortierung, dient als Cache-Schluessel.
+     * @param comparator das Sortierkriterium fuer den sequenziellen Modus.
+     * @param key        gleichwertiger primitiver Schluessel.
+     * @param descending true, falls {@code comparator} absteigend nach {@code key} sortiert.
+     * @precondition alle Parameter sind nicht null und das Repository ist initialisiert.
+     * @postcondition die Windparks wurden sortiert und tabellarisch ausgegeben.
+     */
+    private void sortByAndPrint (String viewName, Comparator<WindFarm> comparator, PrimitiveSortKey key,
+                                 boolean descending)
     {
         Timer.startTimer();
-        germanWindFarms.getGermanWindFarms().sort(comparator);
+        List<WindFarm> sortedWindFarms = germanWindFarms.getSortedView(viewName, comparator, key, descending);
         TableController tableController = TableController.getInstance();
         view.printMessage(String.format(ViewConstants.TIME_MESSAGE, Timer.getTime()));
-        tableController.printRepository(germanWindFarms);
+        tableController.printWindFarms(sortedWindFarms);
+    }
+
+    /**
+     * Sortiert die Windparks ueber vorberechnete {@link WindFarmSortKey}-Schluessel
+     * und gibt das Ergebnis anschließend formatiert aus.
+     *
+     * @param viewName Menueeintrag der Sortierung, dient als Cache-Schluessel.
+     * @param order    Reihenfolge der Sortierschluessel.
+     * @precondition {@code order} ist nicht null und das Repository ist initialisiert.
+     * @postcondition die Windparks wurden sortiert und tabellarisch ausgegeben, ihr Zustand ist unveraendert.
+     */
+    private void sortByKeyAndPrint (String viewName, Comparator<WindFarmSortKey> order)
+    {
+        Timer.startTimer();
+        List<WindFarm> sortedWindFarms = germanWindFarms.getSortedViewByKey(viewName, order);
+        TableController tableController = TableController.getInstance();
+        view.printMessage(String.format(ViewConstants.TIME_MESSAGE, Timer.getTime()));
+        tableController.printWindFarms(sortedWindFarms);
     }
 
 
@@ -412,6 +662,8 @@ public final class MainController
      *   <li>Ermitteln des Windparks mit der hoechsten Gesamtleistung</li>
      *   <li>Ermitteln des Windparks mit den meisten Windturbinen</li>
      *   <li>Berechnung der Gesamtleistung aller Windparks</li>
+     *   <li>Gesamtleistung, Windparks und Windturbinen pro Landkreis</li>
+     *   <li>Gesamtleistung pro Jahr der juengsten Inbetriebnahme</li>
      * </ul>
      *
      * @precondition die View, das Repository und der TableController sind
@@ -455,12 +707,62 @@ public final class MainController
                         windFarmAnalyzer.calculateTotalPerformanceOfAllWindFarms()));
                 view.printMessage(String.format(ViewConstants.TIME_MESSAGE, Timer.getTime()));
                 break;
+            case ViewConstants.PERFORMANCE_BY_DISTRICT:
+                Timer.startTimer();
+                printPerformanceByDistrict(windFarmAnalyzer);
+                view.printMessage(String.format(ViewConstants.TIME_MESSAGE, Timer.getTime()));
+                break;
+            case ViewConstants.PERFORMANCE_BY_COMMISSIONING_YEAR:
+                Timer.startTimer();
+                printPerformanceByCommissioningYear(windFarmAnalyzer);
+                view.printMessage(String.format(ViewConstants.TIME_MESSAGE, Timer.getTime()));
+                break;
             default:
                 view.printError(ErrorMessages.INVALID_NUMBER);
         }
     }
 
 
+    /**
+     * Gibt Gesamtleistung, Anzahl der Windparks und Anzahl der Windturbinen pro Landkreis aus.
+     *
+     * @param windFarmAnalyzer Analyzer ueber das Repository.
+     * @precondition {@code windFarmAnalyzer} ist nicht null.
+     * @postcondition pro Landkreis mit mindestens einem Windpark wurde eine Zeile ausgegeben.
+     */
+    private void printPerformanceByDistrict (WindFarmAnalyzer windFarmAnalyzer)
+    {
+        Map<Districts, Integer> windFarmCounts = windFarmAnalyzer.countWindFarmsByDistrict();
+        Map<Districts, Integer> windTurbineCounts = windFarmAnalyzer.countWindTurbinesByDistrict();
+
+        view.printMessage(ViewConstants.DISTRICT_PERFORMANCE_HEADER);
+        for (Map.Entry<Districts, Double> entry : windFarmAnalyzer.calculateTotalPerformanceByDistrict().entrySet())
+        {
+            view.printMessage(String.format(ViewConstants.DISTRICT_PERFORMANCE_ROW, entry.getKey(),
+                    windFarmCounts.get(entry.getKey()), windTurbineCounts.get(entry.getKey()), entry.getValue()));
+        }
+    }
+
+
+    /**
+     * Gibt die Gesamtleistung pro Jahr der juengsten Inbetriebnahme aus.
+     *
+     * @param windFarmAnalyzer Analyzer ueber das Repository.
+     * @precondition {@code windFarmAnalyzer} ist nicht null.
+     * @postcondition pro Jahr mit mindestens einem Windpark wurde eine Zeile ausgegeben.
+     */
+    private void printPerformanceByCommissioningYear (WindFarmAnalyzer windFarmAnalyzer)
+    {
+        view.printMessage(ViewConstants.COMMISSIONING_YEAR_PERFORMANCE_HEADER);
+        for (Map.Entry<Year, Double> entry : windFarmAnalyzer.calculateTotalPerformanceByCommissioningYear()
+                .entrySet())
+        {
+            view.printMessage(String.format(ViewConstants.COMMISSIONING_YEAR_PERFORMANCE_ROW, entry.getKey(),
+                    entry.getValue()));
+        }
+    }
+
+
     /**
      * Startet den Prozess zur Erstellung eines Wartungsplans.
      * <p>
@@ -499,6 +801,8 @@ public final class MainController
 
     /**
      * Laesst den Benutzer einen Projektmanager aus einer Liste auswaehlen.
+     * <p>
+     * Zu jedem Projektmanager werden die Anzahl und die Gesamtleistung seiner Windparks angezeigt.
      *
      * @param projectManagers Liste aller verfuegbaren Projektmanager.
      * @return der ausgewaehlte Projektmanager oder null.
@@ -507,12 +811,16 @@ public final class MainController
      */
     private ProjectManager chooseProjectManager (List<ProjectManager> projectManagers)
     {
+        ProjectManagerAdministration projectManagerAdministration = ProjectManagerAdministration.getInstance();
+
         view.printMessage(ViewConstants.CHOICE_PROJECT_MANAGER_MESSAGE);
 
         int index = GeneralConstants.INT_ONE;
         for (ProjectManager projectManager : projectManagers)
         {
-            view.printMessage(String.format(ViewConstants.INDEX_DATA_MESSAGE, index++, projectManager.getCompany()));
+            view.printMessage(String.format(ViewConstants.PROJECT_MANAGER_DATA_MESSAGE, index++,
+                    projectManager.getCompany(), projectManagerAdministration.getWindFarmCount(projectManager),
+                    projectManagerAdministration.getTotalPerformance(projectManager)));
         }
 
         int choice = view.getChoice();
@@ -583,8 +891,8 @@ public final class MainController
      */
     private void createPlan (WindFarm startingWindFarm, List<WindFarm> windFarms)
     {
-        NearestNeighborRoutePlanner nearestNeighborRoutePlanner = new NearestNeighborRoutePlanner();
-        List<WindFarm> route = nearestNeighborRoutePlanner.calculateRoute(windFarms, startingWindFarm);
+        RoutePlanner routePlanner = new LocalSearchRoutePlanner(localSearchTimeBudget);
+        List<WindFarm> route = routePlanner.calculateRoute(windFarms, startingWindFarm);
 
         Schedule schedule = SchedulePlanner.createPlan(route);
 
@@ -10,7 +10,6 @@ import org.elias.view.TablePrinter;
 
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -101,8 +100,20 @@ public class TableController
      */
     public void printRepository (WindFarmRepository repository)
     {
-        List<WindFarm> farms = repository.getGermanWindFarms();
+        printWindFarms(repository.getGermanWindFarms());
+    }
 
+    /**
+     * Gibt die Windparks einer Liste in deren Reihenfolge jeweils als eigene Tabelle aus.
+     * <p>
+     * Ist die Liste leer, wird eine entsprechende Fehlermeldung ausgegeben.
+     *
+     * @param farms die auszugebenden Windparks, z.B. eine sortierte Sicht des Repositories.
+     * @precondition {@code farms} ist nicht null.
+     * @postcondition die Daten wurden an {@code tablePrinter} uebergeben.
+     */
+    public void printWindFarms (List<WindFarm> farms)
+    {
         if (farms.isEmpty())
         {
             tablePrinter.printError(ErrorMessages.NO_WINDFARM);
@@ -447,9 +458,8 @@ public class TableController
      * Erzeugt eine formatierte String-Liste von Windturbinen und ihrer Anzahl in {@link WindTurbineGroup}.
      *
      * <p>
-     * Jeder Windturbinen-Typ wird anhand seines Namens gruppiert und gezaehlt.
-     * Die Rückgabe erfolgt in der Reihenfolge des ersten Auftretens
-     * der Typen (durch Verwendung einer {@link LinkedHashMap}).
+     * Die Anzahlen je Windturbinen-Typ werden direkt aus der Gruppe gelesen.
+     * Die Rückgabe erfolgt in der Reihenfolge des ersten Auftretens der Typen.
      * <p>
      * - Beispiel:
      * <p>
@@ -465,20 +475,12 @@ public class TableController
      */
     private ArrayList<String> turbineTypesToString (WindTurbineGroup group)
     {
-        List<WindTurbineType> turbines = group.getWindTurbines();
-        Map<String, Integer> counts = new LinkedHashMap<>();
-
-        for (WindTurbineType turbine : turbines)
-        {
-            String name = turbine.getModel();
-            counts.put(name, counts.getOrDefault(name, GeneralConstants.INT_ZERO) + GeneralConstants.INT_ONE);
-        }
-
         ArrayList<String> result = new ArrayList<>();
 
-        for (String windTurbine : counts.keySet())
+        for (Map.Entry<WindTurbineType, Integer> windTurbine : group.getWindTurbineCounts().entrySet())
         {
-            result.add(String.format(ViewConstants.WINDTURBINE_FORMAT, windTurbine, counts.get(windTurbine)));
+            result.add(String.format(ViewConstants.WINDTURBINE_FORMAT, windTurbine.getKey().getModel(),
+                    windTurbine.getValue()));
         }
 
         return result;
@@ -1,7 +1,5 @@
 package org.elias.model;
 
-import org.elias.res.constant.GeneralConstants;
-
 import java.util.Objects;
 
 /**
@@ -9,10 +7,13 @@ import java.util.Objects;
  * <p>
  * Die Informationen stammen aus der CSV-Spalte "Projektierer/Betreiber" und werden einer {@link WindFarm}
  * zugeordnet.
+ * <p>
+ * Unveraenderlich; beim Import werden kanonische Instanzen aus der
+ * {@link org.elias.model.service.FlyweightRegistry} geteilt.
  */
 public class ProjectManager implements Comparable<ProjectManager>
 {
-    private String company = GeneralConstants.EMPTY_STRING;
+    private final String company;
 
     /**
      * Erzeugt ein neues {@link ProjectManager}-Objekt.
@@ -31,18 +32,13 @@ public class ProjectManager implements Comparable<ProjectManager>
         this.company = company;
     }
 
-    // --- Getters & Setters ---
+    // --- Getter ---
 
     public String getCompany ()
     {
         return company;
     }
 
-    public void setCompany (String company)
-    {
-        this.company = company;
-    }
-
     /**
      * Vergleicht diesen {@link ProjectManager} mit einem anderen anhand des
      * Unternehmensnamens.
@@ -2,6 +2,7 @@ package org.elias.model;
 
 import org.elias.res.constant.GeneralConstants;
 
+import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -12,6 +13,10 @@ import java.util.Objects;
  */
 public class WindFarm
 {
+    /**
+     * Stabile Kennung, die beim Import vom {@link org.elias.model.service.WindFarmRepository} vergeben wird
+     */
+    private int id = GeneralConstants.UNASSIGNED_ID;
     private String name = GeneralConstants.EMPTY_STRING;
     private float totalPerformance = GeneralConstants.EMPTY_FLOAT_VARIABLE;
     private Coordinates coordinates = null;
@@ -19,6 +24,14 @@ public class WindFarm
     private final List<ProjectManager> projectManagers = new ArrayList<>();
     private final List<WindTurbineGroup> windTurbineGroups = new ArrayList<>();
 
+    /**
+     * Zusammenfassung der Windturbinen-Gruppen, wird bei Bedarf berechnet und bei Aenderungen verworfen
+     */
+    private boolean summaryValid = false;
+    private int windTurbineCount = GeneralConstants.EMPTY_INT_VARIABLE;
+    private Year oldestCommissioningYear = null;
+    private Year latestCommissioningYear = null;
+
 
     /**
      * Erzeugt ein neues {@link WindFarm}-Objekt.
@@ -45,6 +58,16 @@ public class WindFarm
 
     // --- Getters & Setters ---
 
+    public int getId ()
+    {
+        return id;
+    }
+
+    public void setId (int id)
+    {
+        this.id = id;
+    }
+
     public String getName ()
     {
         return name;
@@ -85,6 +108,69 @@ public class WindFarm
         return windTurbineGroups;
     }
 
+    public int getProjectManagerCount ()
+    {
+        return projectManagers.size();
+    }
+
+    // --- Zusammenfassung der Windturbinen-Gruppen ---
+
+    /**
+     * Liefert die Anzahl aller Windturbinen in allen Gruppen.
+     *
+     * @return Anzahl der Windturbinen.
+     * @precondition keine.
+     * @postcondition die Zusammenfassung ist berechnet und zwischengespeichert.
+     */
+    public int getWindTurbineCount ()
+    {
+        ensureSummary();
+        return windTurbineCount;
+    }
+
+    /**
+     * Liefert das aelteste bekannte Inbetriebnahmejahr der Windturbinen-Gruppen.
+     * <p>
+     * Gruppen ohne Jahresangabe ({@code Year.of(0)}) werden ignoriert.
+     *
+     * @return das aelteste Jahr oder {@code Year.of(0)}, falls keine Gruppe ein Jahr besitzt.
+     * @precondition keine.
+     * @postcondition die Zusammenfassung ist berechnet und zwischengespeichert.
+     */
+    public Year getOldestCommissioningYear ()
+    {
+        ensureSummary();
+        return oldestCommissioningYear;
+    }
+
+    /**
+     * Liefert das juengste Inbetriebnahmejahr der Windturbinen-Gruppen.
+     *
+     * @return das juengste Jahr oder {@code Year.of(0)}, falls keine Gruppe vorhanden ist.
+     * @precondition keine.
+     * @postcondition die Zusammenfassung ist berechnet und zwischengespeichert.
+     */
+    public Year getLatestCommissioningYear ()
+    {
+        ensureSummary();
+        return latestCommissioningYear;
+    }
+
+    /**
+     * Verwirft die zwischengespeicherte Zusammenfassung der Windturbinen-Gruppen.
+     * <p>
+     * Wird von den Add-Methoden dieses Windparks aufgerufen. Werden Gruppen direkt ueber
+     * {@link #getWindTurbineGroups()} oder nach dem Hinzufuegen veraendert, muss die Methode selbst
+     * aufgerufen werden.
+     *
+     * @precondition keine.
+     * @postcondition die Zusammenfassung wird beim naechsten Zugriff neu berechnet.
+     */
+    public void invalidateSummary ()
+    {
+        this.summaryValid = false;
+    }
+
     /**
      * Fuegt einen Projektmanager zur Liste der Projektmanager hinzu.
      *
@@ -122,6 +208,7 @@ public class WindFarm
     public void addWindTurbineGroup (WindTurbineGroup windTurbineGroup)
     {
         this.windTurbineGroups.add(windTurbineGroup);
+        invalidateSummary();
     }
 
     /**
@@ -139,6 +226,44 @@ public class WindFarm
         }
     }
 
+    /**
+     * Berechnet Turbinenanzahl und Inbetriebnahmejahre in einem Durchlauf ueber alle Gruppen.
+     *
+     * @precondition keine.
+     * @postcondition die Zusammenfassung ist gueltig.
+     */
+    private void ensureSummary ()
+    {
+        if (summaryValid)
+        {
+            return;
+        }
+
+        int count = GeneralConstants.EMPTY_INT_VARIABLE;
+        Year oldestYear = null;
+        Year latestYear = null;
+
+        for (WindTurbineGroup group : windTurbineGroups)
+        {
+            Year year = group.getManufactureYear();
+            count += group.getWindTurbineCount();
+
+            if ((oldestYear == null || year.isBefore(oldestYear)) && year.getValue() != GeneralConstants.INT_ZERO)
+            {
+                oldestYear = year;
+            }
+            if (latestYear == null || year.isAfter(latestYear))
+            {
+                latestYear = year;
+            }
+        }
+
+        this.windTurbineCount = count;
+        this.oldestCommissioningYear = oldestYear != null ? oldestYear : Year.of(GeneralConstants.INT_ZERO);
+        this.latestCommissioningYear = latestYear != null ? latestYear : Year.of(GeneralConstants.INT_ZERO);
+        this.summaryValid = true;
+    }
+
     /**
      * Vergleicht diesen Windpark mit einem anderen Objekt.
      *
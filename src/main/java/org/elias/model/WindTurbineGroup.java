@@ -3,13 +3,20 @@ package org.elias.model;
 import org.elias.res.constant.GeneralConstants;
 
 import java.time.Year;
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 
 /**
  * Model-Klasse fuer eine Windkraftanlage, die ganze Zeile aus der CSV-Tabelle repraesentiert.
+ * <p>
+ * Die Windturbinen werden als Anzahl pro {@link WindTurbineType} gespeichert, der Speicherbedarf haengt damit
+ * nur von der Anzahl verschiedener Typen ab.
  */
 public class WindTurbineGroup
 {
@@ -18,7 +25,14 @@ public class WindTurbineGroup
     private Location location = null;
     private String remarks = null;
 
-    private final List<WindTurbineType> windTurbines = new ArrayList<>();
+    /**
+     * Verschiedene Windturbinen-Typen in Reihenfolge des ersten Auftretens und ihre Anzahlen,
+     * belegt sind jeweils die ersten windTurbineTypeCount Eintraege
+     */
+    private WindTurbineType[] windTurbineTypes = new WindTurbineType[GeneralConstants.INT_ZERO];
+    private int[] windTurbineTypeCounts = new int[GeneralConstants.INT_ZERO];
+    private int windTurbineTypeCount = GeneralConstants.EMPTY_INT_VARIABLE;
+    private int windTurbineCount = GeneralConstants.EMPTY_INT_VARIABLE;
 
     /**
      * Erzeugt eine neue {@link WindTurbineGroup}.
@@ -87,9 +101,45 @@ public class WindTurbineGroup
         this.remarks = remarks;
     }
 
+    /**
+     * Liefert alle Windturbinen der Gruppe als schreibgeschuetzte Sicht.
+     * <p>
+     * Jeder Typ erscheint so oft, wie Turbinen dieses Typs vorhanden sind; gleiche Typen stehen hintereinander
+     * in Reihenfolge ihres ersten Auftretens. Die Liste wird nicht gespeichert, sondern aus den Anzahlen gelesen
+     * und zeigt daher auch spaeter hinzugefuegte Windturbinen. Aenderungen ueber die Liste sind nicht moeglich
+     * und werfen eine {@link UnsupportedOperationException}; Windturbinen werden ueber
+     * {@link #addWindTurbine(WindTurbineType)} und {@link #addWindTurbines(WindTurbineType, int)} hinzugefuegt.
+     *
+     * @return schreibgeschuetzte Sicht auf alle Windturbinen.
+     * @precondition keine.
+     * @postcondition die Gruppe bleibt unveraendert.
+     */
     public List<WindTurbineType> getWindTurbines ()
     {
-        return windTurbines;
+        return new WindTurbineList();
+    }
+
+    /**
+     * Liefert die Anzahl der Windturbinen je Typ.
+     *
+     * @return neue, unveraenderliche Zuordnung in Reihenfolge des ersten Auftretens der Typen.
+     * @precondition keine.
+     * @postcondition die Gruppe bleibt unveraendert.
+     */
+    public Map<WindTurbineType, Integer> getWindTurbineCounts ()
+    {
+        Map<WindTurbineType, Integer> counts = new LinkedHashMap<>();
+
+        for (int i = 0; i < windTurbineTypeCount; i++)
+        {
+            counts.put(windTurbineTypes[i], windTurbineTypeCounts[i]);
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public int getWindTurbineCount ()
+    {
+        return windTurbineCount;
     }
 
     // --- Add methods ---
@@ -99,11 +149,49 @@ public class WindTurbineGroup
      *
      * @param windTurbineType der hinzuzufuegende {@link WindTurbineType}.
      * @precondition windTurbineType darf nicht null sein.
-     * @postcondition der Windturbinentyp befindet sich in der Liste windTurbines
+     * @postcondition die Anzahl der Windturbinen dieses Typs ist um eins erhoeht.
      */
     public void addWindTurbine (WindTurbineType windTurbineType)
     {
-        this.windTurbines.add(windTurbineType);
+        addWindTurbines(windTurbineType, GeneralConstants.INT_ONE);
+    }
+
+
+    /**
+     * Fuegt mehrere Windturbinen desselben Typs zur Gruppe hinzu.
+     *
+     * @param windTurbineType der Typ der Windturbinen.
+     * @param count           Anzahl der Windturbinen, bei 0 oder weniger passiert nichts.
+     * @precondition windTurbineType darf nicht null sein.
+     * @postcondition die Anzahl der Windturbinen dieses Typs ist um {@code count} erhoeht.
+     */
+    public void addWindTurbines (WindTurbineType windTurbineType, int count)
+    {
+        if (count <= GeneralConstants.INT_ZERO)
+        {
+            return;
+        }
+
+        windTurbineCount += count;
+
+        for (int i = 0; i < windTurbineTypeCount; i++)
+        {
+            if (windTurbineTypes[i].equals(windTurbineType))
+            {
+                windTurbineTypeCounts[i] += count;
+                return;
+            }
+        }
+
+        if (windTurbineTypeCount == windTurbineTypes.length)
+        {
+            int capacity = windTurbineTypeCount + GeneralConstants.INT_ONE;
+            windTurbineTypes = Arrays.copyOf(windTurbineTypes, capacity);
+            windTurbineTypeCounts = Arrays.copyOf(windTurbineTypeCounts, capacity);
+        }
+        windTurbineTypes[windTurbineTypeCount] = windTurbineType;
+        windTurbineTypeCounts[windTurbineTypeCount] = count;
+        windTurbineTypeCount++;
     }
 
 
@@ -112,7 +200,7 @@ public class WindTurbineGroup
      *
      * @param windTurbines die Liste der hinzuzufuegenden {@link WindTurbineType}-Objekte
      * @precondition windTurbines darf nicht null sein; die Liste kann leer sein
-     * @postcondition Alle uebergebenen Windturbinentypen befinden sich in der Liste windTurbines
+     * @postcondition Alle uebergebenen Windturbinentypen sind in den Anzahlen enthalten
      */
     public void addWindTurbines (List<WindTurbineType> windTurbines)
     {
@@ -124,6 +212,9 @@ public class WindTurbineGroup
 
     /**
      * Vergleicht diese Windkraftanlage mit einem anderen Objekt.
+     * <p>
+     * Die Windturbinen gelten als gleich, wenn beide Gruppen dieselben Anzahlen je Typ besitzen; die Reihenfolge
+     * der Typen spielt keine Rolle.
      *
      * @param object das Objekt, das mit dieser diese Windkraftanlage verglichen werden soll.
      * @return boolean-Wert, ob die Objekte gleich sind.
@@ -139,11 +230,14 @@ public class WindTurbineGroup
                 && Objects.equals(manufactureYear, that.manufactureYear)
                 && Objects.equals(location, that.location)
                 && Objects.equals(remarks, that.remarks)
-                && Objects.equals(windTurbines, that.windTurbines);
+                && hasSameWindTurbineCounts(that);
     }
 
     /**
      * Berechnet den Hashcode dieses Objektes.
+     * <p>
+     * Der Anteil der Windturbinen wird wie {@link Map#hashCode()} direkt aus den Arrays berechnet und ist damit
+     * ebenfalls unabhaengig von der Reihenfolge der Typen.
      *
      * @return einen ganzzahligen Hashwert basierend auf den Daten.
      * @precondition die gespeicherten Daten sind nicht null.
@@ -152,6 +246,84 @@ public class WindTurbineGroup
     @Override
     public int hashCode ()
     {
-        return Objects.hash(ID, manufactureYear, location, remarks, windTurbines);
+        int windTurbineCountsHash = GeneralConstants.INT_ZERO;
+
+        for (int i = 0; i < windTurbineTypeCount; i++)
+        {
+            windTurbineCountsHash += Objects.hashCode(windTurbineTypes[i]) ^ windTurbineTypeCounts[i];
+        }
+        return Objects.hash(ID, manufactureYear, location, remarks, windTurbineCountsHash);
+    }
+
+    /**
+     * Prueft, ob eine andere Gruppe dieselben Anzahlen je Windturbinentyp besitzt.
+     *
+     * @param that die andere Gruppe.
+     * @return true, falls jeder Typ in beiden Gruppen mit derselben Anzahl vorkommt.
+     * @precondition {@code that} ist nicht null.
+     * @postcondition beide Gruppen bleiben unveraendert.
+     */
+    private boolean hasSameWindTurbineCounts (WindTurbineGroup that)
+    {
+        if (windTurbineTypeCount != that.windTurbineTypeCount || windTurbineCount != that.windTurbineCount)
+        {
+            return false;
+        }
+
+        for (int i = 0; i < windTurbineTypeCount; i++)
+        {
+            if (that.countOf(windTurbineTypes[i]) != windTurbineTypeCounts[i])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Liefert die Anzahl der Windturbinen eines Typs.
+     *
+     * @param windTurbineType der Typ.
+     * @return Anzahl der Windturbinen dieses Typs, 0 falls er nicht vorkommt.
+     * @precondition keine.
+     * @postcondition die Gruppe bleibt unveraendert.
+     */
+    private int countOf (WindTurbineType windTurbineType)
+    {
+        for (int i = 0; i < windTurbineTypeCount; i++)
+        {
+            if (windTurbineTypes[i].equals(windTurbineType))
+            {
+                return windTurbineTypeCounts[i];
+            }
+        }
+        return GeneralConstants.INT_ZERO;
+    }
+
+    /**
+     * Unveraenderliche Sicht, die jede Windturbine einzeln aus den Anzahlen je Typ liefert.
+     */
+    private final class WindTurbineList extends AbstractList<WindTurbineType>
+    {
+        @Override
+        public WindTurbineType get (int index)
+        {
+            Objects.checkIndex(index, windTurbineCount);
+            int remaining = index;
+            int type = GeneralConstants.INT_ZERO;
+
+            while (remaining >= windTurbineTypeCounts[type])
+            {
+                remaining -= windTurbineTypeCounts[type];
+                type++;
+            }
+            return windTurbineTypes[type];
+        }
+
+        @Override
+        public int size ()
+        {
+            return windTurbineCount;
+        }
     }
 }
@@ -1,15 +1,16 @@
 package org.elias.model;
 
-import org.elias.res.constant.GeneralConstants;
-
 import java.util.Objects;
 
 /**
  * Model-Klasse fuer eine einzelne Windturbine, die Spalte "Typ (WKA)" aus der CSV-Tabelle repraesentiert.
+ * <p>
+ * Unveraenderlich; beim Import werden kanonische Instanzen aus der
+ * {@link org.elias.model.service.FlyweightRegistry} geteilt.
  */
 public class WindTurbineType
 {
-    private String model = GeneralConstants.EMPTY_STRING;
+    private final String model;
 
     /**
      * Erzeugt einen neuen {@link WindTurbineType}.
@@ -25,18 +26,13 @@ public class WindTurbineType
         this.model = model;
     }
 
-    // --- Getters & Setters ---
+    // --- Getter ---
 
     public String getModel ()
     {
         return model;
     }
 
-    public void setModel (String model)
-    {
-        this.model = model;
-    }
-
     /**
      * Vergleicht diese Windturbine mit einem anderen Objekt.
      *
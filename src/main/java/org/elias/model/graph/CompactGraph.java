@@ -0,0 +1,268 @@
+package org.elias.model.graph;
+
+import org.elias.res.constant.ErrorMessages;
+import org.elias.res.constant.GeneralConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Repraesentiert einen unveraenderlichen ungerichteten Graphen in kompakter Form (Compressed Sparse Row).
+ * <p>
+ * Vertices werden ueber ganzzahlige IDs {@code 0..n-1} angesprochen. Die Nachbarn von Vertex {@code v} liegen in
+ * {@code targets[offsets[v]..offsets[v+1])}, die zugehoerigen Gewichte an denselben Positionen in {@code weights}.
+ * Jede ungerichtete Kante ist in beide Richtungen gespeichert, es werden aber keine {@link Vertex}- oder
+ * {@link Edge}-Objekte angelegt. Nachbarn liegen in der Reihenfolge, in der die Kanten hinzugefuegt wurden.
+ * <p>
+ * Fuer kleine oder veraenderliche Graphen steht weiterhin {@link Graph} zur Verfuegung.
+ *
+ * @param <E> Datentyp, der in den Vertices gespeichert wird.
+ */
+public class CompactGraph<E>
+{
+    private final List<E> vertexData;
+    private final int[] offsets;
+    private final int[] targets;
+    private final float[] weights;
+
+    /**
+     * Erstellt den Graphen aus bereits aufgebauten CSR-Arrays.
+     *
+     * @param vertexData Daten der Vertices, Index entspricht der Vertex-ID.
+     * @param offsets    Startpositionen der Nachbarlisten, Laenge {@code vertexData.size() + 1}.
+     * @param targets    Ziel-IDs aller gerichteten Kanten.
+     * @param weights    Gewichte aller gerichteten Kanten.
+     * @precondition die Arrays sind konsistent zueinander; wird nur von {@link Builder} aufgerufen.
+     * @postcondition der Graph ist unveraenderlich.
+     */
+    private CompactGraph (List<E> vertexData, int[] offsets, int[] targets, float[] weights)
+    {
+        this.vertexData = vertexData;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Stellt einen Graphen aus gespeicherten CSR-Arrays wieder her, z.B. aus einem Snapshot.
+     *
+     * @param vertexData Daten der Vertices, Index entspricht der Vertex-ID.
+     * @param offsets    Startpositionen der Nachbarlisten, Laenge {@code vertexData.size() + 1}.
+     * @param targets    Ziel-IDs aller gerichteten Kanten.
+     * @param weights    Gewichte aller gerichteten Kanten.
+     * @param <E>        Datentyp, der in den Vertices gespeichert wird.
+     * @return der wiederhergestellte Graph.
+     * @throws IllegalArgumentException falls die Array-Laengen nicht zueinander passen.
+     * @precondition alle Parameter sind nicht null, die Ziel-IDs liegen in {@code 0..vertexData.size()-1}.
+     * @postcondition der Graph ist unveraenderlich und uebernimmt die Arrays ohne Kopie.
+     */
+    public static <E> CompactGraph<E> restore (List<E> vertexData, int[] offsets, int[] targets, float[] weights)
+    {
+        if (offsets.length != vertexData.size() + GeneralConstants.INT_ONE
+                || targets.length != weights.length
+                || offsets[vertexData.size()] != targets.length)
+        {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_GRAPH_ARRAYS);
+        }
+        return new CompactGraph<>(List.copyOf(vertexData), offsets, targets, weights);
+    }
+
+    // --- Getter ---
+
+    public int getVertexCount ()
+    {
+        return vertexData.size();
+    }
+
+    /**
+     * Liefert die Anzahl der ungerichteten Kanten.
+     *
+     * @return Anzahl der Kanten.
+     * @precondition keine.
+     * @postcondition der Graph bleibt unveraendert.
+     */
+    public int getEdgeCount ()
+    {
+        return targets.length / GeneralConstants.INT_TWO;
+    }
+
+    public E getData (int vertex)
+    {
+        return vertexData.get(vertex);
+    }
+
+    public List<E> getVertexData ()
+    {
+        return vertexData;
+    }
+
+    // --- Nachbarschaft ohne Allokation ---
+
+    /**
+     * Liefert die Position der ersten Kante eines Vertex.
+     *
+     * @param vertex Vertex-ID.
+     * @return Index der ersten ausgehenden Kante fuer {@link #getTarget(int)} und {@link #getWeight(int)}.
+     * @precondition {@code 0 <= vertex < getVertexCount()}.
+     * @postcondition der Graph bleibt unveraendert.
+     */
+    public int getFirstEdge (int vertex)
+    {
+        return offsets[vertex];
+    }
+
+    /**
+     * Liefert die Position hinter der letzten Kante eines Vertex.
+     *
+     * @param vertex Vertex-ID.
+     * @return Index hinter der letzten ausgehenden Kante.
+     * @precondition {@code 0 <= vertex < getVertexCount()}.
+     * @postcondition der Graph bleibt unveraendert.
+     */
+    public int getEdgeEnd (int vertex)
+    {
+        return offsets[vertex + GeneralConstants.INT_ONE];
+    }
+
+    public int getTarget (int edge)
+    {
+        return targets[edge];
+    }
+
+    public float getWeight (int edge)
+    {
+        return weights[edge];
+    }
+
+    public int getDegree (int vertex)
+    {
+        return offsets[vertex + GeneralConstants.INT_ONE] - offsets[vertex];
+    }
+
+    /**
+     * Liefert die Daten aller Nachbarn eines Vertex.
+     * <p>
+     * Komfortmethode, die eine neue Liste erzeugt. Fuer haeufige Abfragen sollten
+     * {@link #getFirstEdge(int)}, {@link #getEdgeEnd(int)} und {@link #getTarget(int)} verwendet werden.
+     *
+     * @param vertex Vertex-ID.
+     * @return Liste der Daten aller benachbarten Vertices.
+     * @precondition {@code 0 <= vertex < getVertexCount()}.
+     * @postcondition der Graph bleibt unveraendert.
+     */
+    public List<E> getNeighbors (int vertex)
+    {
+        List<E> neighbors = new ArrayList<>(getDegree(vertex));
+
+        for (int edge = getFirstEdge(vertex); edge < getEdgeEnd(vertex); edge++)
+        {
+            neighbors.add(vertexData.get(targets[edge]));
+        }
+        return neighbors;
+    }
+
+    /**
+     * Sammelt Kanten und erzeugt daraus einen {@link CompactGraph}.
+     * <p>
+     * Kanten werden zunaechst in wachsenden primitiven Arrays gesammelt und beim Erzeugen des Graphen
+     * stabil nach Start-Vertex einsortiert.
+     *
+     * @param <E> Datentyp, der in den Vertices gespeichert wird.
+     */
+    public static class Builder<E>
+    {
+        private final List<E> vertexData;
+
+        private int[] edgeFrom = new int[GeneralConstants.COMPACT_GRAPH_INITIAL_EDGES];
+        private int[] edgeTo = new int[GeneralConstants.COMPACT_GRAPH_INITIAL_EDGES];
+        private float[] edgeWeights = new float[GeneralConstants.COMPACT_GRAPH_INITIAL_EDGES];
+        private int edgeCount = GeneralConstants.INT_ZERO;
+
+        /**
+         * Erstellt einen Builder fuer die gegebenen Vertices.
+         *
+         * @param vertexData Daten der Vertices, Index entspricht der Vertex-ID.
+         * @precondition {@code vertexData} ist nicht null.
+         * @postcondition der Builder enthaelt noch keine Kanten.
+         */
+        public Builder (List<E> vertexData)
+        {
+            this.vertexData = List.copyOf(vertexData);
+        }
+
+        /**
+         * Fuegt eine ungerichtete Kante zwischen zwei Vertices hinzu.
+         *
+         * @param vertex1 ID des ersten Vertex.
+         * @param vertex2 ID des zweiten Vertex.
+         * @param weight  Gewicht der Kante.
+         * @precondition beide IDs sind gueltig.
+         * @postcondition die Kante ist in beide Richtungen vorgemerkt.
+         */
+        public void addEdge (int vertex1, int vertex2, float weight)
+        {
+            addDirectedEdge(vertex1, vertex2, weight);
+            addDirectedEdge(vertex2, vertex1, weight);
+        }
+
+        /**
+         * Erzeugt den unveraenderlichen Graphen.
+         *
+         * @return der kompakte Graph mit allen vorgemerkten Kanten.
+         * @precondition keine.
+         * @postcondition der Builder kann weiterverwendet werden; der Graph ist davon unabhaengig.
+         */
+        public CompactGraph<E> build ()
+        {
+            int[] offsets = new int[vertexData.size() + GeneralConstants.INT_ONE];
+
+            for (int i = 0; i < edgeCount; i++)
+            {
+                offsets[edgeFrom[i] + GeneralConstants.INT_ONE]++;
+            }
+            for (int vertex = 0; vertex < vertexData.size(); vertex++)
+            {
+                offsets[vertex + GeneralConstants.INT_ONE] += offsets[vertex];
+            }
+
+            int[] insertPositions = Arrays.copyOf(offsets, vertexData.size());
+            int[] targets = new int[edgeCount];
+            float[] weights = new float[edgeCount];
+
+            for (int i = 0; i < edgeCount; i++)
+            {
+                int position = insertPositions[edgeFrom[i]]++;
+                targets[position] = edgeTo[i];
+                weights[position] = edgeWeights[i];
+            }
+
+            return new CompactGraph<>(vertexData, offsets, targets, weights);
+        }
+
+        /**
+         * Merkt eine gerichtete Kante vor und vergroessert die Arrays bei Bedarf.
+         *
+         * @param from   Start-Vertex.
+         * @param to     Ziel-Vertex.
+         * @param weight Gewicht der Kante.
+         * @precondition beide IDs sind gueltig.
+         * @postcondition die Kante ist am Ende der Arrays gespeichert.
+         */
+        private void addDirectedEdge (int from, int to, float weight)
+        {
+            if (edgeCount == edgeFrom.length)
+            {
+                int newLength = Math.max(GeneralConstants.COMPACT_GRAPH_INITIAL_EDGES,
+                        edgeFrom.length * GeneralConstants.INT_TWO);
+                edgeFrom = Arrays.copyOf(edgeFrom, newLength);
+                edgeTo = Arrays.copyOf(edgeTo, newLength);
+                edgeWeights = Arrays.copyOf(edgeWeights, newLength);
+            }
+
+            edgeFrom[edgeCount] = from;
+            edgeTo[edgeCount] = to;
+            edgeWeights[edgeCount++] = weight;
+        }
+    }
+}
@@ -84,7 +84,8 @@ public class Graph<E>
         List<Vertex<E>> neighbors = new ArrayList<>();
         for (Edge<E> edge : adjacencyMap.getOrDefault(vertex, List.of()))
         {
-            neighbors.add(edge.other(vertex));
+            // Kanten in der Liste eines Vertex beginnen immer bei diesem Vertex
+            neighbors.add(edge.getToElement());
         }
         return neighbors;
     }
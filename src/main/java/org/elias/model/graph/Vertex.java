@@ -1,11 +1,10 @@
 package org.elias.model.graph;
 
-import java.util.Objects;
-
 /**
  * Repraesentiert einen Knoten in einer Datenstruktur (in Graphen).
  * <p>
- * Speichert ein Datenelement eines generischen Typs.
+ * Speichert ein Datenelement eines generischen Typs. Zwei Vertices sind gleich, wenn sie dasselbe
+ * Datenobjekt speichern; der Inhalt der Daten wird dabei nicht verglichen oder gehasht.
  *
  * @param <E> der Typ der im Knoten gespeicherten Daten.
  */
@@ -52,7 +51,7 @@ public class Vertex<E>
      * @param object das Objekt, das mit diesem Vertex verglichen werden soll.
      * @return boolean-Wert, ob die Objekte gleich sind.
      * @precondition das uebergebene Objekt ist nicht null.
-     * @postcondition es wird true zurueckgegeben, wenn die Daten gleich sind, sonst false.
+     * @postcondition es wird true zurueckgegeben, wenn beide Vertices dasselbe Datenobjekt speichern, sonst false.
      */
     @Override
     public boolean equals (Object object)
@@ -67,20 +66,20 @@ public class Vertex<E>
         }
         Vertex<?> vertex = (Vertex<?>) object;
 
-        return Objects.equals(getData(), vertex.getData());
+        return getData() == vertex.getData();
     }
 
     /**
      * Berechnet den Hashcode dieses Objektes.
      *
-     * @return einen ganzzahligen Hashwert basierend auf den Daten.
+     * @return einen ganzzahligen Hashwert basierend auf der Identitaet der Daten.
      * @precondition die gespeicherten Daten sind nicht null.
      * @postcondition gleiche Objekte liefern den gleichen Hashwert.
      */
     @Override
     public int hashCode ()
     {
-        return Objects.hash(getData());
+        return System.identityHashCode(getData());
     }
 
 }
@@ -0,0 +1,148 @@
+package org.elias.model.service;
+
+import org.elias.model.Coordinates;
+import org.elias.model.WindFarm;
+import org.elias.res.constant.GeneralConstants;
+import org.elias.util.GeoFormula;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Speichert die Haversine-Distanzen zwischen allen Paaren einer Menge von Windparks.
+ * <p>
+ * Die Windparks werden nach ihrer ID sortiert und ueber ihre Position {@code 0..n-1} angesprochen. Da die
+ * Distanzen symmetrisch sind, wird nur das obere Dreieck ohne Diagonale zeilenweise in einem {@code float[]}
+ * gespeichert. Die Werte entsprechen exakt {@code (float) GeoFormula.haversineDistance(...)}.
+ * <p>
+ * Die Koordinaten werden beim Erstellen festgehalten; mit {@link #matches(List)} laesst sich pruefen, ob die
+ * Matrix noch zu den Windparks passt.
+ */
+public class DistanceMatrix
+{
+    private final WindFarm[] windFarms;
+    private final int[] ids;
+    private final float[] latitudes;
+    private final float[] longitudes;
+    private final float[] distances;
+
+    /**
+     * Berechnet die Distanzmatrix fuer die gegebenen Windparks.
+     *
+     * @param windFarms die Windparks, jeder Windpark hoechstens einmal.
+     * @precondition alle Windparks besitzen eine vergebene, eindeutige ID.
+     * @postcondition die Matrix enthaelt die Distanzen aller Paare.
+     */
+    public DistanceMatrix (List<WindFarm> windFarms)
+    {
+        int size = windFarms.size();
+
+        this.windFarms = windFarms.toArray(new WindFarm[GeneralConstants.INT_ZERO]);
+        Arrays.sort(this.windFarms, Comparator.comparingInt(WindFarm::getId));
+
+        this.ids = new int[size];
+        this.latitudes = new float[size];
+        this.longitudes = new float[size];
+        this.distances = new float[size * (size - GeneralConstants.INT_ONE) / GeneralConstants.INT_TWO];
+
+        for (int i = 0; i < size; i++)
+        {
+            Coordinates coordinates = this.windFarms[i].getCoordinates();
+            ids[i] = this.windFarms[i].getId();
+            latitudes[i] = coordinates.getLatitude();
+            longitudes[i] = coordinates.getLongitude();
+        }
+
+        int position = GeneralConstants.INT_ZERO;
+        for (int i = 0; i < size; i++)
+        {
+            for (int j = i + GeneralConstants.INT_ONE; j < size; j++)
+            {
+                distances[position++] = (float) GeoFormula.haversineDistance(latitudes[i], latitudes[j],
+                        longitudes[i], longitudes[j]);
+            }
+        }
+    }
+
+    // --- Getter ---
+
+    public int size ()
+    {
+        return windFarms.length;
+    }
+
+    public WindFarm getWindFarm (int index)
+    {
+        return windFarms[index];
+    }
+
+    /**
+     * Ermittelt die Position eines Windparks in der Matrix.
+     *
+     * @param windFarm der gesuchte Windpark.
+     * @return Position des Windparks oder {@link GeneralConstants#UNASSIGNED_ID}, falls genau dieses Objekt
+     * nicht in der Matrix enthalten ist.
+     * @precondition {@code windFarm} ist nicht null.
+     * @postcondition die Matrix bleibt unveraendert.
+     */
+    public int indexOf (WindFarm windFarm)
+    {
+        int index = Arrays.binarySearch(ids, windFarm.getId());
+
+        if (index < GeneralConstants.INT_ZERO || windFarms[index] != windFarm)
+        {
+            return GeneralConstants.UNASSIGNED_ID;
+        }
+        return index;
+    }
+
+    /**
+     * Liefert die Distanz zwischen zwei Positionen der Matrix.
+     *
+     * @param index1 erste Position.
+     * @param index2 zweite Position.
+     * @return Distanz in Kilometern, 0 fuer gleiche Positionen.
+     * @precondition beide Positionen liegen in {@code 0..size()-1}.
+     * @postcondition die Matrix bleibt unveraendert.
+     */
+    public float getDistance (int index1, int index2)
+    {
+        if (index1 == index2)
+        {
+            return GeneralConstants.EMPTY_FLOAT_VARIABLE;
+        }
+
+        int row = Math.min(index1, index2);
+        int column = Math.max(index1, index2);
+        // Zeile row beginnt hinter den Zeilen 0..row-1 mit je (size - 1 - r) Eintraegen
+        int rowStart = row * (GeneralConstants.INT_TWO * windFarms.length - row - GeneralConstants.INT_ONE)
+                / GeneralConstants.INT_TWO;
+
+        return distances[rowStart + column - row - GeneralConstants.INT_ONE];
+    }
+
+    /**
+     * Prueft, ob die Matrix fuer die gegebenen Windparks verwendet werden kann.
+     *
+     * @param requestedWindFarms die Windparks einer Anfrage.
+     * @return true, falls jeder Windpark in der Matrix enthalten ist und seine Koordinaten unveraendert sind.
+     * @precondition {@code requestedWindFarms} ist nicht null.
+     * @postcondition die Matrix bleibt unveraendert.
+     */
+    public boolean matches (List<WindFarm> requestedWindFarms)
+    {
+        for (WindFarm windFarm : requestedWindFarms)
+        {
+            int index = indexOf(windFarm);
+
+            if (index == GeneralConstants.UNASSIGNED_ID
+                    || windFarm.getCoordinates().getLatitude() != latitudes[index]
+                    || windFarm.getCoordinates().getLongitude() != longitudes[index])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,197 @@
+package org.elias.model.service;
+
+import org.elias.model.Coordinates;
+import org.elias.model.WindFarm;
+import org.elias.res.constant.GeneralConstants;
+import org.elias.util.GeoFormula;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stellt Distanzen zwischen Windparks fuer Routen- und Wartungsplanung bereit.
+ * <p>
+ * Fuer eine Menge von Windparks wird einmalig eine {@link DistanceMatrix} berechnet und in einem LRU-Cache
+ * abgelegt, dessen Schluessel die sortierten Windpark-IDs sind. Wiederholte Planungen fuer denselben
+ * Projektmanager verwenden dadurch die bereits berechneten Distanzen.
+ * <p>
+ * Folgt dem Singleton-Pattern.
+ */
+public class DistanceService
+{
+    private static DistanceService INSTANCE = null;
+
+    /**
+     * Zuletzt verwendete Distanzmatrizen, aelteste zuerst
+     */
+    private final Map<MatrixKey, DistanceMatrix> matrixCache = new LinkedHashMap<>(
+            GeneralConstants.DISTANCE_MATRIX_CACHE_SIZE, GeneralConstants.DEFAULT_LOAD_FACTOR, true)
+    {
+        @Override
+        protected boolean removeEldestEntry (Map.Entry<MatrixKey, DistanceMatrix> eldest)
+        {
+            return size() > GeneralConstants.DISTANCE_MATRIX_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Privater Konstruktor zur Verhinderung externer Instanziierung.
+     *
+     * @precondition es existiert noch keine Instanz dieser Klasse.
+     * @postcondition ein leerer Distanz-Dienst wurde initialisiert.
+     */
+    private DistanceService ()
+    {
+    }
+
+    /**
+     * Liefert die Singleton-Instanz des {@link DistanceService}.
+     * Falls noch keine Instanz existiert, wird sie erzeugt.
+     *
+     * @return die einzige Instanz des {@code DistanceService}.
+     * @precondition keine.
+     * @postcondition eine gueltige Instanz der Klasse ist verfuegbar.
+     */
+    public static DistanceService getInstance ()
+    {
+        if (INSTANCE == null)
+        {
+            INSTANCE = new DistanceService();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Liefert die Distanzmatrix fuer eine Menge von Windparks.
+     * <p>
+     * Eine zwischengespeicherte Matrix wird nur verwendet, wenn sie genau diese Windpark-Objekte mit
+     * unveraenderten Koordinaten enthaelt; sonst wird sie neu berechnet.
+     *
+     * @param windFarms die Windparks, Duplikate werden ignoriert.
+     * @return die Distanzmatrix oder null, falls die Menge groesser als
+     * {@link GeneralConstants#DISTANCE_MATRIX_MAX_WIND_FARMS} ist oder Windparks keine eindeutige ID besitzen.
+     * @precondition {@code windFarms} ist nicht null.
+     * @postcondition eine neu berechnete Matrix ist im Cache abgelegt.
+     */
+    public DistanceMatrix getDistanceMatrix (List<WindFarm> windFarms)
+    {
+        List<WindFarm> distinctWindFarms = new ArrayList<>(windFarms.size());
+        int[] ids = collectDistinctIds(windFarms, distinctWindFarms);
+
+        if (ids == null || ids.length > GeneralConstants.DISTANCE_MATRIX_MAX_WIND_FARMS)
+        {
+            return null;
+        }
+
+        MatrixKey key = new MatrixKey(ids);
+        DistanceMatrix matrix = matrixCache.get(key);
+
+        if (matrix == null || !matrix.matches(distinctWindFarms))
+        {
+            matrix = new DistanceMatrix(distinctWindFarms);
+            matrixCache.put(key, matrix);
+        }
+        return matrix;
+    }
+
+    /**
+     * Berechnet die Distanz zwischen zwei Windparks, bevorzugt aus einer Distanzmatrix.
+     *
+     * @param matrix Distanzmatrix oder null.
+     * @param from   Start-Windpark.
+     * @param to     Ziel-Windpark.
+     * @return Distanz in Kilometern.
+     * @precondition beide Windparks sind nicht null.
+     * @postcondition keine.
+     */
+    public static double getDistance (DistanceMatrix matrix, WindFarm from, WindFarm to)
+    {
+        if (matrix != null)
+        {
+            int fromIndex = matrix.indexOf(from);
+            int toIndex = matrix.indexOf(to);
+
+            if (fromIndex != GeneralConstants.UNASSIGNED_ID && toIndex != GeneralConstants.UNASSIGNED_ID)
+            {
+                return matrix.getDistance(fromIndex, toIndex);
+            }
+        }
+
+        Coordinates fromCoordinates = from.getCoordinates();
+        Coordinates toCoordinates = to.getCoordinates();
+        return GeoFormula.haversineDistance(fromCoordinates.getLatitude(), toCoordinates.getLatitude(),
+                fromCoordinates.getLongitude(), toCoordinates.getLongitude());
+    }
+
+    /**
+     * Sammelt die sortierten IDs der Windparks und entfernt doppelte Eintraege.
+     *
+     * @param windFarms         die Windparks.
+     * @param distinctWindFarms Ergebnisliste, erhaelt jeden Windpark einmal.
+     * @return aufsteigend sortierte IDs oder null, falls eine ID fehlt oder verschiedene Windparks dieselbe ID haben.
+     * @precondition beide Listen sind nicht null.
+     * @postcondition {@code distinctWindFarms} enthaelt die Windparks ohne Duplikate.
+     */
+    private static int[] collectDistinctIds (List<WindFarm> windFarms, List<WindFarm> distinctWindFarms)
+    {
+        WindFarm[] sorted = windFarms.toArray(new WindFarm[GeneralConstants.INT_ZERO]);
+        Arrays.sort(sorted, Comparator.comparingInt(WindFarm::getId));
+
+        int[] ids = new int[sorted.length];
+        int count = GeneralConstants.INT_ZERO;
+
+        for (WindFarm windFarm : sorted)
+        {
+            if (windFarm.getId() == GeneralConstants.UNASSIGNED_ID)
+            {
+                return null;
+            }
+
+            if (count > GeneralConstants.INT_ZERO && ids[count - GeneralConstants.INT_ONE] == windFarm.getId())
+            {
+                if (distinctWindFarms.get(count - GeneralConstants.INT_ONE) != windFarm)
+                {
+                    return null;
+                }
+                continue;
+            }
+
+            ids[count++] = windFarm.getId();
+            distinctWindFarms.add(windFarm);
+        }
+        return Arrays.copyOf(ids, count);
+    }
+
+    /**
+     * Schluessel des Caches: die sortierten IDs einer Windpark-Menge.
+     */
+    private static final class MatrixKey
+    {
+        private final int[] ids;
+        private final int hashCode;
+
+        MatrixKey (int[] ids)
+        {
+            this.ids = ids;
+            this.hashCode = Arrays.hashCode(ids);
+        }
+
+        @Override
+        public boolean equals (Object object)
+        {
+            if (object == null || getClass() != object.getClass()) return false;
+            MatrixKey that = (MatrixKey) object;
+            return Arrays.equals(ids, that.ids);
+        }
+
+        @Override
+        public int hashCode ()
+        {
+            return hashCode;
+        }
+    }
+}
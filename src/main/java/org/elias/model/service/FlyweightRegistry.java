@@ -0,0 +1,57 @@
+package org.elias.model.service;
+
+import org.elias.model.ProjectManager;
+import org.elias.model.WindTurbineType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Liefert kanonische, gemeinsam genutzte Instanzen fuer {@link ProjectManager} und {@link WindTurbineType}.
+ * <p>
+ * Pro Unternehmensname bzw. Modellbezeichnung existiert genau ein Objekt, das von allen Windparks und
+ * Windturbinen-Gruppen referenziert wird. Gleiche Werte sind damit auch identisch ({@code ==}).
+ * <p>
+ * Die Tabellen sind threadsicher, da {@link WindFarmFactory} beim parallelen Import gleichzeitig aufgerufen wird.
+ */
+public final class FlyweightRegistry
+{
+    private static final Map<String, ProjectManager> PROJECT_MANAGERS = new ConcurrentHashMap<>();
+    private static final Map<String, WindTurbineType> WIND_TURBINE_TYPES = new ConcurrentHashMap<>();
+
+    /**
+     * Privater Konstruktor, die Klasse bietet nur statische Methoden.
+     *
+     * @precondition keine.
+     * @postcondition keine.
+     */
+    private FlyweightRegistry ()
+    {
+    }
+
+    /**
+     * Liefert den kanonischen Projektmanager zu einem Unternehmensnamen.
+     *
+     * @param company der Name des Unternehmens.
+     * @return der beim ersten Aufruf erzeugte Projektmanager fuer diesen Namen.
+     * @precondition {@code company} ist nicht null.
+     * @postcondition der Projektmanager ist registriert.
+     */
+    public static ProjectManager getProjectManager (String company)
+    {
+        return PROJECT_MANAGERS.computeIfAbsent(company, ProjectManager::new);
+    }
+
+    /**
+     * Liefert den kanonischen Windturbinen-Typ zu einer Modellbezeichnung.
+     *
+     * @param model die Modellbezeichnung.
+     * @return der beim ersten Aufruf erzeugte Typ fuer diese Bezeichnung.
+     * @precondition {@code model} ist nicht null.
+     * @postcondition der Typ ist registriert.
+     */
+    public static WindTurbineType getWindTurbineType (String model)
+    {
+        return WIND_TURBINE_TYPES.computeIfAbsent(model, WindTurbineType::new);
+    }
+}
@@ -1,68 +1,244 @@
 package org.elias.model.service;
 
-import org.elias.model.Coordinates;
 import org.elias.model.WindFarm;
-import org.elias.model.graph.Graph;
-import org.elias.model.graph.Vertex;
+import org.elias.model.graph.CompactGraph;
 import org.elias.res.constant.GeneralConstants;
-import org.elias.util.GeoFormula;
+import org.elias.util.SpatialGridIndex;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Fabrikklasse zur Erstellung eines Graphen aus Windparks.
  * <p>
- * Jeder Windpark wird als {@link Vertex} im Graphen dargestellt.
+ * Jeder Windpark wird als Vertex eines {@link CompactGraph} dargestellt, die Vertex-ID ist seine Windpark-ID.
  * Zwei Windparks werden durch eine Kante verbunden, wenn ihr Abstand kleiner
  * als der maximal erlaubte Abstand (20 km) ist.
  */
 public class GraphFactory
 {
     /**
-     * Erstellt einen Graphen aus einer Liste von Windparks.
-     * <p>
-     * Jeder Windpark wird als Knoten eingefuegt. Fuer jedes Windpark-Paar
-     * wird der Abstand berechnet.
+     * Erstellt einen raeumlichen Index fuer Windparks, dessen Zellgroesse auf den maximalen
+     * Windpark-Abstand abgestimmt ist.
      *
      * @param windFarms Liste aller Windparks.
-     * @return ein Graph, der alle Windparks und deren Nachbarn enthaelt.
-     * @precondition {@code windFarms} ist nicht null und enthaelt mindestens einen Windpark.
-     * @postcondition der zurueckgegebene Graph enthaelt alle Windparks als Knoten und
+     * @return der Index ueber die Windparks in Listenreihenfolge.
+     * @precondition {@code windFarms} ist nicht null; die Koordinaten sind bereits normalisiert.
+     * @postcondition der Index enthaelt alle Windparks.
+     */
+    public static SpatialGridIndex<WindFarm> createIndex (List<WindFarm> windFarms)
+    {
+        return new SpatialGridIndex<>(windFarms, WindFarm::getCoordinates,
+                GeneralConstants.MAX_WIND_FARM_DISTANCE_KM);
+    }
+
+    /**
+     * Erstellt einen kompakten Graphen aus einem raeumlichen Index von Windparks.
+     * <p>
+     * Die Vertex-IDs entsprechen den Windpark-IDs ({@link WindFarm#getId()}). Abstaende werden nur zu den
+     * Windparks in den benachbarten Zellen des Index berechnet; weit entfernte Kandidaten verwirft der Index bereits
+     * ueber die Sehnenlaenge.
+     *
+     * @param windFarmIndex Index ueber alle Windparks.
+     * @return ein unveraenderlicher Graph, der alle Windparks und deren Nachbarn enthaelt.
+     * @precondition {@code windFarmIndex} ist nicht null; die Windparks besitzen die IDs {@code 0..n-1},
+     * wie sie von {@link WindFarmRepository#addWindFarm(WindFarm)} vergeben werden.
+     * @postcondition der zurueckgegebene Graph enthaelt alle Windparks als Vertices und
      * Kanten zwischen in der Nahe liegenden Windparks.
      */
-    public static Graph<WindFarm> createGraph (List<WindFarm> windFarms)
+    public static CompactGraph<WindFarm> createCompactGraph (SpatialGridIndex<WindFarm> windFarmIndex)
     {
-        Graph<WindFarm> windFarmGraph = new Graph<>();
+        WindFarm[] windFarmsById = new WindFarm[windFarmIndex.size()];
 
-        for (int i = 0; i < windFarms.size(); i++)
+        for (WindFarm windFarm : windFarmIndex.getElements())
         {
-            WindFarm currentWindFarm = windFarms.get(i);
-            Vertex<WindFarm> currentVertex = new Vertex<>(currentWindFarm);
-            Coordinates currentWindfarmCord = currentWindFarm.getCoordinates();
+            windFarmsById[windFarm.getId()] = windFarm;
+        }
 
-            windFarmGraph.addVertex(currentVertex);
+        CompactGraph.Builder<WindFarm> graphBuilder = new CompactGraph.Builder<>(Arrays.asList(windFarmsById));
+
+        for (int i = 0; i < windFarmIndex.size(); i++)
+        {
+            int currentId = windFarmIndex.getElement(i).getId();
 
-            // Vergleich mit allen folgenden Windparks
-            for (int j = i + GeneralConstants.NEXT_INDEX_OFFSET; j < windFarms.size(); j++)
+            for (int j : windFarmIndex.findIndicesWithinRadius(i, GeneralConstants.MAX_WIND_FARM_DISTANCE_KM))
             {
-                WindFarm compareWindFarm = windFarms.get(j);
-                Vertex<WindFarm> compareVertex = new Vertex<>(compareWindFarm);
-                Coordinates compareWindfarmCord = compareWindFarm.getCoordinates();
+                if (j <= i)
+                {
+                    continue;
+                }
 
-                float distance = (float) GeoFormula.haversineDistance(currentWindfarmCord.getLatitude(),
-                        compareWindfarmCord.getLatitude(),
-                        currentWindfarmCord.getLongitude(),
-                        compareWindfarmCord.getLongitude());
+                graphBuilder.addEdge(currentId, windFarmIndex.getElement(j).getId(), windFarmIndex.getDistance(i, j));
+            }
+        }
 
-                // Falls der Abstand klein ist - Kante legen
-                if (distance < GeneralConstants.MAX_WIND_FARM_DISTANCE_KM)
+        return graphBuilder.build();
+    }
+
+    /**
+     * Aktualisiert einen kompakten Graphen nach einem inkrementellen Import.
+     * <p>
+     * Kanten zwischen Windparks, die in beiden Graphen vorkommen, werden uebernommen; ihre Gewichte werden nur neu
+     * berechnet, wenn sich die Reihenfolge der beiden Windparks geaendert hat. Nur fuer neue Windparks wird der
+     * Index nach Nachbarn durchsucht. Jede Kante wird wie bei {@link #createCompactGraph(SpatialGridIndex)} vom
+     * Windpark mit der kleineren ID aus geprueft und in derselben Reihenfolge eingefuegt, das Ergebnis ist daher
+     * identisch zu einem vollstaendigen Aufbau.
+     *
+     * @param previousGraph Graph des vorherigen Imports oder null.
+     * @param windFarmIndex Index ueber alle aktuellen Windparks.
+     * @return ein unveraenderlicher Graph, der alle aktuellen Windparks und deren Nachbarn enthaelt.
+     * @precondition {@code windFarmIndex} ist nicht null; Position im Index und Windpark-ID stimmen ueberein;
+     * uebernommene Windparks sind dieselben Objekte mit unveraenderten Koordinaten.
+     * @postcondition der vorherige Graph bleibt unveraendert.
+     */
+    public static CompactGraph<WindFarm> updateCompactGraph (CompactGraph<WindFarm> previousGraph,
+                                                             SpatialGridIndex<WindFarm> windFarmIndex)
+    {
+        if (previousGraph == null)
+        {
+            return createCompactGraph(windFarmIndex);
+        }
+
+        int[] currentIds = new int[previousGraph.getVertexCount()];
+        boolean[] retained = new boolean[windFarmIndex.size()];
+
+        for (int previousId = 0; previousId < currentIds.length; previousId++)
+        {
+            int currentId = previousGraph.getData(previousId).getId();
+            boolean isRetained = currentId >= GeneralConstants.INT_ZERO && currentId < windFarmIndex.size()
+                    && windFarmIndex.getElement(currentId) == previousGraph.getData(previousId);
+
+            currentIds[previousId] = isRetained ? currentId : GeneralConstants.UNASSIGNED_ID;
+            if (isRetained)
+            {
+                retained[currentId] = true;
+            }
+        }
+
+        // Pro Windpark die Nachbarn mit groesserer ID und die Gewichte, wie sie createCompactGraph berechnet
+        List<List<Long>> upperNeighbors = new ArrayList<>(windFarmIndex.size());
+        for (int i = 0; i < windFarmIndex.size(); i++)
+        {
+            upperNeighbors.add(new ArrayList<>());
+        }
+
+        addRetainedEdges(previousGraph, windFarmIndex, currentIds, upperNeighbors);
+        addNewEdges(windFarmIndex, retained, upperNeighbors);
+
+        CompactGraph.Builder<WindFarm> graphBuilder = new CompactGraph.Builder<>(windFarmIndex.getElements());
+
+        for (int i = 0; i < upperNeighbors.size(); i++)
+        {
+            // Die Ziel-ID steht in den oberen Bits, die Sortierung ordnet daher nach Ziel-ID
+            upperNeighbors.get(i).sort(null);
+
+            for (long edge : upperNeighbors.get(i))
+            {
+                graphBuilder.addEdge(i, (int) (edge >>> Integer.SIZE), Float.intBitsToFloat((int) edge));
+            }
+        }
+
+        return graphBuilder.build();
+    }
+
+    /**
+     * Uebernimmt die Kanten zwischen Windparks, die in beiden Graphen vorkommen.
+     *
+     * @param previousGraph  Graph des vorherigen Imports.
+     * @param windFarmIndex  Index ueber alle aktuellen Windparks.
+     * @param currentIds     aktuelle ID je vorheriger ID oder {@link GeneralConstants#UNASSIGNED_ID}.
+     * @param upperNeighbors Nachbarn mit groesserer ID und Gewicht je aktueller ID.
+     * @precondition alle Parameter sind nicht null.
+     * @postcondition jede uebernommene Kante ist genau einmal beim Windpark mit der kleineren ID vermerkt.
+     */
+    private static void addRetainedEdges (CompactGraph<WindFarm> previousGraph,
+                                          SpatialGridIndex<WindFarm> windFarmIndex, int[] currentIds,
+                                          List<List<Long>> upperNeighbors)
+    {
+        for (int previousId = 0; previousId < currentIds.length; previousId++)
+        {
+            if (currentIds[previousId] == GeneralConstants.UNASSIGNED_ID)
+            {
+                continue;
+            }
+
+            for (int edge = previousGraph.getFirstEdge(previousId); edge < previousGraph.getEdgeEnd(previousId);
+                 edge++)
+            {
+                int previousTarget = previousGraph.getTarget(edge);
+                int from = currentIds[previousId];
+                int to = currentIds[previousTarget];
+
+                if (previousTarget <= previousId || to == GeneralConstants.UNASSIGNED_ID)
                 {
-                    windFarmGraph.addEdge(currentVertex, compareVertex, distance);
+                    continue;
                 }
+
+                // Die Distanz wird vom Windpark mit der kleineren ID aus berechnet
+                float weight = from < to ? previousGraph.getWeight(edge) : windFarmIndex.getDistance(to, from);
+                upperNeighbors.get(Math.min(from, to)).add(toEdge(Math.max(from, to), weight));
             }
+        }
+    }
 
+    /**
+     * Sucht die Nachbarn aller neuen Windparks im Index.
+     * <p>
+     * Kandidaten liefert {@link SpatialGridIndex#findCandidateIndices(float, float, float)}; geprueft wird jede
+     * Kante wie in {@link #createCompactGraph(SpatialGridIndex)} vom Windpark mit der kleineren ID aus.
+     *
+     * @param windFarmIndex  Index ueber alle aktuellen Windparks.
+     * @param retained       ob der Windpark je aktueller ID aus dem vorherigen Graphen uebernommen wurde.
+     * @param upperNeighbors Nachbarn mit groesserer ID und Gewicht je aktueller ID.
+     * @precondition alle Parameter sind nicht null.
+     * @postcondition jede Kante mit mindestens einem neuen Windpark ist genau einmal vermerkt.
+     */
+    private static void addNewEdges (SpatialGridIndex<WindFarm> windFarmIndex, boolean[] retained,
+                                     List<List<Long>> upperNeighbors)
+    {
+        for (int i = 0; i < windFarmIndex.size(); i++)
+        {
+            if (retained[i])
+            {
+                continue;
+            }
+
+            WindFarm currentWindFarm = windFarmIndex.getElement(i);
+            int[] candidates = windFarmIndex.findCandidateIndices(currentWindFarm.getCoordinates().getLatitude(),
+                    currentWindFarm.getCoordinates().getLongitude(), GeneralConstants.MAX_WIND_FARM_DISTANCE_KM);
+
+            for (int j : candidates)
+            {
+                // Paare aus zwei neuen Windparks werden nur vom kleineren aus betrachtet
+                if (j == i || (j < i && !retained[j]))
+                {
+                    continue;
+                }
+
+                int from = Math.min(i, j);
+                int to = Math.max(i, j);
+                float distance = windFarmIndex.getDistance(from, to);
+
+                if (distance < GeneralConstants.MAX_WIND_FARM_DISTANCE_KM)
+                {
+                    upperNeighbors.get(from).add(toEdge(to, distance));
+                }
+            }
         }
+    }
 
-        return windFarmGraph;
+    /**
+     * Fasst Ziel-ID und Gewicht einer Kante zusammen.
+     *
+     * @param target Ziel-ID.
+     * @param weight Gewicht der Kante.
+     * @return Ziel-ID in den oberen, Bits des Gewichts in den unteren 32 Bit.
+     * @precondition {@code target >= 0}.
+     * @postcondition keine.
+     */
+    private static long toEdge (int target, float weight)
+    {
+        return (long) target << Integer.SIZE | Integer.toUnsignedLong(Float.floatToRawIntBits(weight));
     }
 }
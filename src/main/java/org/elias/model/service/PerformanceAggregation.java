@@ -0,0 +1,271 @@
+package org.elias.model.service;
+
+import org.elias.model.ProjectManager;
+import org.elias.res.Districts;
+import org.elias.res.constant.GeneralConstants;
+import org.elias.util.CompensatedSum;
+
+import java.io.Serial;
+import java.time.Year;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Gesamtleistungen der Windparks eines {@link WindFarmColumnStore}, insgesamt und gruppiert.
+ * <p>
+ * Alle Summen entstehen in einem einzigen Durchlauf ueber die Spalten. Summiert wird in {@code double} mit
+ * {@link CompensatedSum}; grosse Spaltenspeicher werden als Fork/Join-Reduktion ueber Positionsbereiche
+ * berechnet. Die Bereiche werden immer gleich geteilt und in fester Reihenfolge zusammengefuehrt, das
+ * Ergebnis ist daher unabhaengig von der Anzahl der Threads.
+ * <p>
+ * Gruppiert wird nach dem Landkreis der ersten Windturbinen-Gruppe, nach jedem Projektleiter eines Windparks
+ * und nach dem Jahr der juengsten Inbetriebnahme. Pro Landkreis werden zusaetzlich Windparks und Windturbinen
+ * gezaehlt. Windparks ohne Landkreis bzw. ohne bekanntes Jahr fehlen in der jeweiligen Gruppierung, sind in der
+ * Gesamtleistung aber enthalten.
+ */
+public final class PerformanceAggregation
+{
+    private final double totalPerformance;
+    private final Map<Districts, Double> totalPerformanceByDistrict;
+    private final Map<Districts, Integer> windFarmCountByDistrict;
+    private final Map<Districts, Integer> windTurbineCountByDistrict;
+    private final Map<ProjectManager, Double> totalPerformanceByProjectManager;
+    private final Map<Year, Double> totalPerformanceByCommissioningYear;
+
+    /**
+     * Uebernimmt die berechneten Summen.
+     *
+     * @param columnStore die summierten Spalten.
+     * @param partial     Summen ueber alle Positionen.
+     * @precondition beide Parameter sind nicht null.
+     * @postcondition alle Gruppierungen sind als unveraenderliche Maps gespeichert.
+     */
+    private PerformanceAggregation (WindFarmColumnStore columnStore, PartialAggregation partial)
+    {
+        Map<Districts, Double> byDistrict = new EnumMap<>(Districts.class);
+        Map<Districts, Integer> windFarmCounts = new EnumMap<>(Districts.class);
+        Map<Districts, Integer> windTurbineCounts = new EnumMap<>(Districts.class);
+        Map<ProjectManager, Double> byProjectManager = new LinkedHashMap<>();
+        Map<Year, Double> byCommissioningYear = new TreeMap<>();
+
+        for (Districts district : Districts.values())
+        {
+            if (partial.byDistrict.getCount(district.ordinal()) > GeneralConstants.INT_ZERO)
+            {
+                byDistrict.put(district, partial.byDistrict.getSum(district.ordinal()));
+                windFarmCounts.put(district, partial.byDistrict.getCount(district.ordinal()));
+                windTurbineCounts.put(district, partial.windTurbineCountsByDistrict[district.ordinal()]);
+            }
+        }
+
+        for (int managerId = 0; managerId < partial.byProjectManager.size(); managerId++)
+        {
+            byProjectManager.put(columnStore.getProjectManager(managerId), partial.byProjectManager.getSum(managerId));
+        }
+
+        for (int yearIndex = 0; yearIndex < partial.byCommissioningYear.size(); yearIndex++)
+        {
+            if (partial.byCommissioningYear.getCount(yearIndex) > GeneralConstants.INT_ZERO)
+            {
+                byCommissioningYear.put(Year.of(columnStore.getMinCommissioningYear() + yearIndex),
+                        partial.byCommissioningYear.getSum(yearIndex));
+            }
+        }
+
+        this.totalPerformance = partial.total.getSum(GeneralConstants.INT_ZERO);
+        this.totalPerformanceByDistrict = Collections.unmodifiableMap(byDistrict);
+        this.windFarmCountByDistrict = Collections.unmodifiableMap(windFarmCounts);
+        this.windTurbineCountByDistrict = Collections.unmodifiableMap(windTurbineCounts);
+        this.totalPerformanceByProjectManager = Collections.unmodifiableMap(byProjectManager);
+        this.totalPerformanceByCommissioningYear = Collections.unmodifiableMap(byCommissioningYear);
+    }
+
+    /**
+     * Summiert die Leistungen aller Windparks eines Spaltenspeichers.
+     *
+     * @param columnStore die Spalten der Windparks.
+     * @return Gesamtleistung und gruppierte Leistungen.
+     * @precondition {@code columnStore} ist nicht null.
+     * @postcondition der Spaltenspeicher bleibt unveraendert.
+     */
+    public static PerformanceAggregation aggregate (WindFarmColumnStore columnStore)
+    {
+        PartialAggregation partial = ForkJoinPool.commonPool().invoke(
+                new AggregationTask(columnStore, GeneralConstants.INT_ZERO, columnStore.size()));
+        return new PerformanceAggregation(columnStore, partial);
+    }
+
+    // --- Getter ---
+
+    public double getTotalPerformance ()
+    {
+        return totalPerformance;
+    }
+
+    public Map<Districts, Double> getTotalPerformanceByDistrict ()
+    {
+        return totalPerformanceByDistrict;
+    }
+
+    public Map<Districts, Integer> getWindFarmCountByDistrict ()
+    {
+        return windFarmCountByDistrict;
+    }
+
+    public Map<Districts, Integer> getWindTurbineCountByDistrict ()
+    {
+        return windTurbineCountByDistrict;
+    }
+
+    public Map<ProjectManager, Double> getTotalPerformanceByProjectManager ()
+    {
+        return totalPerformanceByProjectManager;
+    }
+
+    public Map<Year, Double> getTotalPerformanceByCommissioningYear ()
+    {
+        return totalPerformanceByCommissioningYear;
+    }
+
+    /**
+     * Teilsummen ueber einen Positionsbereich, eine {@link CompensatedSum} pro Gruppierung und die Anzahl der
+     * Windturbinen pro Landkreis.
+     */
+    private static final class PartialAggregation
+    {
+        private final CompensatedSum total = new CompensatedSum(GeneralConstants.INT_ONE);
+        private final CompensatedSum byDistrict = new CompensatedSum(Districts.values().length);
+        private final int[] windTurbineCountsByDistrict = new int[Districts.values().length];
+        private final CompensatedSum byProjectManager;
+        private final CompensatedSum byCommissioningYear;
+
+        /**
+         * Erstellt leere Teilsummen passend zu den Woerterbuechern des Spaltenspeichers.
+         *
+         * @param columnStore die Spalten der Windparks.
+         * @precondition {@code columnStore} ist nicht null.
+         * @postcondition alle Summen sind 0.
+         */
+        PartialAggregation (WindFarmColumnStore columnStore)
+        {
+            int yearCount = columnStore.getMinCommissioningYear() == GeneralConstants.EMPTY_INT_VARIABLE
+                    ? GeneralConstants.INT_ZERO
+                    : columnStore.getMaxCommissioningYear() - columnStore.getMinCommissioningYear()
+                    + GeneralConstants.INT_ONE;
+
+            this.byProjectManager = new CompensatedSum(columnStore.getProjectManagerCount());
+            this.byCommissioningYear = new CompensatedSum(yearCount);
+        }
+
+        /**
+         * Fuehrt die Teilsummen eines nachfolgenden Bereichs hinzu.
+         *
+         * @param other Teilsummen des Bereichs.
+         * @precondition {@code other} gehoert zum selben Spaltenspeicher.
+         * @postcondition alle Gruppierungen enthalten die Summen von {@code other}.
+         */
+        void addAll (PartialAggregation other)
+        {
+            total.addAll(other.total);
+            byDistrict.addAll(other.byDistrict);
+            for (int districtId = 0; districtId < windTurbineCountsByDistrict.length; districtId++)
+            {
+                windTurbineCountsByDistrict[districtId] += other.windTurbineCountsByDistrict[districtId];
+            }
+            byProjectManager.addAll(other.byProjectManager);
+            byCommissioningYear.addAll(other.byCommissioningYear);
+        }
+    }
+
+    /**
+     * Fork/Join-Aufgabe, die die Teilsummen fuer den Positionsbereich {@code [from, to)} berechnet.
+     */
+    private static class AggregationTask extends RecursiveTask<PartialAggregation>
+    {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Die Aufgabe wird nie serialisiert; transient nur, weil ForkJoinTask Serializable implementiert
+        private final transient WindFarmColumnStore columnStore;
+        private final int from;
+        private final int to;
+
+        /**
+         * Erstellt eine Aufgabe fuer den Bereich {@code [from, to)}.
+         *
+         * @param columnStore die Spalten der Windparks.
+         * @param from        erste Position (inklusive).
+         * @param to          letzte Position (exklusive).
+         * @precondition {@code 0 <= from <= to <= columnStore.size()}.
+         * @postcondition die Aufgabe ist bereit zur Ausfuehrung.
+         */
+        AggregationTask (WindFarmColumnStore columnStore, int from, int to)
+        {
+            this.columnStore = columnStore;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected PartialAggregation compute ()
+        {
+            if (to - from <= GeneralConstants.PARALLEL_AGGREGATION_THRESHOLD)
+            {
+                return aggregateRange();
+            }
+
+            int middle = (from + to) >>> GeneralConstants.INT_ONE;
+            AggregationTask left = new AggregationTask(columnStore, from, middle);
+            AggregationTask right = new AggregationTask(columnStore, middle, to);
+            invokeAll(left, right);
+
+            PartialAggregation partial = left.join();
+            partial.addAll(right.join());
+            return partial;
+        }
+
+        /**
+         * Summiert den Bereich sequenziell.
+         *
+         * @return Teilsummen des Bereichs.
+         * @precondition keine.
+         * @postcondition der Spaltenspeicher bleibt unveraendert.
+         */
+        private PartialAggregation aggregateRange ()
+        {
+            PartialAggregation partial = new PartialAggregation(columnStore);
+
+            for (int position = from; position < to; position++)
+            {
+                double performance = columnStore.getTotalPerformance(position);
+                int districtId = columnStore.getDistrictId(position);
+                int year = columnStore.getLatestCommissioningYear(position);
+
+                partial.total.add(GeneralConstants.INT_ZERO, performance);
+
+                if (districtId != GeneralConstants.UNASSIGNED_ID)
+                {
+                    partial.byDistrict.add(districtId, performance);
+                    partial.windTurbineCountsByDistrict[districtId] += columnStore.getWindTurbineCount(position);
+                }
+
+                for (int index = columnStore.getManagerStart(position); index < columnStore.getManagerEnd(position);
+                     index++)
+                {
+                    partial.byProjectManager.add(columnStore.getManagerId(index), performance);
+                }
+
+                if (year != GeneralConstants.EMPTY_INT_VARIABLE)
+                {
+                    partial.byCommissioningYear.add(year - columnStore.getMinCommissioningYear(), performance);
+                }
+            }
+            return partial;
+        }
+    }
+}
@@ -1,13 +1,24 @@
 package org.elias.model.service;
 
 import org.elias.model.ProjectManager;
+import org.elias.model.WindFarm;
+import org.elias.res.constant.GeneralConstants;
+import org.elias.util.CompensatedSum;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * Verwaltet alle {@link ProjectManager} waehrend der Programmausfuehrung.
  * <p>
+ * Zu jedem Projektmanager werden die von ihm betreuten Windparks in Einfuegereihenfolge gespeichert, sodass
+ * Abfragen pro Projektmanager nur die Treffer statt aller Windparks durchlaufen. Projektmanager, die nur an
+ * abgelehnten Windparks eingetragen sind, werden ohne Windparks gefuehrt.
+ * <p>
  * Diese Klasse folgt dem Singleton-Muster, sodass genau eine zentrale
  * Verwaltung aller Projektmanager existiert.
  */
@@ -17,7 +28,10 @@ public class ProjectManagerAdministration
      * Singleton-Instanz der Klasse
      */
     private static ProjectManagerAdministration INSTANCE = null;
-    private final Set<ProjectManager> projectManagerList = new HashSet<>();
+    /**
+     * Betreute Windparks je Projektmanager, jeder Windpark hoechstens einmal pro Projektmanager
+     */
+    private final Map<ProjectManager, List<WindFarm>> windFarmsByProjectManager = new HashMap<>();
 
 
     /**
@@ -52,23 +66,100 @@ public class ProjectManagerAdministration
 
     public Set<ProjectManager> getProjectManagerList ()
     {
-        return projectManagerList;
+        return windFarmsByProjectManager.keySet();
+    }
+
+
+    /**
+     * Liefert die Windparks eines Projektmanagers.
+     *
+     * @param projectManager der Projektmanager.
+     * @return unveraenderliche Liste der Windparks in Einfuegereihenfolge, leer fuer unbekannte Projektmanager.
+     * @precondition {@code projectManager} ist nicht null.
+     * @postcondition die Verwaltung bleibt unveraendert.
+     */
+    public List<WindFarm> getWindFarms (ProjectManager projectManager)
+    {
+        List<WindFarm> windFarms = windFarmsByProjectManager.get(projectManager);
+
+        return windFarms == null ? Collections.emptyList() : Collections.unmodifiableList(windFarms);
+    }
+
+
+    /**
+     * Liefert die Anzahl der Windparks eines Projektmanagers.
+     *
+     * @param projectManager der Projektmanager.
+     * @return Anzahl der betreuten Windparks, 0 fuer unbekannte Projektmanager.
+     * @precondition {@code projectManager} ist nicht null.
+     * @postcondition die Verwaltung bleibt unveraendert.
+     */
+    public int getWindFarmCount (ProjectManager projectManager)
+    {
+        return getWindFarms(projectManager).size();
+    }
+
+
+    /**
+     * Berechnet die Gesamtleistung aller Windparks eines Projektmanagers.
+     * <p>
+     * Die Summe wird bei jedem Aufruf aus den aktuellen Leistungen gebildet, damit spaetere Korrekturen
+     * durch den {@link org.elias.util.PerformanceNormalizer} beruecksichtigt werden. Summiert wird fehlerkompensiert
+     * in {@code double} ueber eine {@link CompensatedSum}.
+     *
+     * @param projectManager der Projektmanager.
+     * @return Summe der Gesamtleistungen, 0 fuer unbekannte Projektmanager.
+     * @precondition {@code projectManager} ist nicht null.
+     * @postcondition die Verwaltung bleibt unveraendert.
+     */
+    public double getTotalPerformance (ProjectManager projectManager)
+    {
+        CompensatedSum totalPerformance = new CompensatedSum(GeneralConstants.INT_ONE);
+
+        for (WindFarm windFarm : getWindFarms(projectManager))
+        {
+            totalPerformance.add(GeneralConstants.INT_ZERO, windFarm.getTotalPerformance());
+        }
+        return totalPerformance.getSum(GeneralConstants.INT_ZERO);
+    }
+
+
+    /**
+     * Registriert einen Windpark bei allen seinen Projektmanagern.
+     * <p>
+     * Unbekannte Projektmanager werden dabei in die Verwaltung aufgenommen. Ist ein Projektmanager mehrfach
+     * am Windpark eingetragen, wird der Windpark nur einmal zugeordnet.
+     *
+     * @param windFarm der zu registrierende Windpark.
+     * @precondition {@code windFarm} ist nicht null und wurde noch nicht registriert.
+     * @postcondition der Windpark ist jedem seiner Projektmanager zugeordnet.
+     */
+    public void addWindFarm (WindFarm windFarm)
+    {
+        for (ProjectManager projectManager : windFarm.getProjectManagers())
+        {
+            List<WindFarm> windFarms = windFarmsByProjectManager.computeIfAbsent(projectManager,
+                    manager -> new ArrayList<>());
+
+            if (windFarms.isEmpty() || windFarms.getLast() != windFarm)
+            {
+                windFarms.add(windFarm);
+            }
+        }
     }
 
 
     /**
-     * Fuegt einen neuen Projektmanager zur Verwaltung hinzu.
+     * Nimmt einen Projektmanager in die Verwaltung auf, ohne ihm einen Windpark zuzuordnen.
      * <p>
-     * Da ein Set verwendet wird, werden doppelte Projektmanager automatisch ignoriert.
+     * Wird fuer Projektmanager abgelehnter Windparks benutzt; bereits bekannte Projektmanager bleiben unveraendert.
      *
      * @param projectManager der hinzuzufuegende Projektmanager.
      * @precondition {@code projectManager} ist nicht null.
-     * @postcondition der Projektmanager ist in der Verwaltung enthalten,
-     * wenn er vorher noch nicht existiert hat.
+     * @postcondition der Projektmanager ist in der Verwaltung enthalten.
      */
     public void addProjectManager (ProjectManager projectManager)
     {
-        projectManagerList.add(projectManager);
+        windFarmsByProjectManager.computeIfAbsent(projectManager, manager -> new ArrayList<>());
     }
-
 }
@@ -0,0 +1,781 @@
+package org.elias.model.service;
+
+import org.elias.model.Coordinates;
+import org.elias.model.Location;
+import org.elias.model.ProjectManager;
+import org.elias.model.WindFarm;
+import org.elias.model.WindTurbineGroup;
+import org.elias.model.WindTurbineType;
+import org.elias.model.graph.CompactGraph;
+import org.elias.res.Districts;
+import org.elias.res.constant.ErrorMessages;
+import org.elias.res.constant.GeneralConstants;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Binaerer Snapshot eines vollstaendig normalisierten {@link WindFarmRepository}.
+ * <p>
+ * Gespeichert werden die Windparks mit normalisierten Koordinaten und Leistungen, die fehlerhaften CSV-Zeilen,
+ * die Projektmanager ohne Windpark, der Nachbarschaftsgraph sowie die Meldungen der Normalisierung. Beim
+ * naechsten Start ersetzt das Laden des Snapshots Import, Normalisierung und Graphaufbau, solange Groesse,
+ * Aenderungszeit und CRC32-Pruefsumme der CSV-Datei unveraendert sind. Hat sich die CSV-Datei geaendert, dient der Snapshot als vorheriger Stand fuer
+ * einen inkrementellen Import; dazu sind pro Windpark der {@link WindFarmImportState} und der Graph gespeichert.
+ * <p>
+ * Aufbau der Datei (Big-Endian): Kennung, Formatversion, Groesse, Aenderungszeit und Pruefsumme der CSV-Datei,
+ * Laenge und Pruefsumme der Nutzdaten, danach die Nutzdaten. Projektmanager und Windturbinen-Typen stehen
+ * einmal in Woerterbuechern und werden ueber ihre Position referenziert, der Graph liegt in CSR-Form vor.
+ * Geschrieben wird in eine temporaere Datei, die anschliessend atomar umbenannt wird.
+ */
+public final class RepositorySnapshot
+{
+    /**
+     * Landkreise nach {@link Districts#ordinal()}, einmalig kopiert statt pro Gruppe ueber {@code values()}
+     */
+    private static final Districts[] DISTRICTS = Districts.values();
+
+    private final long csvSize;
+    private final long csvLastModified;
+    private final long csvChecksum;
+
+    private final List<String> performanceMessages;
+
+    private final List<WindFarm> windFarms;
+    private final long[] blockHashes;
+    private final float[] rawPerformances;
+    private final boolean[] normalizedCoordinates;
+    private final Map<String[], String> invalidRows;
+    private final List<ProjectManager> projectManagersWithoutWindFarm;
+
+    private final byte graphKind;
+    private final int[] graphVertexIds;
+    private final int[] graphOffsets;
+    private final int[] graphTargets;
+    private final float[] graphWeights;
+
+    /**
+     * Liest die Nutzdaten eines Snapshots vollstaendig ein, ohne das Repository zu veraendern.
+     *
+     * @param csvSize         Groesse der CSV-Datei, aus der der Snapshot erstellt wurde.
+     * @param csvLastModified Aenderungszeit der CSV-Datei in Millisekunden.
+     * @param csvChecksum     CRC32-Pruefsumme der CSV-Datei.
+     * @param payload         die Nutzdaten als Heap-Puffer, Position am Anfang.
+     * @throws IllegalStateException falls die Nutzdaten nicht zum Format passen.
+     * @precondition die Pruefsumme der Nutzdaten wurde bereits geprueft.
+     * @postcondition alle Windparks, fehlerhaften Zeilen, Projektmanager ohne Windpark und Graphdaten sind
+     * eingelesen.
+     */
+    private RepositorySnapshot (long csvSize, long csvLastModified, long csvChecksum, ByteBuffer payload)
+    {
+        this.csvSize = csvSize;
+        this.csvLastModified = csvLastModified;
+        this.csvChecksum = csvChecksum;
+
+        int messageCount = readCount(payload);
+        List<String> messages = new ArrayList<>(messageCount);
+        for (int i = 0; i < messageCount; i++)
+        {
+            messages.add(readString(payload));
+        }
+        this.performanceMessages = Collections.unmodifiableList(messages);
+
+        ProjectManager[] projectManagers = new ProjectManager[readCount(payload)];
+        for (int i = 0; i < projectManagers.length; i++)
+        {
+            projectManagers[i] = FlyweightRegistry.getProjectManager(readString(payload));
+        }
+
+        WindTurbineType[] windTurbineTypes = new WindTurbineType[readCount(payload)];
+        for (int i = 0; i < windTurbineTypes.length; i++)
+        {
+            windTurbineTypes[i] = FlyweightRegistry.getWindTurbineType(readString(payload));
+        }
+
+        int windFarmCount = readCount(payload);
+        this.windFarms = new ArrayList<>(windFarmCount);
+        this.blockHashes = new long[windFarmCount];
+        this.rawPerformances = new float[windFarmCount];
+        this.normalizedCoordinates = new boolean[windFarmCount];
+        for (int i = 0; i < windFarmCount; i++)
+        {
+            windFarms.add(readWindFarm(payload, projectManagers, windTurbineTypes));
+            blockHashes[i] = payload.getLong();
+            rawPerformances[i] = payload.getFloat();
+            normalizedCoordinates[i] = payload.get() != GeneralConstants.INT_ZERO;
+        }
+
+        int invalidRowCount = readCount(payload);
+        this.invalidRows = new LinkedHashMap<>();
+        for (int i = 0; i < invalidRowCount; i++)
+        {
+            String[] row = new String[readCount(payload)];
+            for (int cell = 0; cell < row.length; cell++)
+            {
+                row[cell] = readString(payload);
+            }
+            invalidRows.put(row, readString(payload));
+        }
+
+        int unassignedProjectManagerCount = readCount(payload);
+        this.projectManagersWithoutWindFarm = new ArrayList<>(unassignedProjectManagerCount);
+        for (int i = 0; i < unassignedProjectManagerCount; i++)
+        {
+            projectManagersWithoutWindFarm.add(FlyweightRegistry.getProjectManager(readString(payload)));
+        }
+
+        this.graphKind = payload.get();
+        if (graphKind == GeneralConstants.SNAPSHOT_NO_GRAPH)
+        {
+            this.graphVertexIds = null;
+            this.graphOffsets = null;
+            this.graphTargets = null;
+            this.graphWeights = null;
+        } else if (graphKind == GeneralConstants.SNAPSHOT_COMPACT_GRAPH)
+        {
+            this.graphVertexIds = readIds(payload, readCount(payload), windFarmCount);
+            this.graphOffsets = readOffsets(payload, graphVertexIds.length);
+            this.graphTargets = readIds(payload, graphOffsets[graphVertexIds.length], graphVertexIds.length);
+            this.graphWeights = new float[graphTargets.length];
+            payload.asFloatBuffer().get(graphWeights);
+            payload.position(payload.position() + graphWeights.length * Float.BYTES);
+        } else
+        {
+            throw new IllegalStateException(ErrorMessages.INVALID_SNAPSHOT);
+        }
+
+        if (payload.hasRemaining())
+        {
+            throw new IllegalStateException(ErrorMessages.INVALID_SNAPSHOT);
+        }
+    }
+
+    // --- Getter ---
+
+    public List<String> getPerformanceMessages ()
+    {
+        return performanceMessages;
+    }
+
+    /**
+     * Zaehlt die Windparks, deren Koordinaten bei der Normalisierung geaendert wurden.
+     *
+     * @return Anzahl der geaenderten Koordinaten.
+     * @precondition keine.
+     * @postcondition der Snapshot bleibt unveraendert.
+     */
+    public int getNormalizedCoordinateCount ()
+    {
+        int count = GeneralConstants.INT_ZERO;
+
+        for (boolean normalized : normalizedCoordinates)
+        {
+            count += normalized ? GeneralConstants.INT_ONE : GeneralConstants.INT_ZERO;
+        }
+        return count;
+    }
+
+    /**
+     * Liefert den gespeicherten Stand als vorherigen Import fuer
+     * {@link WindFarmImporter#importMappedIncremental(String, WindFarmRepository, WindFarmImportState)}.
+     *
+     * @return der Stand ueber die Windparks des Snapshots, kein Windpark gilt als neu erzeugt.
+     * @precondition der Snapshot wurde nicht mit {@link #restore(WindFarmRepository)} uebernommen.
+     * @postcondition der Stand teilt die Windpark-Objekte mit dem Snapshot.
+     */
+    public WindFarmImportState getImportState ()
+    {
+        return new WindFarmImportState(Collections.unmodifiableList(windFarms), blockHashes, rawPerformances,
+                normalizedCoordinates, new boolean[windFarms.size()], GeneralConstants.INT_ZERO);
+    }
+
+    /**
+     * Liefert den gespeicherten Graphen als kompakten Graphen ueber die Windparks des Snapshots.
+     * <p>
+     * Beide Graphformen liegen in CSR-Form vor; die Vertex-IDs entsprechen der gespeicherten Reihenfolge.
+     *
+     * @return der Graph oder null, falls kein Graph gespeichert ist.
+     * @precondition keine.
+     * @postcondition der Graph teilt die Windpark-Objekte mit {@link #getImportState()}.
+     */
+    public CompactGraph<WindFarm> getWindFarmGraph ()
+    {
+        return graphKind == GeneralConstants.SNAPSHOT_NO_GRAPH
+                ? null
+                : CompactGraph.restore(getGraphVertexData(), graphOffsets, graphTargets, graphWeights);
+    }
+
+    /**
+     * Liest einen Snapshot vollstaendig ein, ohne ihn mit der CSV-Datei abzugleichen.
+     * <p>
+     * Geprueft werden Kennung, Formatversion, Laenge und Pruefsumme der Nutzdaten.
+     *
+     * @param snapshotPath Pfad zum Snapshot.
+     * @return der eingelesene Snapshot oder null, falls er fehlt, veraltet oder beschaedigt ist.
+     * @precondition keine.
+     * @postcondition Repository und {@link ProjectManagerAdministration} bleiben unveraendert.
+     */
+    public static RepositorySnapshot load (Path snapshotPath)
+    {
+        if (!Files.isRegularFile(snapshotPath))
+        {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ))
+        {
+            if (channel.size() < GeneralConstants.SNAPSHOT_HEADER_BYTES)
+            {
+                return null;
+            }
+
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, GeneralConstants.INT_ZERO,
+                    GeneralConstants.SNAPSHOT_HEADER_BYTES);
+
+            if (header.getInt() != GeneralConstants.SNAPSHOT_MAGIC
+                    || header.getInt() != GeneralConstants.SNAPSHOT_VERSION)
+            {
+                return null;
+            }
+
+            long csvSize = header.getLong();
+            long csvLastModified = header.getLong();
+            long csvChecksum = header.getLong();
+            int payloadLength = header.getInt();
+            long payloadChecksum = header.getLong();
+            if (channel.size() != (long) GeneralConstants.SNAPSHOT_HEADER_BYTES + payloadLength)
+            {
+                return null;
+            }
+
+            byte[] payloadBytes = new byte[payloadLength];
+            channel.map(FileChannel.MapMode.READ_ONLY, GeneralConstants.SNAPSHOT_HEADER_BYTES, payloadLength)
+                    .get(payloadBytes);
+            CRC32 crc = new CRC32();
+            crc.update(payloadBytes);
+            if (crc.getValue() != payloadChecksum)
+            {
+                return null;
+            }
+
+            return new RepositorySnapshot(csvSize, csvLastModified, csvChecksum, ByteBuffer.wrap(payloadBytes));
+        } catch (IOException | RuntimeException exception)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Prueft, ob der Snapshot aus der aktuellen CSV-Datei erstellt wurde.
+     *
+     * @param csvPath Pfad zur CSV-Datei.
+     * @return true, falls Groesse, Aenderungszeit und Pruefsumme der CSV-Datei unveraendert sind.
+     * @precondition keine.
+     * @postcondition die CSV-Datei bleibt unveraendert.
+     */
+    public boolean matches (Path csvPath)
+    {
+        try
+        {
+            return Files.isRegularFile(csvPath)
+                    && Files.size(csvPath) == csvSize
+                    && Files.getLastModifiedTime(csvPath).toMillis() == csvLastModified
+                    && checksum(csvPath) == csvChecksum;
+        } catch (IOException exception)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Schreibt den Snapshot eines normalisierten Repositories.
+     *
+     * @param snapshotPath        Pfad zum Snapshot, fehlende Verzeichnisse werden angelegt.
+     * @param csvPath             Pfad zur CSV-Datei, aus der das Repository importiert wurde.
+     * @param repository          das normalisierte Repository.
+     * @param importState         Stand des Imports, aus dem das Repository befuellt wurde.
+     * @param performanceMessages Meldungen der Leistungsnormalisierung.
+     * @throws IOException falls der Snapshot nicht geschrieben werden kann.
+     * @precondition Import, Normalisierung und Graphaufbau sind abgeschlossen.
+     * @postcondition der Snapshot ersetzt einen vorhandenen Snapshot vollstaendig oder gar nicht.
+     */
+    public static void write (Path snapshotPath, Path csvPath, WindFarmRepository repository,
+                              WindFarmImportState importState, List<String> performanceMessages) throws IOException
+    {
+        ByteBuffer payload = ByteBuffer.wrap(createPayload(repository, importState, performanceMessages));
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+
+        ByteBuffer header = ByteBuffer.allocate(GeneralConstants.SNAPSHOT_HEADER_BYTES);
+        header.putInt(GeneralConstants.SNAPSHOT_MAGIC)
+                .putInt(GeneralConstants.SNAPSHOT_VERSION)
+                .putLong(Files.size(csvPath))
+                .putLong(Files.getLastModifiedTime(csvPath).toMillis())
+                .putLong(checksum(csvPath))
+                .putInt(payload.remaining())
+                .putLong(crc.getValue())
+                .flip();
+
+        Path absolutePath = snapshotPath.toAbsolutePath();
+        Path temporaryPath = absolutePath.resolveSibling(absolutePath.getFileName()
+                + GeneralConstants.SNAPSHOT_TEMP_SUFFIX);
+        Files.createDirectories(absolutePath.getParent());
+
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            ByteBuffer[] buffers = {header, payload};
+            while (payload.hasRemaining())
+            {
+                channel.write(buffers);
+            }
+            channel.force(false);
+        }
+
+        Files.move(temporaryPath, absolutePath, StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Uebernimmt die eingelesenen Daten in das Repository.
+     *
+     * @param repository das zu befuellende Repository.
+     * @precondition {@code repository} enthaelt noch keine Windparks, {@link #matches(Path)} ist erfuellt.
+     * @postcondition Windparks, fehlerhafte Zeilen, raeumlicher Index und Graph sind gesetzt, alle Projektmanager
+     * sind in der {@link ProjectManagerAdministration} registriert.
+     */
+    public void restore (WindFarmRepository repository)
+    {
+        for (WindFarm windFarm : windFarms)
+        {
+            ProjectManagerAdministration.getInstance().addWindFarm(windFarm);
+            repository.addWindFarm(windFarm);
+        }
+
+        for (Map.Entry<String[], String> invalidRow : invalidRows.entrySet())
+        {
+            repository.addInvalidRow(invalidRow.getKey(), invalidRow.getValue());
+        }
+        for (ProjectManager projectManager : projectManagersWithoutWindFarm)
+        {
+            ProjectManagerAdministration.getInstance().addProjectManager(projectManager);
+        }
+
+        repository.setWindFarmIndex(GraphFactory.createIndex(windFarms));
+
+        if (graphKind == GeneralConstants.SNAPSHOT_NO_GRAPH)
+        {
+            return;
+        }
+
+        repository.setCompactWindFarmGraph(getWindFarmGraph());
+    }
+
+    /**
+     * Ordnet die Windparks den Vertices in der gespeicherten Reihenfolge zu.
+     *
+     * @return Windparks in Reihenfolge der Vertices.
+     * @precondition ein Graph wurde eingelesen.
+     * @postcondition der Snapshot bleibt unveraendert.
+     */
+    private List<WindFarm> getGraphVertexData ()
+    {
+        List<WindFarm> vertexData = new ArrayList<>(graphVertexIds.length);
+
+        for (int vertexId : graphVertexIds)
+        {
+            vertexData.add(windFarms.get(vertexId));
+        }
+        return vertexData;
+    }
+
+    /**
+     * Liest einen Windpark mit Projektmanagern und Windturbinen-Gruppen.
+     *
+     * @param payload          die Nutzdaten.
+     * @param projectManagers  Woerterbuch der Projektmanager.
+     * @param windTurbineTypes Woerterbuch der Windturbinen-Typen.
+     * @return der Windpark ohne ID.
+     * @precondition die Position steht am Anfang eines Windparks.
+     * @postcondition die Position steht hinter dem Windpark.
+     */
+    private static WindFarm readWindFarm (ByteBuffer payload, ProjectManager[] projectManagers,
+                                          WindTurbineType[] windTurbineTypes)
+    {
+        String name = readString(payload);
+        float totalPerformance = payload.getFloat();
+        float latitude = payload.getFloat();
+        float longitude = payload.getFloat();
+        WindFarm windFarm = new WindFarm(name, totalPerformance, new Coordinates(latitude, longitude));
+
+        int projectManagerCount = readCount(payload);
+        for (int i = 0; i < projectManagerCount; i++)
+        {
+            windFarm.addProjectManager(projectManagers[payload.getInt()]);
+        }
+
+        int groupCount = readCount(payload);
+        for (int i = 0; i < groupCount; i++)
+        {
+            int id = payload.getInt();
+            Year manufactureYear = Year.of(payload.getInt());
+            String town = readString(payload);
+            int districtId = payload.getInt();
+            Districts district = districtId == GeneralConstants.UNASSIGNED_ID ? null : DISTRICTS[districtId];
+            String remarks = readString(payload);
+
+            WindTurbineGroup group = new WindTurbineGroup(id, manufactureYear, new Location(town, district), remarks);
+
+            int typeCount = readCount(payload);
+            for (int type = 0; type < typeCount; type++)
+            {
+                group.addWindTurbines(windTurbineTypes[payload.getInt()], payload.getInt());
+            }
+            windFarm.addWindTurbineGroup(group);
+        }
+        return windFarm;
+    }
+
+    /**
+     * Serialisiert das Repository in die Nutzdaten des Snapshots.
+     *
+     * @param repository          das normalisierte Repository.
+     * @param importState         Stand des Imports je Windpark.
+     * @param performanceMessages Meldungen der Leistungsnormalisierung.
+     * @return die Nutzdaten.
+     * @throws IOException wird von {@link DataOutputStream} deklariert, tritt im Speicher nicht auf.
+     * @precondition die Windpark-IDs entsprechen den Positionen im Repository und im Stand des Imports.
+     * @postcondition das Repository bleibt unveraendert.
+     */
+    private static byte[] createPayload (WindFarmRepository repository, WindFarmImportState importState,
+                                         List<String> performanceMessages) throws IOException
+    {
+        List<WindFarm> windFarms = repository.getGermanWindFarms();
+        Map<ProjectManager, Integer> projectManagerIds = new LinkedHashMap<>();
+        Map<WindTurbineType, Integer> windTurbineTypeIds = new LinkedHashMap<>();
+
+        for (WindFarm windFarm : windFarms)
+        {
+            for (ProjectManager projectManager : windFarm.getProjectManagers())
+            {
+                projectManagerIds.putIfAbsent(projectManager, projectManagerIds.size());
+            }
+            for (WindTurbineGroup group : windFarm.getWindTurbineGroups())
+            {
+                for (WindTurbineType windTurbineType : group.getWindTurbineCounts().keySet())
+                {
+                    windTurbineTypeIds.putIfAbsent(windTurbineType, windTurbineTypeIds.size());
+                }
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+
+        output.writeInt(performanceMessages.size());
+        for (String message : performanceMessages)
+        {
+            writeString(output, message);
+        }
+
+        output.writeInt(projectManagerIds.size());
+        for (ProjectManager projectManager : projectManagerIds.keySet())
+        {
+            writeString(output, projectManager.getCompany());
+        }
+        output.writeInt(windTurbineTypeIds.size());
+        for (WindTurbineType windTurbineType : windTurbineTypeIds.keySet())
+        {
+            writeString(output, windTurbineType.getModel());
+        }
+
+        output.writeInt(windFarms.size());
+        for (WindFarm windFarm : windFarms)
+        {
+            writeWindFarm(output, windFarm, projectManagerIds, windTurbineTypeIds);
+            output.writeLong(importState.getBlockHash(windFarm.getId()));
+            output.writeFloat(importState.getRawPerformance(windFarm.getId()));
+            output.writeBoolean(importState.isCoordinatesNormalized(windFarm.getId()));
+        }
+
+        output.writeInt(repository.getInvalidRows().size());
+        for (Map.Entry<String[], String> invalidRow : repository.getInvalidRows().entrySet())
+        {
+            output.writeInt(invalidRow.getKey().length);
+            for (String cell : invalidRow.getKey())
+            {
+                writeString(output, cell);
+            }
+            writeString(output, invalidRow.getValue());
+        }
+
+        // Projektmanager, die nur an abgelehnten Windparks eingetragen sind
+        List<ProjectManager> projectManagersWithoutWindFarm = new ArrayList<>();
+        for (ProjectManager projectManager : ProjectManagerAdministration.getInstance().getProjectManagerList())
+        {
+            if (ProjectManagerAdministration.getInstance().getWindFarms(projectManager).isEmpty())
+            {
+                projectManagersWithoutWindFarm.add(projectManager);
+            }
+        }
+        output.writeInt(projectManagersWithoutWindFarm.size());
+        for (ProjectManager projectManager : projectManagersWithoutWindFarm)
+        {
+            writeString(output, projectManager.getCompany());
+        }
+
+        writeGraph(output, repository);
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Schreibt einen Windpark mit Projektmanagern und Windturbinen-Gruppen.
+     *
+     * @param output             Ziel der Nutzdaten.
+     * @param windFarm           der Windpark.
+     * @param projectManagerIds  Positionen der Projektmanager im Woerterbuch.
+     * @param windTurbineTypeIds Positionen der Windturbinen-Typen im Woerterbuch.
+     * @throws IOException falls nicht geschrieben werden kann.
+     * @precondition alle Projektmanager und Typen des Windparks sind in den Woerterbuechern enthalten.
+     * @postcondition der Windpark bleibt unveraendert.
+     */
+    private static void writeWindFarm (DataOutputStream output, WindFarm windFarm,
+                                       Map<ProjectManager, Integer> projectManagerIds,
+                                       Map<WindTurbineType, Integer> windTurbineTypeIds) throws IOException
+    {
+        writeString(output, windFarm.getName());
+        output.writeFloat(windFarm.getTotalPerformance());
+        output.writeFloat(windFarm.getCoordinates().getLatitude());
+        output.writeFloat(windFarm.getCoordinates().getLongitude());
+
+        output.writeInt(windFarm.getProjectManagerCount());
+        for (ProjectManager projectManager : windFarm.getProjectManagers())
+        {
+            output.writeInt(projectManagerIds.get(projectManager));
+        }
+
+        output.writeInt(windFarm.getWindTurbineGroups().size());
+        for (WindTurbineGroup group : windFarm.getWindTurbineGroups())
+        {
+            Districts district = group.getLocation().getDistrict();
+            Map<WindTurbineType, Integer> windTurbineCounts = group.getWindTurbineCounts();
+
+            output.writeInt(group.getID());
+            output.writeInt(group.getManufactureYear().getValue());
+            writeString(output, group.getLocation().getTown());
+            output.writeInt(district == null ? GeneralConstants.UNASSIGNED_ID : district.ordinal());
+            writeString(output, group.getRemarks());
+
+            output.writeInt(windTurbineCounts.size());
+            for (Map.Entry<WindTurbineType, Integer> windTurbineCount : windTurbineCounts.entrySet())
+            {
+                output.writeInt(windTurbineTypeIds.get(windTurbineCount.getKey()));
+                output.writeInt(windTurbineCount.getValue());
+            }
+        }
+    }
+
+    /**
+     * Schreibt den Nachbarschaftsgraphen des Repositories in CSR-Form.
+     * <p>
+     * Vertices und Kanten werden in der Reihenfolge des {@link CompactGraph} abgelegt, damit die Nachbarlisten
+     * nach dem Laden identisch sind.
+     *
+     * @param output     Ziel der Nutzdaten.
+     * @param repository das Repository, eventuell ohne Graphen.
+     * @throws IOException falls nicht geschrieben werden kann.
+     * @precondition die Windpark-IDs entsprechen den Positionen im Repository.
+     * @postcondition der Graph bleibt unveraendert.
+     */
+    private static void writeGraph (DataOutputStream output, WindFarmRepository repository) throws IOException
+    {
+        CompactGraph<WindFarm> compactGraph = repository.getCompactWindFarmGraph();
+
+        if (compactGraph != null)
+        {
+            output.writeByte(GeneralConstants.SNAPSHOT_COMPACT_GRAPH);
+            output.writeInt(compactGraph.getVertexCount());
+            for (WindFarm windFarm : compactGraph.getVertexData())
+            {
+                output.writeInt(windFarm.getId());
+            }
+            for (int vertex = 0; vertex < compactGraph.getVertexCount(); vertex++)
+            {
+                output.writeInt(compactGraph.getEdgeEnd(vertex));
+            }
+            int directedEdgeCount = compactGraph.getEdgeCount() * GeneralConstants.INT_TWO;
+            for (int edge = 0; edge < directedEdgeCount; edge++)
+            {
+                output.writeInt(compactGraph.getTarget(edge));
+            }
+            for (int edge = 0; edge < directedEdgeCount; edge++)
+            {
+                output.writeFloat(compactGraph.getWeight(edge));
+            }
+        } else
+        {
+            output.writeByte(GeneralConstants.SNAPSHOT_NO_GRAPH);
+        }
+    }
+
+    /**
+     * Berechnet die CRC32-Pruefsumme einer Datei ueber eine speichergemappte Sicht.
+     *
+     * @param path Pfad zur Datei.
+     * @return die Pruefsumme.
+     * @throws IOException falls die Datei nicht gelesen werden kann.
+     * @precondition die Datei existiert.
+     * @postcondition die Datei bleibt unveraendert.
+     */
+    private static long checksum (Path path) throws IOException
+    {
+        CRC32 crc = new CRC32();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            crc.update(channel.map(FileChannel.MapMode.READ_ONLY, GeneralConstants.INT_ZERO, channel.size()));
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Schreibt eine Zeichenkette als UTF-8 mit vorangestellter Laenge, null als Laenge -1.
+     *
+     * @param output Ziel der Nutzdaten.
+     * @param value  die Zeichenkette oder null.
+     * @throws IOException falls nicht geschrieben werden kann.
+     * @precondition keine.
+     * @postcondition keine.
+     */
+    private static void writeString (DataOutputStream output, String value) throws IOException
+    {
+        if (value == null)
+        {
+            output.writeInt(GeneralConstants.SNAPSHOT_NULL_LENGTH);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Liest eine mit {@link #writeString(DataOutputStream, String)} geschriebene Zeichenkette.
+     *
+     * @param payload die Nutzdaten.
+     * @return die Zeichenkette oder null.
+     * @throws IllegalStateException falls die Laenge ungueltig ist.
+     * @precondition die Position steht am Anfang einer Zeichenkette, der Puffer liegt auf einem Array.
+     * @postcondition die Position steht hinter der Zeichenkette.
+     */
+    private static String readString (ByteBuffer payload)
+    {
+        int length = payload.getInt();
+
+        if (length == GeneralConstants.SNAPSHOT_NULL_LENGTH)
+        {
+            return null;
+        }
+        if (length < GeneralConstants.INT_ZERO || length > payload.remaining())
+        {
+            throw new IllegalStateException(ErrorMessages.INVALID_SNAPSHOT);
+        }
+
+        String value = new String(payload.array(), payload.position(), length, StandardCharsets.UTF_8);
+        payload.position(payload.position() + length);
+        return value;
+    }
+
+    /**
+     * Liest eine Anzahl und prueft, dass sie nicht negativ ist und die Nutzdaten dafuer ausreichen koennen.
+     *
+     * @param payload die Nutzdaten.
+     * @return die Anzahl.
+     * @throws IllegalStateException falls die Anzahl ungueltig ist.
+     * @precondition die Position steht vor einer Anzahl.
+     * @postcondition die Position steht hinter der Anzahl.
+     */
+    private static int readCount (ByteBuffer payload)
+    {
+        int count = payload.getInt();
+
+        if (count < GeneralConstants.INT_ZERO || count > payload.remaining())
+        {
+            throw new IllegalStateException(ErrorMessages.INVALID_SNAPSHOT);
+        }
+        return count;
+    }
+
+    /**
+     * Liest IDs als Block und prueft, dass sie im Bereich {@code 0..bound-1} liegen.
+     *
+     * @param payload die Nutzdaten.
+     * @param count   Anzahl der IDs.
+     * @param bound   obere Grenze (exklusive).
+     * @return die IDs.
+     * @throws IllegalStateException falls eine ID ausserhalb des Bereichs liegt.
+     * @precondition {@code count} ist nicht negativ.
+     * @postcondition die Position steht hinter den IDs.
+     */
+    private static int[] readIds (ByteBuffer payload, int count, int bound)
+    {
+        int[] ids = new int[count];
+        payload.asIntBuffer().get(ids);
+        payload.position(payload.position() + count * Integer.BYTES);
+
+        for (int id : ids)
+        {
+            if (id < GeneralConstants.INT_ZERO || id >= bound)
+            {
+                throw new IllegalStateException(ErrorMessages.INVALID_SNAPSHOT);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Liest die Endpositionen der Nachbarlisten und ergaenzt sie zu CSR-Offsets.
+     *
+     * @param payload     die Nutzdaten.
+     * @param vertexCount Anzahl der Vertices.
+     * @return Offsets der Laenge {@code vertexCount + 1}, beginnend mit 0.
+     * @throws IllegalStateException falls die Positionen nicht aufsteigend sind.
+     * @precondition {@code vertexCount} ist nicht negativ.
+     * @postcondition die Position steht hinter den Endpositionen.
+     */
+    private static int[] readOffsets (ByteBuffer payload, int vertexCount)
+    {
+        int[] offsets = new int[vertexCount + GeneralConstants.INT_ONE];
+
+        for (int vertex = 0; vertex < vertexCount; vertex++)
+        {
+            offsets[vertex + GeneralConstants.INT_ONE] = payload.getInt();
+            if (offsets[vertex + GeneralConstants.INT_ONE] < offsets[vertex])
+            {
+                throw new IllegalStateException(ErrorMessages.INVALID_SNAPSHOT);
+            }
+        }
+        if (offsets[vertexCount] > payload.remaining())
+        {
+            throw new IllegalStateException(ErrorMessages.INVALID_SNAPSHOT);
+        }
+        return offsets;
+    }
+}
@@ -2,7 +2,6 @@ package org.elias.model.service;
 
 import org.elias.model.*;
 import org.elias.res.constant.GeneralConstants;
-import org.elias.util.GeoFormula;
 
 import java.time.Duration;
 import java.util.LinkedList;
@@ -34,6 +33,7 @@ public class SchedulePlanner
     public static Schedule createPlan (List<WindFarm> windFarmsToMaintain)
     {
         List<WorkDay> workDays = new LinkedList<>();
+        DistanceMatrix matrix = DistanceService.getInstance().getDistanceMatrix(windFarmsToMaintain);
         int dayNumber = GeneralConstants.INT_ONE;
 
         for (int farmIndex = 0; farmIndex < windFarmsToMaintain.size(); farmIndex++)
@@ -65,7 +65,7 @@ public class SchedulePlanner
             {
 
                 WindFarm nextFarm = windFarmsToMaintain.get(farmIndex + GeneralConstants.INT_ONE);
-                Duration remainingDriveTime = calculateDriveTime(currentFarm, nextFarm);
+                Duration remainingDriveTime = calculateDriveTime(matrix, currentFarm, nextFarm);
 
                 // Fahrt am letzten Wartungstag
                 WorkDay lastWorkDay = workDays.getLast();
@@ -128,6 +128,7 @@ public class SchedulePlanner
     /**
      * Berechnet die benoetigte Fahrzeit zwischen zwei Windparks.
      *
+     * @param matrix Distanzmatrix der geplanten Windparks oder null.
      * @param from Start-Windpark.
      * @param to   Ziel-Windpark.
      * @return Fahrzeit als {@link Duration}.
@@ -135,15 +136,10 @@ public class SchedulePlanner
      * @postcondition die zurueckgegebene Dauer repraesentiert die benoetigte Fahrzeit
      * basierend auf einer durchschnittlichen Geschwindigkeit.
      */
-    private static Duration calculateDriveTime (WindFarm from, WindFarm to)
+    private static Duration calculateDriveTime (DistanceMatrix matrix, WindFarm from, WindFarm to)
     {
 
-        double distanceKm = GeoFormula.haversineDistance(
-                from.getCoordinates().getLatitude(),
-                to.getCoordinates().getLatitude(),
-                from.getCoordinates().getLongitude(),
-                to.getCoordinates().getLongitude()
-        );
+        double distanceKm = DistanceService.getDistance(matrix, from, to);
 
         double hours = distanceKm / GeneralConstants.AVERAGE_SPEED_KMH;
         long minutes = Math.round(hours * GeneralConstants.MINUTES_PER_HOUR);
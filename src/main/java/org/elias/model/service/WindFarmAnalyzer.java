@@ -2,18 +2,18 @@ package org.elias.model.service;
 
 import org.elias.model.ProjectManager;
 import org.elias.model.WindFarm;
-import org.elias.model.sort.LatitudeComparator;
-import org.elias.model.sort.TotalPerformanceComparator;
-import org.elias.model.sort.WindTurbineCountComparator;
-import org.elias.res.constant.GeneralConstants;
+import org.elias.res.Districts;
 
+import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Bietet Analysefunktionen fuer Windparks eines {@link WindFarmRepository}.
  * <p>
  * Die Klasse ermoeglicht das Ermitteln bestimmter Analyse-Werte und das Berechnen der Gesamtleistung aller Windparks.
+ * Die Kennzahlen werden aus dem {@link WindFarmColumnStore} des Repositories gelesen.
  */
 public class WindFarmAnalyzer
 {
@@ -37,13 +37,13 @@ public class WindFarmAnalyzer
      *
      * @return der suedlichste Windpark.
      * @precondition das Repository enthaelt mindestens einen Windpark.
-     * @postcondition die Liste der Windparks wurde nach Breitengrad sortiert und ein Windpark zurueckgegeben.
+     * @postcondition die Reihenfolge der Windparks im Repository bleibt unveraendert; bei gleichem Breitengrad
+     * wird der zuerst gespeicherte Windpark zurueckgegeben.
      */
     public WindFarm findSouthernmostWindfarm ()
     {
-        this.windFarmRepository.getGermanWindFarms().sort(new LatitudeComparator());
-
-        return this.windFarmRepository.getGermanWindFarms().getFirst();
+        WindFarmColumnStore columnStore = this.windFarmRepository.getColumnStore();
+        return columnStore.getWindFarm(columnStore.findSouthernmostPosition());
     }
 
 
@@ -52,13 +52,13 @@ public class WindFarmAnalyzer
      *
      * @return der leistungsstaerkste Windpark.
      * @precondition das Repository enthaelt mindestens einen Windpark.
-     * @postcondition die Liste der Windparks wurde nach Gesamtleistung sortiert und ein Windpark zurueckgegeben.
+     * @postcondition die Reihenfolge der Windparks im Repository bleibt unveraendert; bei gleicher Leistung
+     * wird der zuerst gespeicherte Windpark zurueckgegeben.
      */
     public WindFarm findHighestPerformance ()
     {
-        this.windFarmRepository.getGermanWindFarms().sort(new TotalPerformanceComparator());
-
-        return this.windFarmRepository.getGermanWindFarms().getFirst();
+        WindFarmColumnStore columnStore = this.windFarmRepository.getColumnStore();
+        return columnStore.getWindFarm(columnStore.findHighestPerformancePosition());
     }
 
 
@@ -67,58 +67,99 @@ public class WindFarmAnalyzer
      *
      * @return der Windpark mit den meisten Windturbinen.
      * @precondition das Repository enthält mindestens einen Windpark.
-     * @postcondition die Liste der Windparks wurde nach Turbinenanzahl sortiert und ein Windpark zurueckgegeben.
+     * @postcondition die Reihenfolge der Windparks im Repository bleibt unveraendert; bei gleicher Anzahl
+     * wird der zuerst gespeicherte Windpark zurueckgegeben.
      */
     public WindFarm findMostWindturbine ()
     {
-        this.windFarmRepository.getGermanWindFarms().sort(new WindTurbineCountComparator().reversed());
-
-        return this.windFarmRepository.getGermanWindFarms().getFirst();
+        WindFarmColumnStore columnStore = this.windFarmRepository.getColumnStore();
+        return columnStore.getWindFarm(columnStore.findMostWindTurbinesPosition());
     }
 
 
     /**
      * Berechnet die Gesamtleistung aller deutschen Windparks.
+     * <p>
+     * Die Summe wird fehlerkompensiert in {@code double} gebildet, siehe {@link PerformanceAggregation}.
      *
      * @return die Summe der Gesamtleistungen aller Windparks.
      * @precondition das Repository ist nicht null.
-     * @postcondition es wurden keine Aenderungen am Repository vorgenommen aber einen float-Wert zurueckgegeben.
+     * @postcondition es wurden keine Aenderungen am Repository vorgenommen aber einen double-Wert zurueckgegeben.
+     */
+    public double calculateTotalPerformanceOfAllWindFarms ()
+    {
+        return windFarmRepository.getPerformanceAggregation().getTotalPerformance();
+    }
+
+
+    /**
+     * Ermittelt die Gesamtleistung pro Landkreis.
+     *
+     * @return Gesamtleistung aller Windparks je Landkreis, nur Landkreise mit mindestens einem Windpark.
+     * @precondition das Repository ist nicht null.
+     * @postcondition es wurden keine Aenderungen am Repository vorgenommen.
+     */
+    public Map<Districts, Double> calculateTotalPerformanceByDistrict ()
+    {
+        return windFarmRepository.getPerformanceAggregation().getTotalPerformanceByDistrict();
+    }
+
+
+    /**
+     * Zaehlt die Windparks pro Landkreis.
+     *
+     * @return Anzahl der Windparks je Landkreis, nur Landkreise mit mindestens einem Windpark.
+     * @precondition das Repository ist nicht null.
+     * @postcondition es wurden keine Aenderungen am Repository vorgenommen.
+     */
+    public Map<Districts, Integer> countWindFarmsByDistrict ()
+    {
+        return windFarmRepository.getPerformanceAggregation().getWindFarmCountByDistrict();
+    }
+
+
+    /**
+     * Zaehlt die Windturbinen pro Landkreis.
+     *
+     * @return Anzahl der Windturbinen je Landkreis, nur Landkreise mit mindestens einem Windpark.
+     * @precondition das Repository ist nicht null.
+     * @postcondition es wurden keine Aenderungen am Repository vorgenommen.
      */
-    public float calculateTotalPerformanceOfAllWindFarms ()
+    public Map<Districts, Integer> countWindTurbinesByDistrict ()
     {
-        float totalPerformance = GeneralConstants.EMPTY_FLOAT_VARIABLE;
+        return windFarmRepository.getPerformanceAggregation().getWindTurbineCountByDistrict();
+    }
 
-        for (WindFarm currentWindfarm : windFarmRepository.getGermanWindFarms())
-        {
-            totalPerformance += currentWindfarm.getTotalPerformance();
-        }
 
-        return totalPerformance;
+    /**
+     * Ermittelt die Gesamtleistung pro Jahr der juengsten Inbetriebnahme.
+     *
+     * @return Gesamtleistung aller Windparks je Jahr in aufsteigender Reihenfolge, nur Jahre mit mindestens einem
+     * Windpark.
+     * @precondition das Repository ist nicht null.
+     * @postcondition es wurden keine Aenderungen am Repository vorgenommen.
+     */
+    public Map<Year, Double> calculateTotalPerformanceByCommissioningYear ()
+    {
+        return windFarmRepository.getPerformanceAggregation().getTotalPerformanceByCommissioningYear();
     }
 
 
     /**
      * Filtert alle Windparks, die einem bestimmten Projektbegleiter ({@link ProjectManager}) zugeordnet sind.
+     * <p>
+     * Die Windparks werden aus dem Index der {@link ProjectManagerAdministration} gelesen, der Aufwand haengt
+     * damit nur von der Anzahl der Treffer ab.
      *
      * @param projectManager der Projektbegleiter, nach dem gefiltert werden soll.
-     * @return Liste aller Windparks, die diesen Projektbegleiter enthalten.
-     * @precondition {@code projectManager} ist nicht null und {@code windFarmRepository} ist initialisiert.
+     * @return Liste aller Windparks, die diesen Projektbegleiter enthalten, in Importreihenfolge.
+     * @precondition {@code projectManager} ist nicht null und die Windparks des Repositories wurden ueber den
+     * {@link WindFarmImporter} registriert.
      * @postcondition die zurueckgegebene Liste enthaelt nur Windparks, bei denen
      * der angegebene Projektbegleiter hinterlegt ist.
      */
     public List<WindFarm> filterWindFarmsWithProjectManager (ProjectManager projectManager)
     {
-        List<WindFarm> result = new ArrayList<>();
-
-        for (WindFarm windFarm : windFarmRepository.getGermanWindFarms())
-        {
-            if (windFarm.getProjectManagers().contains(projectManager))
-            {
-                result.add(windFarm);
-            }
-        }
-
-        return result;
+        return new ArrayList<>(ProjectManagerAdministration.getInstance().getWindFarms(projectManager));
     }
-
 }
@@ -0,0 +1,116 @@
+package org.elias.model.service;
+
+import org.elias.res.constant.GeneralConstants;
+import org.elias.util.DataCellParser;
+import org.elias.util.CSVRow;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Fasst aufeinanderfolgende CSV-Zeilen mit gleichem Windpark-Namen zu Bloecken zusammen.
+ * <p>
+ * Die Zeilen werden erst beim Abruf des naechsten Blocks aus der Quelle gezogen, sodass immer
+ * nur ein Windpark-Block im Speicher liegt. Von jeder Zeile wird nur die Namenszelle dekodiert.
+ * Wird von {@link WindFarmImporter} benutzt.
+ *
+ * @param <R> Art der CSV-Zeilen.
+ */
+public class WindFarmBlockIterator<R extends CSVRow> implements Iterator<List<R>>
+{
+    private final Iterator<R> rows;
+
+    private List<R> nextBlock = null;
+    /**
+     * Erste Zeile des folgenden Blocks, die beim Erkennen des Namenswechsels bereits gelesen wurde
+     */
+    private R pendingRow = null;
+    private String currentWindFarmName = GeneralConstants.EMPTY_STRING;
+
+    /**
+     * Erstellt einen Block-Iterator ueber eine Quelle von CSV-Zeilen.
+     *
+     * @param rows zerlegte CSV-Zeilen in Dateireihenfolge.
+     * @precondition {@code rows} ist nicht null.
+     * @postcondition es wurde noch keine Zeile aus {@code rows} gelesen.
+     */
+    public WindFarmBlockIterator (Iterator<R> rows)
+    {
+        this.rows = rows;
+    }
+
+    @Override
+    public boolean hasNext ()
+    {
+        if (nextBlock == null)
+        {
+            nextBlock = readBlock();
+        }
+        return nextBlock != null;
+    }
+
+    /**
+     * Liefert den naechsten Windpark-Block.
+     *
+     * @return alle aufeinanderfolgenden Zeilen eines Windparks.
+     * @throws NoSuchElementException falls keine weiteren Zeilen vorhanden sind.
+     * @precondition {@link #hasNext()} liefert true.
+     * @postcondition der Block wurde aus dem Iterator entfernt.
+     */
+    @Override
+    public List<R> next ()
+    {
+        if (!hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+
+        List<R> block = nextBlock;
+        nextBlock = null;
+        return block;
+    }
+
+    /**
+     * Liest Zeilen aus der Quelle, bis ein neuer Windpark-Name beginnt oder die Quelle erschoepft ist.
+     *
+     * @return der gelesene Block oder null, falls keine Zeilen mehr vorhanden sind.
+     * @precondition keine.
+     * @postcondition die erste Zeile des folgenden Blocks ist in {@code pendingRow} zwischengespeichert.
+     */
+    private List<R> readBlock ()
+    {
+        List<R> currentGroup = new ArrayList<>();
+
+        if (pendingRow != null)
+        {
+            currentGroup.add(pendingRow);
+            pendingRow = null;
+        }
+
+        while (rows.hasNext())
+        {
+            R row = rows.next();
+            String windFarmName = DataCellParser.parseWindFarmName(row.getCell(GeneralConstants.COLUMN_INDEX_NAME));
+
+            // Erste Zeile initialisiert den Namen des aktuellen Windparks.
+            if (currentWindFarmName.equals(GeneralConstants.EMPTY_STRING))
+            {
+                currentWindFarmName = windFarmName;
+            }
+
+            // Falls neuer WindFarm-Block beginnt
+            if (!windFarmName.equals(currentWindFarmName))
+            {
+                currentWindFarmName = windFarmName;
+                pendingRow = row;
+                return currentGroup;
+            }
+
+            currentGroup.add(row);
+        }
+
+        return currentGroup.isEmpty() ? null : currentGroup;
+    }
+}
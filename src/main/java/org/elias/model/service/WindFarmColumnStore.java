@@ -0,0 +1,322 @@
+package org.elias.model.service;
+
+import org.elias.model.ProjectManager;
+import org.elias.model.WindFarm;
+import org.elias.model.WindTurbineGroup;
+import org.elias.res.Districts;
+import org.elias.res.constant.GeneralConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Spaltenweise Kopie der Windpark-Daten eines {@link WindFarmRepository}.
+ * <p>
+ * Jede Kennzahl liegt in einem eigenen primitiven Array, Position {@code i} gehoert zum Windpark an Position
+ * {@code i} der Repository-Liste. Analysen und Sortierungen durchlaufen dadurch zusammenhaengende Arrays statt
+ * verschachtelter Objekte; die {@link WindFarm}-Objekte werden nur fuer die Ausgabe ueber
+ * {@link #getWindFarm(int)} gelesen.
+ * <p>
+ * Landkreise und Projektmanager sind als Ganzzahlen kodiert: Landkreise ueber {@link Districts#ordinal()},
+ * Projektmanager ueber ein eigenes Woerterbuch. Die Projektmanager eines Windparks liegen im Bereich
+ * {@code getManagerStart(i)..getManagerEnd(i)-1} von {@link #getManagerId(int)}.
+ * <p>
+ * Der Stand entspricht dem Zeitpunkt der Erstellung; Aenderungen an den Windparks erfordern einen neuen
+ * Spaltenspeicher.
+ */
+public class WindFarmColumnStore
+{
+    private final List<WindFarm> windFarms;
+
+    private final float[] latitudes;
+    private final float[] longitudes;
+    private final float[] totalPerformances;
+    private final int[] windTurbineCounts;
+    private final int[] oldestCommissioningYears;
+    private final int[] latestCommissioningYears;
+    private final int[] registryIds;
+    private final int[] districtIds;
+    private int minCommissioningYear = GeneralConstants.EMPTY_INT_VARIABLE;
+    private int maxCommissioningYear = GeneralConstants.EMPTY_INT_VARIABLE;
+
+    private final int[] managerOffsets;
+    private final int[] managerIds;
+    private final List<ProjectManager> managerDictionary;
+
+    /**
+     * Erstellt die Spalten fuer die gegebenen Windparks.
+     *
+     * @param windFarms die Windparks in Repository-Reihenfolge.
+     * @precondition {@code windFarms} ist nicht null und enthaelt keine null-Eintraege.
+     * @postcondition alle Spalten sind befuellt, die Windparks bleiben unveraendert.
+     */
+    public WindFarmColumnStore (List<WindFarm> windFarms)
+    {
+        int size = windFarms.size();
+
+        this.windFarms = windFarms;
+        this.latitudes = new float[size];
+        this.longitudes = new float[size];
+        this.totalPerformances = new float[size];
+        this.windTurbineCounts = new int[size];
+        this.oldestCommissioningYears = new int[size];
+        this.latestCommissioningYears = new int[size];
+        this.registryIds = new int[size];
+        this.districtIds = new int[size];
+        this.managerOffsets = new int[size + GeneralConstants.INT_ONE];
+
+        List<ProjectManager> dictionary = new ArrayList<>();
+        Map<ProjectManager, Integer> dictionaryIds = new HashMap<>();
+        int[] managers = new int[size];
+        int managerCount = GeneralConstants.INT_ZERO;
+
+        for (int i = 0; i < size; i++)
+        {
+            WindFarm windFarm = windFarms.get(i);
+
+            latitudes[i] = windFarm.getCoordinates().getLatitude();
+            longitudes[i] = windFarm.getCoordinates().getLongitude();
+            totalPerformances[i] = windFarm.getTotalPerformance();
+            windTurbineCounts[i] = windFarm.getWindTurbineCount();
+            oldestCommissioningYears[i] = windFarm.getOldestCommissioningYear().getValue();
+            latestCommissioningYears[i] = windFarm.getLatestCommissioningYear().getValue();
+            registryIds[i] = GeneralConstants.EMPTY_INT_VARIABLE;
+            districtIds[i] = GeneralConstants.UNASSIGNED_ID;
+            updateCommissioningYearRange(latestCommissioningYears[i]);
+
+            if (!windFarm.getWindTurbineGroups().isEmpty())
+            {
+                WindTurbineGroup firstGroup = windFarm.getWindTurbineGroups().getFirst();
+                Districts district = firstGroup.getLocation().getDistrict();
+
+                registryIds[i] = firstGroup.getID();
+                districtIds[i] = district != null ? district.ordinal() : GeneralConstants.UNASSIGNED_ID;
+            }
+
+            managerOffsets[i] = managerCount;
+            for (ProjectManager projectManager : windFarm.getProjectManagers())
+            {
+                if (managerCount == managers.length)
+                {
+                    managers = Arrays.copyOf(managers, managers.length * GeneralConstants.INT_TWO);
+                }
+
+                Integer managerId = dictionaryIds.get(projectManager);
+                if (managerId == null)
+                {
+                    managerId = dictionary.size();
+                    dictionary.add(projectManager);
+                    dictionaryIds.put(projectManager, managerId);
+                }
+                managers[managerCount++] = managerId;
+            }
+        }
+        managerOffsets[size] = managerCount;
+
+        this.managerIds = Arrays.copyOf(managers, managerCount);
+        this.managerDictionary = Collections.unmodifiableList(dictionary);
+    }
+
+    // --- Getter ---
+
+    public int size ()
+    {
+        return latitudes.length;
+    }
+
+    public WindFarm getWindFarm (int position)
+    {
+        return windFarms.get(position);
+    }
+
+    public float getLatitude (int position)
+    {
+        return latitudes[position];
+    }
+
+    public float getLongitude (int position)
+    {
+        return longitudes[position];
+    }
+
+    public float getTotalPerformance (int position)
+    {
+        return totalPerformances[position];
+    }
+
+    public int getWindTurbineCount (int position)
+    {
+        return windTurbineCounts[position];
+    }
+
+    public int getOldestCommissioningYear (int position)
+    {
+        return oldestCommissioningYears[position];
+    }
+
+    public int getLatestCommissioningYear (int position)
+    {
+        return latestCommissioningYears[position];
+    }
+
+    public int getRegistryId (int position)
+    {
+        return registryIds[position];
+    }
+
+    public int getDistrictId (int position)
+    {
+        return districtIds[position];
+    }
+
+    public int getMinCommissioningYear ()
+    {
+        return minCommissioningYear;
+    }
+
+    public int getMaxCommissioningYear ()
+    {
+        return maxCommissioningYear;
+    }
+
+    public int getManagerStart (int position)
+    {
+        return managerOffsets[position];
+    }
+
+    public int getManagerEnd (int position)
+    {
+        return managerOffsets[position + GeneralConstants.INT_ONE];
+    }
+
+    public int getManagerId (int index)
+    {
+        return managerIds[index];
+    }
+
+    public ProjectManager getProjectManager (int managerId)
+    {
+        return managerDictionary.get(managerId);
+    }
+
+    public int getProjectManagerCount ()
+    {
+        return managerDictionary.size();
+    }
+
+    /**
+     * Erweitert den Bereich der bekannten Inbetriebnahmejahre; unbekannte Jahre (0) werden ignoriert.
+     *
+     * @param year Jahr der juengsten Inbetriebnahme eines Windparks.
+     * @precondition keine.
+     * @postcondition {@code year} liegt in {@code getMinCommissioningYear()..getMaxCommissioningYear()}, falls
+     * es bekannt ist.
+     */
+    private void updateCommissioningYearRange (int year)
+    {
+        if (year == GeneralConstants.EMPTY_INT_VARIABLE)
+        {
+            return;
+        }
+
+        if (minCommissioningYear == GeneralConstants.EMPTY_INT_VARIABLE || year < minCommissioningYear)
+        {
+            minCommissioningYear = year;
+        }
+        if (year > maxCommissioningYear)
+        {
+            maxCommissioningYear = year;
+        }
+    }
+
+    // --- Spaltenabfragen ---
+
+    /**
+     * Ermittelt die erste Position mit dem kleinsten Breitengrad.
+     *
+     * @return Position des suedlichsten Windparks.
+     * @throws NoSuchElementException falls keine Windparks enthalten sind.
+     * @precondition keine.
+     * @postcondition keine.
+     */
+    public int findSouthernmostPosition ()
+    {
+        requireNotEmpty();
+        int best = GeneralConstants.INT_ZERO;
+
+        for (int i = GeneralConstants.INT_ONE; i < latitudes.length; i++)
+        {
+            if (Float.compare(latitudes[i], latitudes[best]) < GeneralConstants.INT_ZERO)
+            {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Ermittelt die erste Position mit der hoechsten Gesamtleistung.
+     *
+     * @return Position des leistungsstaerksten Windparks.
+     * @throws NoSuchElementException falls keine Windparks enthalten sind.
+     * @precondition keine.
+     * @postcondition keine.
+     */
+    public int findHighestPerformancePosition ()
+    {
+        requireNotEmpty();
+        int best = GeneralConstants.INT_ZERO;
+
+        for (int i = GeneralConstants.INT_ONE; i < totalPerformances.length; i++)
+        {
+            if (Float.compare(totalPerformances[i], totalPerformances[best]) > GeneralConstants.INT_ZERO)
+            {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Ermittelt die erste Position mit den meisten Windturbinen.
+     *
+     * @return Position des Windparks mit den meisten Windturbinen.
+     * @throws NoSuchElementException falls keine Windparks enthalten sind.
+     * @precondition keine.
+     * @postcondition keine.
+     */
+    public int findMostWindTurbinesPosition ()
+    {
+        requireNotEmpty();
+        int best = GeneralConstants.INT_ZERO;
+
+        for (int i = GeneralConstants.INT_ONE; i < windTurbineCounts.length; i++)
+        {
+            if (windTurbineCounts[i] > windTurbineCounts[best])
+            {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Prueft, ob Windparks enthalten sind.
+     *
+     * @throws NoSuchElementException falls keine Windparks enthalten sind.
+     * @precondition keine.
+     * @postcondition keine.
+     */
+    private void requireNotEmpty ()
+    {
+        if (latitudes.length == GeneralConstants.INT_ZERO)
+        {
+            throw new NoSuchElementException();
+        }
+    }
+}
@@ -2,7 +2,9 @@ package org.elias.model.service;
 
 import org.elias.model.*;
 import org.elias.res.constant.GeneralConstants;
+import org.elias.util.CSVRow;
 import org.elias.util.DataCellParser;
+import org.elias.util.NumericCellParser;
 
 import java.time.Year;
 import java.util.List;
@@ -11,14 +13,17 @@ import java.util.Map;
 /**
  * Factory-Klasse fuer Erzeugung von {@link WindFarm} aus CSV-Daten.
  * <p>
- * Wird von {@link WindFarmImporter} benutzt.
+ * Wird von {@link WindFarmImporter} benutzt. Die Factory hat bis auf die threadsichere
+ * {@link FlyweightRegistry} keinen gemeinsamen Zustand und kann daher parallel aufgerufen werden; die
+ * Registrierung der Projektmanager uebernimmt der Importer.
  */
 public class WindFarmFactory
 {
     /**
      * Erstellt {@link WindFarm} aus der Liste zusammengehöriger CSV-Zeilen.
      * <p>
-     * Die erste Zeile wird als Basis fuer den ganzen Windpark benutzt.
+     * Die erste Zeile wird als Basis fuer den ganzen Windpark benutzt. Bei {@link org.elias.util.MappedCSVRow}
+     * werden Zahlenzellen direkt aus dem Dateipuffer geparst, nicht benoetigte Zellen werden nie dekodiert.
      *
      * @param rows Liste von CSV-Zeilen, die logisch zu einem Windpark gehoeren.
      * @return ein initialisiertes {@link WindFarm}-Objekt.
@@ -26,65 +31,86 @@ public class WindFarmFactory
      * den ganzen Windpark.
      * @postcondition die zurueckgegebene Windfarm enthaelt alle Windkraftanlagen, die aus der CSV-Tabelle kommen.
      */
-    public static WindFarm createWindFarm (List<String[]> rows)
+    public static WindFarm createWindFarm (List<? extends CSVRow> rows)
     {
-        String[] baseRow = rows.getFirst();
-        ProjectManagerAdministration projectManagerAdministration = ProjectManagerAdministration.getInstance();
+        WindFarm currentWindFarm = createBaseWindFarm(rows.getFirst());
 
+        addWindTurbineGroups(currentWindFarm, rows);
+        return currentWindFarm;
+    }
+
+
+    /**
+     * Erstellt einen {@link WindFarm} mit Name, Koordinaten, Gesamtleistung und Projektmanagern aus der ersten
+     * Zeile, noch ohne Windkraftanlagen.
+     *
+     * @param baseRow erste CSV-Zeile des Windparks.
+     * @return der Windpark ohne {@link WindTurbineGroup}.
+     * @precondition {@code baseRow} ist nicht null.
+     * @postcondition keine.
+     */
+    static WindFarm createBaseWindFarm (CSVRow baseRow)
+    {
         // --- Basisinformation aus der ersten Roh-Zeile ---
-        String windFarmName = DataCellParser.parseWindFarmName(baseRow[GeneralConstants.COLUMN_INDEX_NAME]);
+        String windFarmName = DataCellParser.parseWindFarmName(baseRow.getCell(GeneralConstants.COLUMN_INDEX_NAME));
 
-        float[] coordinates = DataCellParser.parseCoordinates(
-                baseRow[GeneralConstants.COLUMN_INDEX_LATITUDE],
-                baseRow[GeneralConstants.COLUMN_INDEX_LONGITUDE]);
-        Coordinates windFarmCoordinates = new Coordinates(
-                coordinates[GeneralConstants.INT_ZERO],
-                coordinates[GeneralConstants.INT_ONE]);
+        float latitude = NumericCellParser.parseCoordinate(
+                baseRow.getCellSequence(GeneralConstants.COLUMN_INDEX_LATITUDE));
+        float longitude = NumericCellParser.parseCoordinate(
+                baseRow.getCellSequence(GeneralConstants.COLUMN_INDEX_LONGITUDE));
+        Coordinates windFarmCoordinates = new Coordinates(latitude, longitude);
 
-        float totalPerformance = DataCellParser.parseTotalPerformance(
-                baseRow[GeneralConstants.COLUMN_INDEX_PERFORMANCE]);
+        float totalPerformance = NumericCellParser.parseTotalPerformance(
+                baseRow.getCellSequence(GeneralConstants.COLUMN_INDEX_PERFORMANCE));
 
         WindFarm currentWindFarm = new WindFarm(windFarmName, totalPerformance, windFarmCoordinates);
 
         // --- Projektbetreiber hinzufuegen ---
         for (String companyName : DataCellParser.parseProjectManager(
-                baseRow[GeneralConstants.COLUMN_INDEX_PROJECTMANAGER]))
+                baseRow.getCell(GeneralConstants.COLUMN_INDEX_PROJECTMANAGER)))
         {
-            ProjectManager currrentProjectManager = new ProjectManager(companyName);
-            currentWindFarm.addProjectManager(currrentProjectManager);
-            projectManagerAdministration.addProjectManager(currrentProjectManager);
+            currentWindFarm.addProjectManager(FlyweightRegistry.getProjectManager(companyName));
         }
 
+        return currentWindFarm;
+    }
+
 
+    /**
+     * Fuegt fuer jede CSV-Zeile eine {@link WindTurbineGroup} zum Windpark hinzu.
+     *
+     * @param currentWindFarm der Windpark aus {@link #createBaseWindFarm(CSVRow)}.
+     * @param rows            alle CSV-Zeilen des Windparks.
+     * @precondition alle Zeilen gehoeren zum Windpark {@code currentWindFarm}.
+     * @postcondition der Windpark enthaelt die Windkraftanlagen aller Zeilen.
+     */
+    private static void addWindTurbineGroups (WindFarm currentWindFarm, List<? extends CSVRow> rows)
+    {
         // --- Windkraftanlagen hinzufuegen ---
-        for (String[] row : rows)
+        for (CSVRow row : rows)
         {
-            int ID = DataCellParser.parseObjectID(row[GeneralConstants.COLUMN_INDEX_ID]);
+            int ID = NumericCellParser.parseObjectID(row.getCellSequence(GeneralConstants.COLUMN_INDEX_ID));
             Year manufactureYear = DataCellParser.parseManufactureYear(
-                    row[GeneralConstants.COLUMN_INDEX_MANUFACTURE_YEAR]);
+                    row.getCell(GeneralConstants.COLUMN_INDEX_MANUFACTURE_YEAR));
 
             Location location = new Location(
-                    DataCellParser.parseTown(row[GeneralConstants.COLUMN_INDEX_TOWN]),
-                    DataCellParser.parseDistrict(row[GeneralConstants.COLUMN_INDEX_DISTRICT]));
-            String remarks = DataCellParser.parseRemarks(row[GeneralConstants.COLUMN_INDEX_REMARKS]);
+                    DataCellParser.parseTown(row.getCell(GeneralConstants.COLUMN_INDEX_TOWN)),
+                    DataCellParser.parseDistrict(row.getCell(GeneralConstants.COLUMN_INDEX_DISTRICT)));
+            String remarks = DataCellParser.parseRemarks(row.getCell(GeneralConstants.COLUMN_INDEX_REMARKS));
 
             WindTurbineGroup currentTurbineGroup = new WindTurbineGroup(ID, manufactureYear, location, remarks);
 
             // --- Windturbine hinzufuegen ---
             Map<String, Integer> turbineTypeMap = DataCellParser.parseWindTurbineType(
-                    row[GeneralConstants.COLUMN_INDEX_WINDTURBINE_NAME]);
+                    row.getCell(GeneralConstants.COLUMN_INDEX_WINDTURBINE_NAME));
 
-            for (String windTurbineTypeName : turbineTypeMap.keySet())
+            for (Map.Entry<String, Integer> turbineType : turbineTypeMap.entrySet())
             {
-                for (int i = 0; i < turbineTypeMap.get(windTurbineTypeName); i++)
-                {
-                    currentTurbineGroup.addWindTurbine(new WindTurbineType(windTurbineTypeName));
-                }
+                currentTurbineGroup.addWindTurbines(FlyweightRegistry.getWindTurbineType(turbineType.getKey()),
+                        turbineType.getValue());
             }
 
             currentWindFarm.addWindTurbineGroup(currentTurbineGroup);
         }
-
-        return currentWindFarm;
     }
 }
@@ -0,0 +1,181 @@
+package org.elias.model.service;
+
+import org.elias.model.WindFarm;
+import org.elias.res.constant.GeneralConstants;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stand eines Imports pro Windpark, Grundlage fuer inkrementelle Importe.
+ * <p>
+ * Position {@code i} gehoert zum Windpark mit der ID {@code i}. Gespeichert werden der Hashwert des CSV-Blocks,
+ * aus dem der Windpark erzeugt wurde, die Leistung vor der Normalisierung und ob die Koordinaten bei der
+ * Normalisierung geaendert wurden. Nach einem Import ist zusaetzlich vermerkt, welche Windparks neu erzeugt und
+ * welche unveraendert aus dem vorherigen Stand uebernommen wurden.
+ */
+public final class WindFarmImportState
+{
+    private final List<WindFarm> windFarms;
+    private final long[] blockHashes;
+    private final float[] rawPerformances;
+    private final boolean[] normalizedCoordinates;
+    private final boolean[] reprocessed;
+    private final int removedCount;
+
+    /**
+     * Erstellt einen Stand aus bereits befuellten Arrays.
+     *
+     * @param windFarms             Windparks in ID-Reihenfolge.
+     * @param blockHashes           Hashwerte der CSV-Bloecke.
+     * @param rawPerformances       Leistungen vor der Normalisierung.
+     * @param normalizedCoordinates ob die Koordinaten bei der Normalisierung geaendert wurden.
+     * @param reprocessed           ob der Windpark in diesem Import neu erzeugt wurde.
+     * @param removedCount          Anzahl der Windparks des vorherigen Stands, die nicht mehr vorkommen.
+     * @precondition alle Arrays haben die Laenge von {@code windFarms}.
+     * @postcondition der Stand uebernimmt die Arrays ohne Kopie.
+     */
+    WindFarmImportState (List<WindFarm> windFarms, long[] blockHashes, float[] rawPerformances,
+                         boolean[] normalizedCoordinates, boolean[] reprocessed, int removedCount)
+    {
+        this.windFarms = windFarms;
+        this.blockHashes = blockHashes;
+        this.rawPerformances = rawPerformances;
+        this.normalizedCoordinates = normalizedCoordinates;
+        this.reprocessed = reprocessed;
+        this.removedCount = removedCount;
+    }
+
+    // --- Getter & Setter ---
+
+    public int size ()
+    {
+        return windFarms.size();
+    }
+
+    public List<WindFarm> getWindFarms ()
+    {
+        return windFarms;
+    }
+
+    public long getBlockHash (int id)
+    {
+        return blockHashes[id];
+    }
+
+    public float getRawPerformance (int id)
+    {
+        return rawPerformances[id];
+    }
+
+    public boolean isCoordinatesNormalized (int id)
+    {
+        return normalizedCoordinates[id];
+    }
+
+    public void setCoordinatesNormalized (int id, boolean coordinatesNormalized)
+    {
+        this.normalizedCoordinates[id] = coordinatesNormalized;
+    }
+
+    public boolean isReprocessed (int id)
+    {
+        return reprocessed[id];
+    }
+
+    public int getRemovedCount ()
+    {
+        return removedCount;
+    }
+
+    /**
+     * Zaehlt die Windparks, deren Koordinaten bei der Normalisierung geaendert wurden.
+     *
+     * @return Anzahl der geaenderten Koordinaten.
+     * @precondition keine.
+     * @postcondition der Stand bleibt unveraendert.
+     */
+    public int getNormalizedCoordinateCount ()
+    {
+        int count = GeneralConstants.INT_ZERO;
+
+        for (boolean normalized : normalizedCoordinates)
+        {
+            count += normalized ? GeneralConstants.INT_ONE : GeneralConstants.INT_ZERO;
+        }
+        return count;
+    }
+
+    /**
+     * Zaehlt die Windparks, die in diesem Import neu erzeugt wurden.
+     *
+     * @return Anzahl der neu erzeugten Windparks.
+     * @precondition keine.
+     * @postcondition der Stand bleibt unveraendert.
+     */
+    public int getReprocessedCount ()
+    {
+        int count = GeneralConstants.INT_ZERO;
+
+        for (boolean created : reprocessed)
+        {
+            count += created ? GeneralConstants.INT_ONE : GeneralConstants.INT_ZERO;
+        }
+        return count;
+    }
+
+    /**
+     * Sammelt den Stand eines Imports Windpark fuer Windpark in Dateireihenfolge.
+     */
+    static class Builder
+    {
+        private long[] blockHashes = new long[GeneralConstants.PARALLEL_IMPORT_BATCH_SIZE];
+        private float[] rawPerformances = new float[GeneralConstants.PARALLEL_IMPORT_BATCH_SIZE];
+        private boolean[] normalizedCoordinates = new boolean[GeneralConstants.PARALLEL_IMPORT_BATCH_SIZE];
+        private boolean[] reprocessed = new boolean[GeneralConstants.PARALLEL_IMPORT_BATCH_SIZE];
+        private int count = GeneralConstants.INT_ZERO;
+
+        /**
+         * Fuegt den Stand des naechsten Windparks hinzu.
+         *
+         * @param blockHash             Hashwert des CSV-Blocks.
+         * @param rawPerformance        Leistung vor der Normalisierung.
+         * @param coordinatesNormalized ob die Koordinaten bei einer frueheren Normalisierung geaendert wurden.
+         * @param created               ob der Windpark neu erzeugt wurde.
+         * @precondition die Windparks werden in ID-Reihenfolge hinzugefuegt.
+         * @postcondition der Stand ist am Ende der Arrays gespeichert.
+         */
+        void add (long blockHash, float rawPerformance, boolean coordinatesNormalized, boolean created)
+        {
+            if (count == blockHashes.length)
+            {
+                int newLength = blockHashes.length * GeneralConstants.INT_TWO;
+                blockHashes = Arrays.copyOf(blockHashes, newLength);
+                rawPerformances = Arrays.copyOf(rawPerformances, newLength);
+                normalizedCoordinates = Arrays.copyOf(normalizedCoordinates, newLength);
+                reprocessed = Arrays.copyOf(reprocessed, newLength);
+            }
+
+            blockHashes[count] = blockHash;
+            rawPerformances[count] = rawPerformance;
+            normalizedCoordinates[count] = coordinatesNormalized;
+            reprocessed[count++] = created;
+        }
+
+        /**
+         * Erzeugt den Stand.
+         *
+         * @param windFarms    die importierten Windparks in ID-Reihenfolge.
+         * @param removedCount Anzahl der nicht mehr vorkommenden Windparks des vorherigen Stands.
+         * @return der Stand des Imports.
+         * @precondition fuer jeden Windpark wurde genau einmal {@link #add(long, float, boolean, boolean)} aufgerufen.
+         * @postcondition der Builder sollte nicht weiterverwendet werden.
+         */
+        WindFarmImportState build (List<WindFarm> windFarms, int removedCount)
+        {
+            return new WindFarmImportState(windFarms, Arrays.copyOf(blockHashes, count),
+                    Arrays.copyOf(rawPerformances, count), Arrays.copyOf(normalizedCoordinates, count),
+                    Arrays.copyOf(reprocessed, count), removedCount);
+        }
+    }
+}
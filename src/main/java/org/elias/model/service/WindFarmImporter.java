@@ -1,13 +1,36 @@
 package org.elias.model.service;
 
+import org.elias.model.ProjectManager;
 import org.elias.model.WindFarm;
 import org.elias.res.constant.GeneralConstants;
-import org.elias.util.DataCellParser;
+import org.elias.util.CSVRow;
+import org.elias.util.CSVRowIterator;
+import org.elias.util.MappedCSVRow;
+import org.elias.util.MappedCSVTokenizer;
+import org.elias.util.StringCSVRow;
 
-import java.util.*;
+import java.io.Serial;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
- * Importiert Daten aus einer CSV-Zellenliste in {@link WindFarmRepository}.
+ * Importiert Daten aus einer CSV-Zellenliste oder direkt aus einer CSV-Datei in {@link WindFarmRepository}.
+ * <p>
+ * Alle Varianten gruppieren die Zeilen mit {@link WindFarmBlockIterator} in Windpark-Bloecke und erzeugen daraus
+ * mit {@link WindFarmFactory} die Windparks. {@link #importStream(String, WindFarmRepository)} liest die Datei
+ * zeilenweise, {@link #importMapped(String, WindFarmRepository)} und der inkrementelle Import zerlegen sie
+ * speichergemappt mit {@link MappedCSVTokenizer}. Die parallelen Varianten und der inkrementelle Import erzeugen
+ * die Windparks stapelweise auf dem {@link ForkJoinPool} und uebernehmen sie in Dateireihenfolge.
+ * <p>
+ * Projektmanager werden immer sequenziell im Importer registriert, auch die von Windparks, die erst an einer
+ * Windkraftanlagen-Zeile scheitern.
  */
 public class WindFarmImporter
 {
@@ -23,38 +46,141 @@ public class WindFarmImporter
      */
     public static void importData (List<String[]> csvDataCells, WindFarmRepository repository)
     {
-        List<String[]> currentGroup = new ArrayList<>();
-        String currentWindFarmName = GeneralConstants.EMPTY_STRING;
+        importBlocks(new WindFarmBlockIterator<>(toRows(csvDataCells.iterator())), repository);
+    }
+
 
-        for (String[] row : csvDataCells)
+    /**
+     * Startet den Import direkt aus einer CSV-Datei.
+     * <p>
+     * Die Datei wird zeilenweise gelesen, zerlegt und blockweise an {@link WindFarmFactory} uebergeben.
+     * Dabei liegt immer nur ein Windpark-Block im Speicher, nie die ganze Datei.
+     *
+     * @param pathToCSV  Pfad zur CSV-Datei.
+     * @param repository zentrales Repository fuer Speicherung der Daten.
+     * @precondition Der angegebene Pfad verweist auf eine existierende gueltige Datei.
+     * Es gibt eine Instanz von {@link WindFarmRepository}.
+     * @postcondition {@link WindFarmRepository} enthaelt dieselben Windparks und fehlerhaften Zeilen wie nach
+     * {@link #importData(List, WindFarmRepository)}.
+     */
+    public static void importStream (String pathToCSV, WindFarmRepository repository)
+    {
+        try (CSVRowIterator rows = new CSVRowIterator(pathToCSV))
         {
-            String windFarmName = DataCellParser.parseWindFarmName(row[GeneralConstants.COLUMN_INDEX_NAME]);
+            importBlocks(new WindFarmBlockIterator<>(toRows(rows)), repository);
+        }
+    }
 
-            // Erste Zeile initialisiert den Namen des aktuellen Windparks.
-            if (currentWindFarmName.equals(GeneralConstants.EMPTY_STRING))
-            {
-                currentWindFarmName = windFarmName;
-            }
 
-            // Falls neuer WindFarm-Block beginnt
-            if (!windFarmName.equals(currentWindFarmName))
-            {
-                createAndStoreWindFarm(currentGroup, repository);
+    /**
+     * Startet den Import aus einer speichergemappten CSV-Datei.
+     * <p>
+     * Die Datei wird mit {@link MappedCSVTokenizer} direkt auf den gemappten Bytes zerlegt; Zellen werden erst
+     * dekodiert, wenn {@link WindFarmFactory} sie liest.
+     *
+     * @param pathToCSV  Pfad zur CSV-Datei.
+     * @param repository zentrales Repository fuer Speicherung der Daten.
+     * @precondition Der angegebene Pfad verweist auf eine existierende gueltige Datei.
+     * Es gibt eine Instanz von {@link WindFarmRepository}.
+     * @postcondition {@link WindFarmRepository} enthaelt dieselben Windparks und fehlerhaften Zeilen wie nach
+     * {@link #importStream(String, WindFarmRepository)}.
+     */
+    public static void importMapped (String pathToCSV, WindFarmRepository repository)
+    {
+        try (MappedCSVTokenizer tokenizer = new MappedCSVTokenizer(pathToCSV))
+        {
+            importBlocks(new WindFarmBlockIterator<>(tokenizer), repository);
+        }
+    }
+
+
+    /**
+     * Startet den parallelen Import der CSV-Daten.
+     * <p>
+     * Die Zeilen werden an den Windpark-Grenzen in Bloecke geteilt, die Windparks auf dem
+     * {@link ForkJoinPool} erzeugt und anschliessend in Dateireihenfolge ins Repository uebernommen.
+     *
+     * @param csvDataCells nach Zellen zerlegte Liste aus Zeilen.
+     * @param repository   zentrales Repository fuer Speicherung der Daten.
+     * @precondition wie bei {@link #importData(List, WindFarmRepository)}.
+     * @postcondition das Repository und die {@link ProjectManagerAdministration} enthalten dieselben Windparks,
+     * fehlerhaften Zeilen und Projektmanager in derselben Reihenfolge wie nach
+     * {@link #importData(List, WindFarmRepository)}.
+     */
+    public static void importDataParallel (List<String[]> csvDataCells, WindFarmRepository repository)
+    {
+        importBlocksParallel(new WindFarmBlockIterator<>(toRows(csvDataCells.iterator())), repository);
+    }
 
-                currentGroup = new ArrayList<>();
-                currentWindFarmName = windFarmName;
-            }
 
-            currentGroup.add(row);
+    /**
+     * Startet den parallelen Import aus einer speichergemappten CSV-Datei.
+     * <p>
+     * Es werden immer nur {@link GeneralConstants#PARALLEL_IMPORT_BATCH_SIZE} Windpark-Bloecke gleichzeitig
+     * im Speicher gehalten.
+     *
+     * @param pathToCSV  Pfad zur CSV-Datei.
+     * @param repository zentrales Repository fuer Speicherung der Daten.
+     * @precondition Der angegebene Pfad verweist auf eine existierende gueltige Datei.
+     * Es gibt eine Instanz von {@link WindFarmRepository}.
+     * @postcondition das Repository und die {@link ProjectManagerAdministration} enthalten dieselben Windparks,
+     * fehlerhaften Zeilen und Projektmanager in derselben Reihenfolge wie nach
+     * {@link #importMapped(String, WindFarmRepository)}.
+     */
+    public static void importMappedParallel (String pathToCSV, WindFarmRepository repository)
+    {
+        try (MappedCSVTokenizer tokenizer = new MappedCSVTokenizer(pathToCSV))
+        {
+            importBlocksParallel(new WindFarmBlockIterator<>(tokenizer), repository);
         }
+    }
 
 
-        if (!currentGroup.isEmpty())
+    /**
+     * Startet einen inkrementellen Import aus einer speichergemappten CSV-Datei.
+     * <p>
+     * Jeder Windpark-Block wird gehasht und mit den Bloecken des vorherigen Imports verglichen. Windparks aus
+     * unveraenderten Bloecken werden samt normalisierten Werten uebernommen, nur neue und geaenderte Bloecke
+     * laufen parallel durch {@link WindFarmFactory}. Es werden immer nur
+     * {@link GeneralConstants#PARALLEL_IMPORT_BATCH_SIZE} Windpark-Bloecke gleichzeitig im Speicher gehalten.
+     * Bloecke, die beim vorherigen Import fehlerhaft waren, werden erneut verarbeitet. Ohne vorherigen Import
+     * werden alle Bloecke neu erzeugt.
+     *
+     * @param pathToCSV      Pfad zur CSV-Datei.
+     * @param repository     zentrales Repository fuer Speicherung der Daten.
+     * @param previousImport Stand des vorherigen Imports oder null; seine Windparks sind in keinem Repository.
+     * @return Stand dieses Imports mit den neu erzeugten und den uebernommenen Windparks.
+     * @precondition Der angegebene Pfad verweist auf eine existierende gueltige Datei. Das Repository ist leer.
+     * @postcondition das Repository enthaelt alle Windparks und fehlerhaften Zeilen in Dateireihenfolge;
+     * uebernommene Windparks sind bereits normalisiert.
+     */
+    public static WindFarmImportState importMappedIncremental (String pathToCSV, WindFarmRepository repository,
+                                                               WindFarmImportState previousImport)
+    {
+        try (MappedCSVTokenizer tokenizer = new MappedCSVTokenizer(pathToCSV))
         {
-            createAndStoreWindFarm(currentGroup, repository);
+            return importBlocksIncremental(new WindFarmBlockIterator<>(tokenizer), repository, previousImport);
         }
     }
 
+
+    /**
+     * Erzeugt fuer jeden Windpark-Block einen {@link WindFarm} und speichert ihn im Repository.
+     *
+     * @param blocks     nach Windpark-Namen gruppierte CSV-Zeilen.
+     * @param repository zentrales Repository fuer Speicherung der Daten.
+     * @precondition {@code blocks} und {@code repository} sind nicht null.
+     * @postcondition alle Bloecke wurden in Reihenfolge verarbeitet.
+     */
+    private static void importBlocks (Iterator<? extends List<? extends CSVRow>> blocks, WindFarmRepository repository)
+    {
+        while (blocks.hasNext())
+        {
+            createAndStoreWindFarm(blocks.next(), repository);
+        }
+    }
+
+
     /**
      * Erzeugt aus einer Gruppe von CSV-Zeilen einen {@link WindFarm} und speichert es im Repository.
      *
@@ -65,19 +191,364 @@ public class WindFarmImporter
      * @postcondition {@link WindFarmRepository} wird mit einer {@code WindFarm} gefüllt. Bei ungueltigen Eingaben wird
      * die Zeile mit der entsprechenden Fehlermeldung zur {@link WindFarmRepository#invalidRows} hinzufuegt.
      */
-    private static void createAndStoreWindFarm (List<String[]> rows, WindFarmRepository repository)
+    private static void createAndStoreWindFarm (List<? extends CSVRow> rows, WindFarmRepository repository)
     {
         try
         {
             WindFarm windFarm = WindFarmFactory.createWindFarm(rows);
-            repository.addWindFarm(windFarm);
+            storeWindFarm(windFarm, repository);
         } catch (Exception e)
         {
-            for (String[] invalidRow : rows)
+            storeInvalidRows(rows, e.getMessage(), repository);
+        }
+    }
+
+
+    /**
+     * Verarbeitet die Windpark-Bloecke stapelweise parallel.
+     * <p>
+     * Jeder Stapel wird vollstaendig auf dem {@link ForkJoinPool} erzeugt und danach sequenziell
+     * in Dateireihenfolge ins Repository uebernommen.
+     *
+     * @param blocks     nach Windpark-Namen gruppierte CSV-Zeilen.
+     * @param repository zentrales Repository fuer Speicherung der Daten.
+     * @param <R>        Art der CSV-Zeilen.
+     * @precondition {@code blocks} und {@code repository} sind nicht null.
+     * @postcondition alle Bloecke wurden in Reihenfolge uebernommen.
+     */
+    private static <R extends CSVRow> void importBlocksParallel (Iterator<List<R>> blocks,
+                                                                 WindFarmRepository repository)
+    {
+        List<List<R>> batch = new ArrayList<>();
+
+        while (blocks.hasNext())
+        {
+            batch.add(blocks.next());
+
+            if (batch.size() >= GeneralConstants.PARALLEL_IMPORT_BATCH_SIZE || !blocks.hasNext())
+            {
+                importBatch(batch, repository);
+                batch = new ArrayList<>();
+            }
+        }
+    }
+
+
+    /**
+     * Erzeugt die Windparks eines Stapels parallel und uebernimmt sie in Reihenfolge.
+     *
+     * @param batch      Windpark-Bloecke in Dateireihenfolge.
+     * @param repository zentrales Repository fuer Speicherung der Daten.
+     * @precondition {@code batch} ist nicht leer.
+     * @postcondition jeder Block wurde entweder als Windpark oder als fehlerhafte Zeilen gespeichert.
+     */
+    private static void importBatch (List<? extends List<? extends CSVRow>> batch, WindFarmRepository repository)
+    {
+        WindFarm[] windFarms = new WindFarm[batch.size()];
+        String[] errorMessages = new String[batch.size()];
+
+        ForkJoinPool.commonPool().invoke(
+                new CreateWindFarmsTask(batch, windFarms, errorMessages, GeneralConstants.INT_ZERO, batch.size()));
+
+        for (int i = 0; i < batch.size(); i++)
+        {
+            if (windFarms[i] != null)
+            {
+                storeWindFarm(windFarms[i], repository);
+            } else
+            {
+                storeInvalidRows(batch.get(i), errorMessages[i], repository);
+            }
+        }
+    }
+
+
+    /**
+     * Verarbeitet die Windpark-Bloecke stapelweise und erzeugt nur Windparks zu unbekannten Bloecken.
+     *
+     * @param blocks         nach Windpark-Namen gruppierte CSV-Zeilen.
+     * @param repository     zentrales Repository fuer Speicherung der Daten.
+     * @param previousImport Stand des vorherigen Imports oder null.
+     * @return Stand dieses Imports.
+     * @precondition {@code blocks} und {@code repository} sind nicht null.
+     * @postcondition alle Bloecke wurden in Reihenfolge uebernommen.
+     */
+    private static WindFarmImportState importBlocksIncremental (Iterator<List<MappedCSVRow>> blocks,
+                                                                WindFarmRepository repository,
+                                                                WindFarmImportState previousImport)
+    {
+        Map<Long, Deque<Integer>> previousIdsByHash = new HashMap<>();
+        int previousCount = previousImport == null ? GeneralConstants.INT_ZERO : previousImport.size();
+
+        for (int id = 0; id < previousCount; id++)
+        {
+            previousIdsByHash.computeIfAbsent(previousImport.getBlockHash(id), hash -> new ArrayDeque<>()).add(id);
+        }
+
+        WindFarmImportState.Builder importState = new WindFarmImportState.Builder();
+        List<List<MappedCSVRow>> batch = new ArrayList<>();
+
+        while (blocks.hasNext())
+        {
+            batch.add(blocks.next());
+
+            if (batch.size() >= GeneralConstants.PARALLEL_IMPORT_BATCH_SIZE || !blocks.hasNext())
+            {
+                importBatchIncremental(batch, repository, previousImport, previousIdsByHash, importState);
+                batch = new ArrayList<>();
+            }
+        }
+
+        int removedCount = GeneralConstants.INT_ZERO;
+        for (Deque<Integer> unusedIds : previousIdsByHash.values())
+        {
+            removedCount += unusedIds.size();
+        }
+
+        return importState.build(List.copyOf(repository.getGermanWindFarms()), removedCount);
+    }
+
+
+    /**
+     * Uebernimmt die Windparks unveraenderter Bloecke, erzeugt die uebrigen parallel und speichert alle in
+     * Reihenfolge.
+     *
+     * @param batch             Windpark-Bloecke in Dateireihenfolge.
+     * @param repository        zentrales Repository fuer Speicherung der Daten.
+     * @param previousImport    Stand des vorherigen Imports oder null.
+     * @param previousIdsByHash noch nicht uebernommene IDs des vorherigen Imports je Block-Hash.
+     * @param importState       sammelt den Stand dieses Imports.
+     * @precondition {@code batch} ist nicht leer.
+     * @postcondition jeder Block wurde entweder als Windpark oder als fehlerhafte Zeilen gespeichert.
+     */
+    private static void importBatchIncremental (List<List<MappedCSVRow>> batch, WindFarmRepository repository,
+                                                WindFarmImportState previousImport,
+                                                Map<Long, Deque<Integer>> previousIdsByHash,
+                                                WindFarmImportState.Builder importState)
+    {
+        long[] blockHashes = new long[batch.size()];
+        int[] previousIds = new int[batch.size()];
+        List<List<MappedCSVRow>> changedBlocks = new ArrayList<>();
+
+        for (int i = 0; i < batch.size(); i++)
+        {
+            blockHashes[i] = hashBlock(batch.get(i));
+            Deque<Integer> candidates = previousIdsByHash.get(blockHashes[i]);
+            Integer previousId = candidates == null ? null : candidates.pollFirst();
+
+            previousIds[i] = previousId == null ? GeneralConstants.UNASSIGNED_ID : previousId;
+            if (previousId == null)
+            {
+                changedBlocks.add(batch.get(i));
+            }
+        }
+
+        WindFarm[] createdWindFarms = new WindFarm[changedBlocks.size()];
+        String[] errorMessages = new String[changedBlocks.size()];
+        if (!changedBlocks.isEmpty())
+        {
+            ForkJoinPool.commonPool().invoke(new CreateWindFarmsTask(changedBlocks, createdWindFarms, errorMessages,
+                    GeneralConstants.INT_ZERO, changedBlocks.size()));
+        }
+
+        int changedIndex = GeneralConstants.INT_ZERO;
+        for (int i = 0; i < batch.size(); i++)
+        {
+            if (previousIds[i] != GeneralConstants.UNASSIGNED_ID)
+            {
+                storeWindFarm(previousImport.getWindFarms().get(previousIds[i]), repository);
+                importState.add(blockHashes[i], previousImport.getRawPerformance(previousIds[i]),
+                        previousImport.isCoordinatesNormalized(previousIds[i]), false);
+            } else if (createdWindFarms[changedIndex] != null)
+            {
+                storeWindFarm(createdWindFarms[changedIndex], repository);
+                importState.add(blockHashes[i], createdWindFarms[changedIndex++].getTotalPerformance(), false, true);
+            } else
+            {
+                storeInvalidRows(batch.get(i), errorMessages[changedIndex++], repository);
+            }
+        }
+    }
+
+
+    /**
+     * Berechnet einen 64-Bit-FNV-1a-Hash ueber die rohen Bytes aller Zellen eines Windpark-Blocks.
+     * <p>
+     * Die Zellen werden dafuer nicht dekodiert. Nach jeder Zelle und jeder Zeile wird deren Laenge eingemischt,
+     * damit verschobene Zellgrenzen einen anderen Hash ergeben; fehlende Zellen zaehlen mit Laenge -1.
+     *
+     * @param rows CSV-Zeilen eines Windparks.
+     * @return der Hash des Blocks.
+     * @precondition {@code rows} ist nicht null.
+     * @postcondition {@code rows} bleibt unveraendert.
+     */
+    private static long hashBlock (List<MappedCSVRow> rows)
+    {
+        long hash = GeneralConstants.BLOCK_HASH_OFFSET_BASIS;
+
+        for (MappedCSVRow row : rows)
+        {
+            for (int column = 0; column < GeneralConstants.COLUMN_COUNT; column++)
             {
-                repository.addInvalidRow(invalidRow, e.getMessage());
+                int length = column < row.getCellCount() ? row.getCellLength(column) : GeneralConstants.UNASSIGNED_ID;
+
+                for (int i = 0; i < length; i++)
+                {
+                    hash = (hash ^ row.getCellByte(column, i)) * GeneralConstants.BLOCK_HASH_PRIME;
+                }
+                hash = (hash ^ length) * GeneralConstants.BLOCK_HASH_PRIME;
             }
+            hash = (hash ^ row.getCellCount()) * GeneralConstants.BLOCK_HASH_PRIME;
         }
+        return hash;
+    }
+
+
+    /**
+     * Speichert einen erfolgreich erzeugten Windpark und registriert seine Projektmanager.
+     * <p>
+     * Die Registrierung erfolgt hier und nicht in {@link WindFarmFactory}, damit sie auch beim parallelen
+     * Import nur sequenziell und in Dateireihenfolge stattfindet.
+     *
+     * @param windFarm   der erzeugte Windpark.
+     * @param repository zentrales Repository fuer Speicherung der Daten.
+     * @precondition {@code windFarm} ist nicht null.
+     * @postcondition der Windpark ist im Repository und bei seinen Projektmanagern in der
+     * {@link ProjectManagerAdministration} registriert.
+     */
+    private static void storeWindFarm (WindFarm windFarm, WindFarmRepository repository)
+    {
+        ProjectManagerAdministration.getInstance().addWindFarm(windFarm);
+        repository.addWindFarm(windFarm);
     }
 
+
+    /**
+     * Speichert alle Zeilen eines fehlerhaften Windpark-Blocks mit der Fehlermeldung.
+     * <p>
+     * Sind Name, Koordinaten, Leistung und Projektmanager der ersten Zeile gueltig und scheitert erst eine
+     * Windkraftanlagen-Zeile, werden die Projektmanager trotzdem registriert, wie beim urspruenglichen Import
+     * (z.B. Projektmanager "abgebaut 2014"). Die Basisdaten werden dafuer erneut geparst; das betrifft nur die
+     * wenigen fehlerhaften Bloecke und haelt die parallele Erzeugung frei von gemeinsamem Zustand.
+     *
+     * @param rows         CSV-Zeilen des fehlerhaften Windparks.
+     * @param errorMessage die zugehoerige Fehlermeldung.
+     * @param repository   zentrales Repository fuer Speicherung der Daten.
+     * @precondition {@code rows} ist nicht null.
+     * @postcondition alle Zeilen befinden sich in {@link WindFarmRepository#invalidRows}.
+     */
+    private static void storeInvalidRows (List<? extends CSVRow> rows, String errorMessage,
+                                          WindFarmRepository repository)
+    {
+        for (CSVRow invalidRow : rows)
+        {
+            repository.addInvalidRow(invalidRow.toCells(), errorMessage);
+        }
+
+        WindFarm baseWindFarm;
+        try
+        {
+            baseWindFarm = WindFarmFactory.createBaseWindFarm(rows.getFirst());
+        } catch (Exception e)
+        {
+            // Basisdaten ungueltig: wie beim urspruenglichen Import wird kein Projektmanager registriert
+            return;
+        }
+
+        for (ProjectManager projectManager : baseWindFarm.getProjectManagers())
+        {
+            ProjectManagerAdministration.getInstance().addProjectManager(projectManager);
+        }
+    }
+
+
+    /**
+     * Liefert bereits zerlegte Zeilen als {@link StringCSVRow}, ohne sie vorab zu kopieren.
+     *
+     * @param cells Zeilen im Format von {@link org.elias.util.CSVLineParser#parseLine(String)}.
+     * @return Iterator, der jede Zeile erst beim Abruf einpackt.
+     * @precondition {@code cells} ist nicht null.
+     * @postcondition es wurde noch keine Zeile aus {@code cells} gelesen.
+     */
+    private static Iterator<StringCSVRow> toRows (Iterator<String[]> cells)
+    {
+        return new Iterator<>()
+        {
+            @Override
+            public boolean hasNext ()
+            {
+                return cells.hasNext();
+            }
+
+            @Override
+            public StringCSVRow next ()
+            {
+                return new StringCSVRow(cells.next());
+            }
+        };
+    }
+
+
+    /**
+     * Fork/Join-Aufgabe, die Windparks fuer einen Bereich eines Stapels erzeugt.
+     * <p>
+     * Ergebnisse werden positionsgenau in die uebergebenen Arrays geschrieben, sodass die
+     * Dateireihenfolge beim Zusammenfuehren erhalten bleibt.
+     */
+    private static class CreateWindFarmsTask extends RecursiveAction
+    {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Die Aufgabe wird nie serialisiert; transient nur, weil ForkJoinTask Serializable implementiert
+        private final transient List<? extends List<? extends CSVRow>> batch;
+        private final transient WindFarm[] windFarms;
+        private final String[] errorMessages;
+        private final int from;
+        private final int to;
+
+        /**
+         * Erstellt eine Aufgabe fuer den Bereich {@code [from, to)} des Stapels.
+         *
+         * @param batch         alle Windpark-Bloecke des Stapels.
+         * @param windFarms     Ergebnis-Array fuer erzeugte Windparks.
+         * @param errorMessages Ergebnis-Array fuer Fehlermeldungen.
+         * @param from          erster Index (inklusive).
+         * @param to            letzter Index (exklusive).
+         * @precondition die Arrays haben die Groesse des Stapels.
+         * @postcondition die Aufgabe ist bereit zur Ausfuehrung.
+         */
+        CreateWindFarmsTask (List<? extends List<? extends CSVRow>> batch, WindFarm[] windFarms,
+                             String[] errorMessages, int from, int to)
+        {
+            this.batch = batch;
+            this.windFarms = windFarms;
+            this.errorMessages = errorMessages;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute ()
+        {
+            if (to - from <= GeneralConstants.PARALLEL_IMPORT_THRESHOLD)
+            {
+                for (int i = from; i < to; i++)
+                {
+                    try
+                    {
+                        windFarms[i] = WindFarmFactory.createWindFarm(batch.get(i));
+                    } catch (Exception e)
+                    {
+                        errorMessages[i] = e.getMessage();
+                    }
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> GeneralConstants.INT_ONE;
+            invokeAll(new CreateWindFarmsTask(batch, windFarms, errorMessages, from, middle),
+                    new CreateWindFarmsTask(batch, windFarms, errorMessages, middle, to));
+        }
+    }
 }
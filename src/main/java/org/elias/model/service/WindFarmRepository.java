@@ -1,17 +1,27 @@
 package org.elias.model.service;
 
 import org.elias.model.WindFarm;
-import org.elias.model.graph.Graph;
+import org.elias.model.graph.CompactGraph;
+import org.elias.model.sort.PackedKeySorter;
+import org.elias.model.sort.PrimitiveSortKey;
+import org.elias.model.sort.WindFarmSortKey;
+import org.elias.util.SpatialGridIndex;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
 
 /**
  * Speichert alle aktuelle Windparke waehrend der Programmausfuehrung.
  * <p>
- * Wird von {@link WindFarmImporter} befuegt.
+ * Wird von {@link WindFarmImporter} befuegt. Die Liste der Windparks bleibt in Einfuegereihenfolge; sortierte
+ * Ausgaben erfolgen ueber zwischengespeicherte Sichten ({@link #getSortedView(String, Comparator)}).
  * Folgt dem Singleton-Pattern.
  */
 public class WindFarmRepository
@@ -23,11 +33,34 @@ public class WindFarmRepository
      */
     private final List<WindFarm> germanWindFarms = new ArrayList<>();
     /**
-     * Fehlerhafte Eintraege in der CSV-Datei und Fehlermeldung
+     * Fehlerhafte Eintraege in der CSV-Datei und Fehlermeldung in Dateireihenfolge
      */
-    Map<String[], String> invalidRows = new HashMap<>();
+    Map<String[], String> invalidRows = new LinkedHashMap<>();
 
-    Graph<WindFarm> windFarmGraph = null;
+    /**
+     * Kompakter Nachbarschaftsgraph, Vertex-ID entspricht der Windpark-ID
+     */
+    CompactGraph<WindFarm> compactWindFarmGraph = null;
+    /**
+     * Raeumlicher Index ueber die Windparks fuer Umkreissuchen
+     */
+    SpatialGridIndex<WindFarm> windFarmIndex = null;
+    /**
+     * Sortierreihenfolgen je Sichtname als Permutation der Positionen in germanWindFarms
+     */
+    private final Map<String, int[]> sortedViews = new HashMap<>();
+    /**
+     * Sortierte Sichten mit primitivem Schluessel ueber {@link PackedKeySorter} berechnen
+     */
+    private boolean parallelSortEnabled = false;
+    /**
+     * Spaltenweise Kopie der Windparks, wird bei Bedarf erstellt
+     */
+    private WindFarmColumnStore columnStore = null;
+    /**
+     * Gesamt- und Gruppenleistungen, werden bei Bedarf aus dem Spaltenspeicher berechnet
+     */
+    private PerformanceAggregation performanceAggregation = null;
 
     /**
      * Erzeugt eine neue Instanz des {@link WindFarmRepository}.
@@ -72,28 +105,187 @@ public class WindFarmRepository
         return invalidRows;
     }
 
-    public Graph<WindFarm> getWindFarmGraph ()
+    public CompactGraph<WindFarm> getCompactWindFarmGraph ()
+    {
+        return compactWindFarmGraph;
+    }
+
+    public void setCompactWindFarmGraph (CompactGraph<WindFarm> compactWindFarmGraph)
+    {
+        this.compactWindFarmGraph = compactWindFarmGraph;
+    }
+
+    public SpatialGridIndex<WindFarm> getWindFarmIndex ()
+    {
+        return windFarmIndex;
+    }
+
+    public void setWindFarmIndex (SpatialGridIndex<WindFarm> windFarmIndex)
+    {
+        this.windFarmIndex = windFarmIndex;
+    }
+
+    /**
+     * Liefert den Spaltenspeicher der Windparks und erstellt ihn beim ersten Zugriff.
+     *
+     * @return Spaltenspeicher in Reihenfolge von germanWindFarms.
+     * @precondition keine.
+     * @postcondition der Spaltenspeicher ist bis zur naechsten Aenderung zwischengespeichert.
+     */
+    public WindFarmColumnStore getColumnStore ()
+    {
+        if (columnStore == null)
+        {
+            columnStore = new WindFarmColumnStore(germanWindFarms);
+        }
+        return columnStore;
+    }
+
+    /**
+     * Liefert die Gesamt- und Gruppenleistungen der Windparks und berechnet sie beim ersten Zugriff.
+     *
+     * @return Leistungssummen ueber alle Windparks.
+     * @precondition keine.
+     * @postcondition die Leistungssummen sind bis zur naechsten Aenderung zwischengespeichert.
+     */
+    public PerformanceAggregation getPerformanceAggregation ()
+    {
+        if (performanceAggregation == null)
+        {
+            performanceAggregation = PerformanceAggregation.aggregate(getColumnStore());
+        }
+        return performanceAggregation;
+    }
+
+    public boolean isParallelSortEnabled ()
+    {
+        return parallelSortEnabled;
+    }
+
+    public void setParallelSortEnabled (boolean parallelSortEnabled)
+    {
+        this.parallelSortEnabled = parallelSortEnabled;
+    }
+
+    // --- Sortierte Sichten ---
+
+    /**
+     * Liefert die Windparks sortiert nach einem Comparator, ohne die Liste des Repositories zu veraendern.
+     * <p>
+     * Die Reihenfolge wird beim ersten Aufruf fuer {@code viewName} berechnet und bis zur naechsten Aenderung
+     * der Daten wiederverwendet.
+     *
+     * @param viewName   eindeutiger Name der Sortierung, bestimmt den Cache-Eintrag.
+     * @param comparator Sortierkriterium, wird nur bei der ersten Berechnung verwendet.
+     * @return unveraenderliche, sortierte Sicht auf die Windparks.
+     * @precondition beide Parameter sind nicht null, gleiche Namen stehen fuer gleiche Sortierungen.
+     * @postcondition die Reihenfolge ist fuer {@code viewName} zwischengespeichert.
+     */
+    public List<WindFarm> getSortedView (String viewName, Comparator<WindFarm> comparator)
+    {
+        return getSortedView(viewName, windFarms -> windFarms.sort(comparator));
+    }
+
+    /**
+     * Liefert die Windparks sortiert nach einem Kriterium mit primitivem Schluessel.
+     * <p>
+     * Ist der parallele Sortiermodus aktiv, wird die Reihenfolge ueber {@link PackedKeySorter} berechnet,
+     * sonst ueber den Comparator. Beide Wege liefern dieselbe Reihenfolge.
+     *
+     * @param viewName   eindeutiger Name der Sortierung, bestimmt den Cache-Eintrag.
+     * @param comparator Sortierkriterium fuer den sequenziellen Modus.
+     * @param key        gleichwertiger primitiver Schluessel fuer den parallelen Modus.
+     * @param descending true, falls {@code comparator} absteigend nach {@code key} sortiert.
+     * @return unveraenderliche, sortierte Sicht auf die Windparks.
+     * @precondition alle Parameter sind nicht null, {@code comparator} und {@code key} ordnen gleich.
+     * @postcondition die Reihenfolge ist fuer {@code viewName} zwischengespeichert.
+     */
+    public List<WindFarm> getSortedView (String viewName, Comparator<WindFarm> comparator, PrimitiveSortKey key,
+                                         boolean descending)
+    {
+        if (!parallelSortEnabled)
+        {
+            return getSortedView(viewName, comparator);
+        }
+
+        int[] permutation = sortedViews.computeIfAbsent(viewName,
+                name -> PackedKeySorter.sortPositions(getColumnStore(), key, descending));
+        return new SortedView(germanWindFarms, permutation);
+    }
+
+    /**
+     * Liefert die Windparks sortiert ueber vorberechnete {@link WindFarmSortKey}-Schluessel.
+     *
+     * @param viewName eindeutiger Name der Sortierung, bestimmt den Cache-Eintrag.
+     * @param order    Reihenfolge der Schluessel, wird nur bei der ersten Berechnung verwendet.
+     * @return unveraenderliche, sortierte Sicht auf die Windparks.
+     * @precondition beide Parameter sind nicht null, gleiche Namen stehen fuer gleiche Sortierungen.
+     * @postcondition die Reihenfolge ist fuer {@code viewName} zwischengespeichert.
+     */
+    public List<WindFarm> getSortedViewByKey (String viewName, Comparator<WindFarmSortKey> order)
+    {
+        return getSortedView(viewName, windFarms -> WindFarmSortKey.sort(windFarms, order));
+    }
+
+    /**
+     * Verwirft alle zwischengespeicherten Sortierreihenfolgen, den Spaltenspeicher und die Leistungssummen.
+     * <p>
+     * Muss aufgerufen werden, wenn Werte der Windparks direkt geaendert werden.
+     *
+     * @precondition keine.
+     * @postcondition alle abgeleiteten Daten werden beim naechsten Zugriff neu berechnet.
+     */
+    public void invalidateDerivedData ()
     {
-        return windFarmGraph;
+        sortedViews.clear();
+        columnStore = null;
+        performanceAggregation = null;
     }
 
-    public void setWindFarmGraph (Graph<WindFarm> windFarmGraph)
+    /**
+     * Liefert die zwischengespeicherte Sortierreihenfolge oder berechnet sie auf einer Kopie der Liste.
+     *
+     * @param viewName Name der Sortierung.
+     * @param sorter   sortiert die uebergebene Kopie.
+     * @return sortierte Sicht auf die Windparks.
+     * @precondition die Windpark-IDs entsprechen den Positionen in germanWindFarms.
+     * @postcondition germanWindFarms bleibt unveraendert.
+     */
+    private List<WindFarm> getSortedView (String viewName, Consumer<List<WindFarm>> sorter)
     {
-        this.windFarmGraph = windFarmGraph;
+        int[] permutation = sortedViews.get(viewName);
+
+        if (permutation == null)
+        {
+            List<WindFarm> sortedWindFarms = new ArrayList<>(germanWindFarms);
+            sorter.accept(sortedWindFarms);
+
+            permutation = new int[sortedWindFarms.size()];
+            for (int position = 0; position < permutation.length; position++)
+            {
+                permutation[position] = sortedWindFarms.get(position).getId();
+            }
+            sortedViews.put(viewName, permutation);
+        }
+        return new SortedView(germanWindFarms, permutation);
     }
 
     // --- Add-Methode ---
 
     /**
-     * Fuegt einen Windpark zum Repository hinzu.
+     * Fuegt einen Windpark zum Repository hinzu und vergibt seine ID.
+     * <p>
+     * Die ID entspricht der Einfuegeposition und bleibt auch erhalten, wenn die Liste spaeter sortiert wird.
      *
      * @param windFarm der hinzuzufuegende {@link WindFarm}.
      * @precondition windFarm darf nicht null sein.
-     * @postcondition der Windpark befindet sich in der Liste germanWindFarms.
+     * @postcondition der Windpark befindet sich in der Liste germanWindFarms und besitzt eine eindeutige ID.
      */
     public void addWindFarm (WindFarm windFarm)
     {
+        windFarm.setId(germanWindFarms.size());
         germanWindFarms.add(windFarm);
+        invalidateDerivedData();
     }
 
 
@@ -124,4 +316,31 @@ public class WindFarmRepository
     {
         invalidRows.put(row, errorMessage);
     }
+
+    /**
+     * Unveraenderliche Sicht auf eine Liste in der Reihenfolge einer Permutation.
+     */
+    private static final class SortedView extends AbstractList<WindFarm> implements RandomAccess
+    {
+        private final List<WindFarm> windFarms;
+        private final int[] permutation;
+
+        SortedView (List<WindFarm> windFarms, int[] permutation)
+        {
+            this.windFarms = windFarms;
+            this.permutation = permutation;
+        }
+
+        @Override
+        public WindFarm get (int index)
+        {
+            return windFarms.get(permutation[index]);
+        }
+
+        @Override
+        public int size ()
+        {
+            return permutation.length;
+        }
+    }
 }
@@ -1,10 +1,7 @@
 package org.elias.model.sort;
 
 import org.elias.model.WindFarm;
-import org.elias.model.WindTurbineGroup;
-import org.elias.res.constant.GeneralConstants;
 
-import java.time.Year;
 import java.util.Comparator;
 
 /**
@@ -27,36 +24,6 @@ public class LatestTurbineCommissioningComparator implements Comparator<WindFarm
     @Override
     public int compare (WindFarm windFarm1, WindFarm windFarm2)
     {
-
-        Year latest1 = getLatestYear(windFarm1);
-        Year latest2 = getLatestYear(windFarm2);
-
-        return latest1.compareTo(latest2);
-    }
-
-
-    /**
-     * Ermittelt das juengste Inbetriebnahmejahr aller Windturbinen-Gruppen eines Windparks.
-     *
-     * @param windFarm der Windpark, dessen juengstes Jahr bestimmt wird.
-     * @return das juengste Jahr oder {@code Year.of(0)}, falls keine Gruppe vorhanden ist.
-     * @precondition {@code windFarm} ist nicht null.
-     * @postcondition es wurde das Maximum der vorhandenen Jahreswerte bestimmt und zurueckgegeben.
-     */
-    private Year getLatestYear (WindFarm windFarm)
-    {
-        Year latestYear = null;
-
-        for (WindTurbineGroup group : windFarm.getWindTurbineGroups())
-        {
-            Year year = group.getManufactureYear();
-
-            if (latestYear == null || year.isAfter(latestYear))
-            {
-                latestYear = year;
-            }
-        }
-
-        return latestYear != null ? latestYear : Year.of(GeneralConstants.INT_ZERO);
+        return windFarm1.getLatestCommissioningYear().compareTo(windFarm2.getLatestCommissioningYear());
     }
 }
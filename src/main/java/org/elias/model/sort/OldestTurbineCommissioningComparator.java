@@ -1,10 +1,7 @@
 package org.elias.model.sort;
 
 import org.elias.model.WindFarm;
-import org.elias.model.WindTurbineGroup;
-import org.elias.res.constant.GeneralConstants;
 
-import java.time.Year;
 import java.util.Comparator;
 
 /**
@@ -27,36 +24,6 @@ public class OldestTurbineCommissioningComparator implements Comparator<WindFarm
     @Override
     public int compare (WindFarm windFarm1, WindFarm windFarm2)
     {
-
-        Year oldest1 = getOldestYear(windFarm1);
-        Year oldest2 = getOldestYear(windFarm2);
-
-        return oldest1.compareTo(oldest2);
-    }
-
-
-    /**
-     * Ermittelt das aelteste Inbetriebnahmejahr aller Windturbinen-Gruppen eines Windparks.
-     *
-     * @param windFarm der Windpark, dessen aeltesten Jahr bestimmt wird.
-     * @return das aelteste Jahr oder {@code Year.of(0)}, falls keine Gruppe vorhanden ist.
-     * @precondition {@code windFarm} ist nicht null.
-     * @postcondition es wurde das Minimum der vorhandenen Jahreswerte bestimmt und zurueckgegeben.
-     */
-    private Year getOldestYear (WindFarm windFarm)
-    {
-        Year oldestYear = null;
-
-        for (WindTurbineGroup group : windFarm.getWindTurbineGroups())
-        {
-            Year year = group.getManufactureYear();
-
-            if ((oldestYear == null || year.isBefore(oldestYear)) && year.getValue() != GeneralConstants.INT_ZERO)
-            {
-                oldestYear = year;
-            }
-        }
-
-        return oldestYear != null ? oldestYear : Year.of(GeneralConstants.INT_ZERO);
+        return windFarm1.getOldestCommissioningYear().compareTo(windFarm2.getOldestCommissioningYear());
     }
 }
@@ -0,0 +1,62 @@
+package org.elias.model.sort;
+
+import org.elias.model.service.WindFarmColumnStore;
+import org.elias.res.constant.GeneralConstants;
+
+import java.util.Arrays;
+
+/**
+ * Sortiert Windparks ueber primitive Schluessel mit {@link Arrays#parallelSort(long[])}.
+ * <p>
+ * Pro Windpark wird aus den Spalten eines {@link WindFarmColumnStore} ein {@code long} aus Schluessel (obere
+ * 32 Bit) und Listenposition (untere 32 Bit) gebildet.
+ * Sortiert werden nur diese Werte, ohne Comparator-Aufrufe und Objektzugriffe. Gleiche Schluessel bleiben
+ * durch die Position in Listenreihenfolge, das Ergebnis entspricht also einer stabilen Sortierung.
+ */
+public final class PackedKeySorter
+{
+    /**
+     * Privater Konstruktor, die Klasse bietet nur statische Methoden.
+     *
+     * @precondition keine.
+     * @postcondition keine.
+     */
+    private PackedKeySorter ()
+    {
+    }
+
+    /**
+     * Ermittelt die sortierte Reihenfolge der Windparks.
+     *
+     * @param columnStore Spalten der Windparks.
+     * @param key         Sortierkriterium.
+     * @param descending  true fuer absteigende Reihenfolge, gleiche Schluessel bleiben in Listenreihenfolge.
+     * @return Positionen der Windparks in sortierter Reihenfolge.
+     * @precondition beide Objekt-Parameter sind nicht null.
+     * @postcondition der Spaltenspeicher bleibt unveraendert.
+     */
+    public static int[] sortPositions (WindFarmColumnStore columnStore, PrimitiveSortKey key, boolean descending)
+    {
+        long[] packedKeys = new long[columnStore.size()];
+
+        for (int position = 0; position < packedKeys.length; position++)
+        {
+            int sortKey = key.extract(columnStore, position);
+            if (descending)
+            {
+                sortKey = ~sortKey;
+            }
+
+            packedKeys[position] = ((long) sortKey << Integer.SIZE) | position;
+        }
+
+        Arrays.parallelSort(packedKeys);
+
+        int[] positions = new int[packedKeys.length];
+        for (int i = 0; i < packedKeys.length; i++)
+        {
+            positions[i] = (int) (packedKeys[i] & GeneralConstants.UNSIGNED_INT_MASK);
+        }
+        return positions;
+    }
+}
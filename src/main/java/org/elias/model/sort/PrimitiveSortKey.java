@@ -0,0 +1,67 @@
+package org.elias.model.sort;
+
+import org.elias.model.service.WindFarmColumnStore;
+import org.elias.res.constant.GeneralConstants;
+
+/**
+ * Sortierkriterien, deren Schluessel sich als {@code int} darstellen lassen.
+ * <p>
+ * Die Reihenfolge der Schluessel entspricht der aufsteigenden Reihenfolge des jeweiligen Comparators
+ * ({@code Float.compare} bzw. {@code Integer.compare}), sodass {@link PackedKeySorter} dieselbe Ordnung liefert.
+ */
+public enum PrimitiveSortKey
+{
+    /**
+     * ID der ersten Windturbinen-Gruppe, wie {@link IdComparator}.
+     */
+    ID,
+    /**
+     * Breitengrad, wie {@link LatitudeComparator}.
+     */
+    LATITUDE,
+    /**
+     * Gesamtleistung aufsteigend, wie {@code new TotalPerformanceComparator().reversed()}.
+     */
+    TOTAL_PERFORMANCE,
+    /**
+     * Anzahl der Windturbinen, wie {@link WindTurbineCountComparator}.
+     */
+    WIND_TURBINE_COUNT;
+
+    /**
+     * Liefert den Schluessel eines Windparks aus dem Spaltenspeicher.
+     *
+     * @param columnStore Spalten der Windparks.
+     * @param position    Position des Windparks.
+     * @return Schluessel, dessen {@code int}-Ordnung der Ordnung des Kriteriums entspricht.
+     * @precondition {@code columnStore} ist nicht null, {@code position} liegt in {@code 0..size()-1}.
+     * @postcondition der Spaltenspeicher bleibt unveraendert.
+     */
+    public int extract (WindFarmColumnStore columnStore, int position)
+    {
+        return switch (this)
+        {
+            case ID -> columnStore.getRegistryId(position);
+            case LATITUDE -> toOrderedInt(columnStore.getLatitude(position));
+            case TOTAL_PERFORMANCE -> toOrderedInt(columnStore.getTotalPerformance(position));
+            case WIND_TURBINE_COUNT -> columnStore.getWindTurbineCount(position);
+        };
+    }
+
+    /**
+     * Bildet einen {@code float} ordnungserhaltend auf einen {@code int} ab.
+     * <p>
+     * Bei negativen Werten werden die Bits ausser dem Vorzeichen invertiert; die Ordnung entspricht damit
+     * {@link Float#compare(float, float)} einschliesslich {@code -0.0f < 0.0f} und NaN als groesstem Wert.
+     *
+     * @param value der Wert.
+     * @return ordnungserhaltende Darstellung.
+     * @precondition keine.
+     * @postcondition keine.
+     */
+    private static int toOrderedInt (float value)
+    {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> (Integer.SIZE - GeneralConstants.INT_ONE)) & Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,128 @@
+package org.elias.model.sort;
+
+import org.elias.model.ProjectManager;
+import org.elias.model.WindFarm;
+import org.elias.res.constant.GeneralConstants;
+import org.elias.util.TopKSelector;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Vorberechnete Sortierschluessel eines {@link WindFarm}-Objekts.
+ * <p>
+ * Fuer Sortierungen, deren Vergleich pro Aufruf Listen durchlaufen muesste, werden die Schluessel mit
+ * {@link #sort(List, Comparator)} einmal pro Windpark berechnet, die Schluessel sortiert und die Windparks
+ * anschliessend in dieser Reihenfolge zurueckgeschrieben. Die Windparks selbst werden dabei nicht veraendert.
+ */
+public final class WindFarmSortKey
+{
+    /**
+     * Aufsteigend nach Anzahl der Projektleiter, bei Gleichheit nach dem alphabetisch ersten Projektleiter.
+     */
+    public static final Comparator<WindFarmSortKey> MANAGER_COUNT_ORDER = WindFarmSortKey::compareManagers;
+
+    /**
+     * Aufsteigend nach Anzahl der Windturbinen, danach wie {@link #MANAGER_COUNT_ORDER}.
+     */
+    public static final Comparator<WindFarmSortKey> TURBINE_MANAGER_COUNT_ORDER =
+            Comparator.comparingInt(WindFarmSortKey::getWindTurbineCount).thenComparing(MANAGER_COUNT_ORDER);
+
+    private final WindFarm windFarm;
+    private final int windTurbineCount;
+    private final int projectManagerCount;
+    private final ProjectManager firstProjectManager;
+
+    /**
+     * Berechnet die Sortierschluessel eines Windparks.
+     *
+     * @param windFarm der Windpark.
+     * @precondition {@code windFarm} ist nicht null.
+     * @postcondition der Windpark und seine Projektleiterliste bleiben unveraendert.
+     */
+    public WindFarmSortKey (WindFarm windFarm)
+    {
+        List<ProjectManager> projectManagers = windFarm.getProjectManagers();
+
+        this.windFarm = windFarm;
+        this.windTurbineCount = windFarm.getWindTurbineCount();
+        this.projectManagerCount = projectManagers.size();
+        this.firstProjectManager = projectManagers.isEmpty()
+                ? null
+                : TopKSelector.findMin(projectManagers, Comparator.naturalOrder());
+    }
+
+    // --- Getter ---
+
+    public WindFarm getWindFarm ()
+    {
+        return windFarm;
+    }
+
+    public int getWindTurbineCount ()
+    {
+        return windTurbineCount;
+    }
+
+    public int getProjectManagerCount ()
+    {
+        return projectManagerCount;
+    }
+
+    public ProjectManager getFirstProjectManager ()
+    {
+        return firstProjectManager;
+    }
+
+    /**
+     * Sortiert Windparks ueber ihre vorberechneten Schluessel (Decorate-Sort-Undecorate).
+     * <p>
+     * Die Sortierung ist stabil, gleichwertige Windparks behalten ihre Reihenfolge.
+     *
+     * @param windFarms die zu sortierende Liste.
+     * @param order     Reihenfolge der Schluessel.
+     * @precondition beide Parameter sind nicht null, die Liste ist veraenderbar.
+     * @postcondition die Liste ist nach {@code order} sortiert, die Windparks selbst sind unveraendert.
+     */
+    public static void sort (List<WindFarm> windFarms, Comparator<WindFarmSortKey> order)
+    {
+        WindFarmSortKey[] keys = new WindFarmSortKey[windFarms.size()];
+        int index = GeneralConstants.INT_ZERO;
+
+        for (WindFarm windFarm : windFarms)
+        {
+            keys[index++] = new WindFarmSortKey(windFarm);
+        }
+
+        Arrays.sort(keys, order);
+
+        ListIterator<WindFarm> iterator = windFarms.listIterator();
+        for (WindFarmSortKey key : keys)
+        {
+            iterator.next();
+            iterator.set(key.windFarm);
+        }
+    }
+
+    /**
+     * Vergleicht zwei Schluessel nach Anzahl der Projektleiter und danach nach dem alphabetisch ersten.
+     *
+     * @param key1 der erste Schluessel.
+     * @param key2 der zweite Schluessel.
+     * @return negativ, 0 oder positiv wie {@link Comparator#compare(Object, Object)}.
+     * @precondition beide Parameter sind nicht null.
+     * @postcondition keine.
+     */
+    private static int compareManagers (WindFarmSortKey key1, WindFarmSortKey key2)
+    {
+        int result = Integer.compare(key1.projectManagerCount, key2.projectManagerCount);
+
+        if (result == GeneralConstants.INT_ZERO && key1.firstProjectManager != null)
+        {
+            return key1.firstProjectManager.compareTo(key2.firstProjectManager);
+        }
+        return result;
+    }
+}
@@ -11,9 +11,14 @@ public interface ErrorMessages
     String TABLE_CONTROLLER_ALREADY_INITIALIZED = "TableController wurde schon initialisiert!";
 
     String ERROR_READING_CSV = "Fehler beim Lesen der CSV-Datei: ";
+    String CSV_LINE_TOO_LONG = "CSV-Zeile ist laenger als das groesste Mapping-Fenster ab Byte ";
+    String ERROR_WRITING_SNAPSHOT = "Snapshot konnte nicht gespeichert werden: ";
+    String INVALID_SNAPSHOT = "Snapshot ist beschaedigt oder unvollstaendig";
+    String INVALID_LOCAL_SEARCH_BUDGET = "Ungueltiges Zeitbudget fuer die lokale Suche, Standardwert wird verwendet: ";
     String NO_WINDFARM = "Error: No Wind Farms found";
 
     String NULL_COORDINATES = "Coordinates cannot be null";
+    String INVALID_MANUFACTURE_YEAR = "Invalid manufacture year: ";
     String INVALID_INPUT = "Invalid input. Please enter a number";
     String INVALID_NUMBER = "Invalid input. Please select an action";
 
@@ -25,4 +30,5 @@ public interface ErrorMessages
             "Invalid input. Please select a starting windfarm from the list by choosing a number within the allowed range.";
 
     String NO_SUCH_VERTEX = "Vertex is not part of current edge";
+    String INVALID_GRAPH_ARRAYS = "Graph arrays do not match the vertex count";
 }
@@ -11,19 +11,31 @@ public interface GeneralConstants
      * Pfad zur CSV-Datei mit den Windkraftanlagen.
      */
     String PATH_TO_CSV = "src/main/resources/Windkraftanlagen_DE.csv";
+    /**
+     * Ablage des Snapshots des normalisierten Repositories: relativ zum Benutzerverzeichnis, sofern nicht per
+     * -Dwindfarm.snapshot.path=... ein anderer Pfad angegeben ist. Per -Dwindfarm.snapshot=false abschaltbar.
+     */
+    String SNAPSHOT_DIRECTORY = ".cache/windfarm";
+    String SNAPSHOT_FILE_NAME = "Windkraftanlagen_DE.snapshot";
+    String USER_HOME_PROPERTY = "user.home";
+    String SNAPSHOT_PROPERTY = "windfarm.snapshot";
+    String SNAPSHOT_PATH_PROPERTY = "windfarm.snapshot.path";
 
     // Konstanten für leere Deklarierungen von Variablen
     String EMPTY_STRING = "";
     int EMPTY_INT_VARIABLE = 0;
     float EMPTY_FLOAT_VARIABLE = 0.0f;
+    int UNASSIGNED_ID = -1;
 
     // Haufig verwendete Zeichen und Symbole
-    String DASH = "-";
-    String EN_DASH = "–";
     String QUESTION_MARK = "?";
-    String OPEN_BRACKET = "(";
+    char CHAR_DASH = '-';
+    char CHAR_EN_DASH = '–';
+    char CHAR_OPEN_BRACKET = '(';
+    char CHAR_CLOSED_BRACKET = ')';
     char CHAR_DOUBLE_QUOTES = '"';
     char CHAR_COMMA = ',';
+    char CHAR_SEMICOLON = ';';
     char CHAR_SPACE = ' ';
     char CHAR_POINT = '.';
 
@@ -56,7 +68,63 @@ public interface GeneralConstants
     int NEXT_INDEX_OFFSET = 1;
     int YEAR_NUMBER_SIZE = 4;
 
+    // Raeumlicher Index: Sicherheitsaufschlag auf die Zellgroesse gegen Rundungsfehler
+    double SPATIAL_GRID_CELL_MARGIN = 1.001;
+    double MAX_LATITUDE_DEGREES = 90.0;
+    long UNSIGNED_INT_MASK = 0xFFFFFFFFL;
+
+    // Anfangskapazitaet fuer Kanten beim Aufbau des kompakten Graphen
+    int COMPACT_GRAPH_INITIAL_EDGES = 1024;
+
+    // Paralleler Import: Windpark-Bloecke pro Stapel und pro Fork/Join-Teilaufgabe
+    int PARALLEL_IMPORT_BATCH_SIZE = 4096;
+    int PARALLEL_IMPORT_THRESHOLD = 64;
+
+    // Sortierung ueber gepackte primitive Schluessel, per -Dwindfarm.parallelSort=true|false erzwingbar.
+    // Laut PackedKeySorterBenchmark lohnt sich der Spaltenspeicher ab 1024 Windparks nach 1-3 sortierten Sichten,
+    // darunter nach 3-5 bei weniger als 0,1 ms je Sortierung
+    int PARALLEL_SORT_THRESHOLD = 1024;
+    String PARALLEL_SORT_PROPERTY = "windfarm.parallelSort";
+
+    // Leistungssummen: Windparks pro Fork/Join-Teilaufgabe
+    int PARALLEL_AGGREGATION_THRESHOLD = 4096;
+
+    // Inkrementeller Import: 64-Bit-FNV-1a ueber alle Zellen eines Windpark-Blocks
+    long BLOCK_HASH_OFFSET_BASIS = 0xCBF29CE484222325L;
+    long BLOCK_HASH_PRIME = 0x100000001B3L;
+
+    // Binaerer Snapshot: Kennung "WFSN", Formatversion und Art des gespeicherten Nachbarschaftsgraphen
+    int SNAPSHOT_MAGIC = 0x5746534E;
+    int SNAPSHOT_VERSION = 5;
+    int SNAPSHOT_HEADER_BYTES = 44;
+    byte SNAPSHOT_NO_GRAPH = 0;
+    byte SNAPSHOT_COMPACT_GRAPH = 1;
+    int SNAPSHOT_NULL_LENGTH = -1;
+    String SNAPSHOT_TEMP_SUFFIX = ".tmp";
+
     int MAX_TURBINES_PER_DAY = 4;
     float AVERAGE_SPEED_KMH = 110.0f;
     Duration MAX_DAILY_DRIVE_TIME = Duration.ofHours(2);
+
+    // Vorfilter ueber Sehnenlaengen: Sicherheitsaufschlag gegen Rundungsfehler
+    double CHORD_DISTANCE_RELATIVE_TOLERANCE = 1.0e-6;
+    double CHORD_DISTANCE_ABSOLUTE_TOLERANCE = 1.0e-20;
+    String VECTOR_API_MODULE = "jdk.incubator.vector";
+
+    // Distanzmatrizen fuer Routen- und Wartungsplanung
+    int DISTANCE_MATRIX_MAX_WIND_FARMS = 256;
+    int DISTANCE_MATRIX_CACHE_SIZE = 16;
+    float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    // Nearest-Neighbor-Route: kleinster Zellradius des raeumlichen Index
+    float NEAREST_NEIGHBOR_MIN_CELL_RADIUS_KM = 1.0f;
+
+    // Lokale Suche (2-opt / Or-opt) nach der Nearest-Neighbor-Route, Zeitbudget per -Dwindfarm.localSearchBudgetMs
+    Duration LOCAL_SEARCH_TIME_BUDGET = Duration.ofMillis(500);
+    String LOCAL_SEARCH_BUDGET_PROPERTY = "windfarm.localSearchBudgetMs";
+    int LOCAL_SEARCH_NEIGHBOR_COUNT = 8;
+    int LOCAL_SEARCH_MAX_SEGMENT_LENGTH = 3;
+    // Groesster Suchradius fuer Nachbarlisten ueber den raeumlichen Index, danach wird linear gesucht
+    float LOCAL_SEARCH_MAX_GRID_RADIUS_KM = 160.0f;
+    double LOCAL_SEARCH_EPSILON = 1.0e-9;
 }
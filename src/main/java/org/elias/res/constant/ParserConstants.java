@@ -4,15 +4,12 @@ import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Konstanten fuer Parser-Operationen und regulaere Ausdruecke zur Zerlegung von CSV‑Daten.
+ * Konstanten fuer Parser-Operationen zur Zerlegung von CSV‑Daten.
  */
 public interface ParserConstants
 {
-    String YEAR_SPLIT_REGEX = "[-–]";
-    String COMMA_SEMICOLON_SPLIT_REGEX = "[,;]";
-    String CLOSED_BRACKET_REGEX = "\\)";
-
-    int LAST_ELEMENT_OFFSET = 1;
+    // Anzahl der Windturbinen, wenn ein Typ ohne Klammer angegeben ist
+    int DEFAULT_TURBINE_COUNT = 1;
 
     HashMap<String, String> UMLAUT_REPLACEMENT = new HashMap<>(Map.of(
             "Ä", "AE",
@@ -31,4 +28,22 @@ public interface ParserConstants
     float ROUNDING_FACTOR = 10000.0f;
     int KW_TO_MW_FACTOR = 1000;
 
+    // Konstanten fuer MappedCSVTokenizer
+    char CHAR_CARRIAGE_RETURN = '\r';
+    char CHAR_LINE_FEED = '\n';
+    int UNSIGNED_BYTE_MASK = 0xFF;
+    long MAPPED_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    // Konstanten fuer NumericCellParser
+    char CHAR_ZERO = '0';
+    char CHAR_PLUS = '+';
+    char CHAR_MINUS = '-';
+    int DECIMAL_RADIX = 10;
+    int MAX_FAST_INT_DIGITS = 10;
+    // 10^15 < 2^53: Mantisse und Zehnerpotenz sind als double exakt
+    int MAX_FAST_DECIMAL_DIGITS = 15;
+    // Die 29 Mantissenbits, die beim Runden von double auf float wegfallen, und ihr Wert genau in der Mitte
+    long FLOAT_ROUNDING_BITS_MASK = (1L << 29) - 1;
+    long FLOAT_HALFWAY_BITS = 1L << 28;
+
 }
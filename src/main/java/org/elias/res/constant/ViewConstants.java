@@ -21,12 +21,17 @@ public interface ViewConstants
     String HIGHEST_PERFORMANCE_MESSAGE = "The wind-farm with highest performance is: ";
     String MOST_TURBINES_MESSAGE = "The wind-farm with most turbines is: ";
     String TOTAL_PERFORMANCE_MESSAGE = "The total performance of all wind-farms is %.2f MW";
+    String DISTRICT_PERFORMANCE_HEADER = "District   Wind-farms   Turbines   Total performance";
+    String DISTRICT_PERFORMANCE_ROW = "%-8s %12d %10d %16.2f MW";
+    String COMMISSIONING_YEAR_PERFORMANCE_HEADER = "Total performance by year of latest commissioning:";
+    String COMMISSIONING_YEAR_PERFORMANCE_ROW = "%s: %10.2f MW";
     String UPDATED_PERFORMANCE_MESSAGE = "Updated the performance data of %d wind farms.";
     String CONVERTED_PERFORMANCE_NAME = "%s: converted %.2f kW to %.4f MW";
     String CALCULATED_PERFORMANCE_NAME = "%s: calculated from the adjacent wind farm %.4f MW";
     String CHOICE_PROJECT_MANAGER_MESSAGE = "Select a wind‑park manager to develop the work plan:";
     String CHOICE_START_POINT_MESSAGE = "Choose the plan’s starting point:";
     String INDEX_DATA_MESSAGE = "{ %d }  -->  %s";
+    String PROJECT_MANAGER_DATA_MESSAGE = "{ %d }  -->  %s (%d wind farms, %.2f MW)";
 
     String DAY_HEADER_FORMAT = "   --- DAY %d ---";
     String WIND_FARM_LABEL = " Wind farm: %s";
@@ -106,6 +111,8 @@ public interface ViewConstants
             ║  2. Find wind-farm with highest performance        ║
             ║  3. Find wind-farm with most turbines              ║
             ║  4. Calculate total power of all wind-farms        ║
+            ║  5. Show total power per district                  ║
+            ║  6. Show total power per commissioning year        ║
             ║                                                    ║
             ║  0. Return to main menu                            ║
             ╚════════════════════════════════════════════════════╝
@@ -163,6 +170,8 @@ public interface ViewConstants
     int FIND_HIGHEST_PERFORMANCE = 2;
     int FIND_MOST_TURBINES = 3;
     int CALCULATE_TOTAL_PERFORMACE = 4;
+    int PERFORMANCE_BY_DISTRICT = 5;
+    int PERFORMANCE_BY_COMMISSIONING_YEAR = 6;
 
     // Konstante, die fuer Tabellenausgabe verwendet werden
     int TOTAL_TABLE_WIDTH = 100;
@@ -29,56 +29,73 @@ public class CSVLineParser
 
         for (String row : dataRows)
         {
-            String[] cells = new String[GeneralConstants.COLUMN_COUNT];
-            StringBuilder currentCell = new StringBuilder();
+            result.add(parseLine(row));
+        }
+
+        return result;
+    }
 
-            boolean insideQuotes = false;
-            int cellIndex = GeneralConstants.INT_ZERO;
 
-            for (int i = 0; i < row.length(); i++)
+    /**
+     * Zerlegt eine einzelne CSV-Zeile in ihre Datenfelder.
+     * <p>
+     * Kommas innerhalb von Anführungszeichen sowie Kommas, denen ein Leerzeichen folgt,
+     * werden nicht als Trennzeichen interpretiert.
+     *
+     * @param row eine Zeile aus einer CSV-Datei.
+     * @return String-Array mit {@link GeneralConstants#COLUMN_COUNT} Eintraegen; nicht vorhandene Zellen sind null.
+     * @precondition {@code row} ist nicht null.
+     * @postcondition die Zellen sind getrimmt und enthalten keine Anfuehrungszeichen.
+     */
+    public static String[] parseLine (String row)
+    {
+        String[] cells = new String[GeneralConstants.COLUMN_COUNT];
+        StringBuilder currentCell = new StringBuilder();
+
+        boolean insideQuotes = false;
+        int cellIndex = GeneralConstants.INT_ZERO;
+
+        for (int i = 0; i < row.length(); i++)
+        {
+            char currentChar = row.charAt(i);
+
+            if (currentChar == GeneralConstants.CHAR_DOUBLE_QUOTES)
             {
-                char currentChar = row.charAt(i);
+                insideQuotes = !insideQuotes;
+                continue;
+            }
 
-                if (currentChar == GeneralConstants.CHAR_DOUBLE_QUOTES)
+            // Kommas als Spaltentrenner nur außerhalb von Anfuehrungszeichen
+            if (currentChar == GeneralConstants.CHAR_COMMA && !insideQuotes)
+            {
+                // Wenn nach dem Komma ein Leerzeichen folgt → Teil des Inhalts der Zelle
+                if (i + GeneralConstants.INT_ONE < row.length()
+                        && row.charAt(i + GeneralConstants.INT_ONE) == GeneralConstants.CHAR_SPACE)
                 {
-                    insideQuotes = !insideQuotes;
-                    continue;
-                }
-
-                // Kommas als Spaltentrenner nur außerhalb von Anfuehrungszeichen
-                if (currentChar == GeneralConstants.CHAR_COMMA && !insideQuotes)
+                    currentCell.append(currentChar);
+                } else
                 {
-                    // Wenn nach dem Komma ein Leerzeichen folgt → Teil des Inhalts der Zelle
-                    if (i + GeneralConstants.INT_ONE < row.length()
-                            && row.charAt(i + GeneralConstants.INT_ONE) == GeneralConstants.CHAR_SPACE)
-                    {
-                        currentCell.append(currentChar);
-                    } else
-                    {
-                        cells[cellIndex++] = currentCell.toString().trim();
-                        currentCell.setLength(GeneralConstants.INT_ZERO);
+                    cells[cellIndex++] = currentCell.toString().trim();
+                    currentCell.setLength(GeneralConstants.INT_ZERO);
 
-                        if (cellIndex >= GeneralConstants.COLUMN_COUNT)
-                        {
-                            break;
-                        }
+                    if (cellIndex >= GeneralConstants.COLUMN_COUNT)
+                    {
+                        break;
                     }
-                    continue;
                 }
-
-                // Normales Zeichen → zur aktuellen Zelle addieren
-                currentCell.append(currentChar);
+                continue;
             }
 
-            if (cellIndex < GeneralConstants.COLUMN_COUNT)
-            {
-                cells[cellIndex] = currentCell.toString().trim();
-            }
+            // Normales Zeichen → zur aktuellen Zelle addieren
+            currentCell.append(currentChar);
+        }
 
-            result.add(cells);
+        if (cellIndex < GeneralConstants.COLUMN_COUNT)
+        {
+            cells[cellIndex] = currentCell.toString().trim();
         }
 
-        return result;
+        return cells;
     }
 
 }
@@ -0,0 +1,39 @@
+package org.elias.util;
+
+/**
+ * Eine nach Zellen zerlegte CSV-Datenzeile, wie sie {@link org.elias.model.service.WindFarmFactory} verarbeitet.
+ * <p>
+ * Implementiert von {@link StringCSVRow} (bereits dekodierte Zellen aus {@link CSVLineParser#parseLine(String)})
+ * und {@link MappedCSVRow} (Zellen als Ausschnitte einer speichergemappten Datei). Beide liefern dieselben Inhalte.
+ */
+public interface CSVRow
+{
+    /**
+     * Liefert den Inhalt einer Zelle als {@code String}.
+     *
+     * @param column Spaltenindex.
+     * @return der getrimmte Zellinhalt ohne Anfuehrungszeichen oder null, falls die Zeile weniger Zellen hat.
+     * @precondition {@code column < GeneralConstants.COLUMN_COUNT}.
+     * @postcondition keine.
+     */
+    String getCell (int column);
+
+    /**
+     * Liefert den Inhalt einer Zelle als Zeichenfolge fuer {@link NumericCellParser}.
+     *
+     * @param column Spaltenindex.
+     * @return derselbe Inhalt wie {@link #getCell(int)}, eventuell ohne ihn als {@code String} zu dekodieren.
+     * @precondition {@code column < GeneralConstants.COLUMN_COUNT}.
+     * @postcondition keine.
+     */
+    CharSequence getCellSequence (int column);
+
+    /**
+     * Liefert alle Zellen der Zeile.
+     *
+     * @return String-Array im Format von {@link CSVLineParser#parseLine(String)}.
+     * @precondition keine.
+     * @postcondition keine.
+     */
+    String[] toCells ();
+}
@@ -0,0 +1,107 @@
+package org.elias.util;
+
+import org.elias.res.constant.ErrorMessages;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Liest eine CSV-Datei zeilenweise und liefert jede Datenzeile bereits nach Zellen zerlegt.
+ * <p>
+ * Im Gegensatz zu {@link CSVFileReader#convertCSVtoList(String)} wird nie die ganze Datei im Speicher gehalten:
+ * Es wird immer nur die naechste Zeile gelesen und mit {@link CSVLineParser#parseLine(String)} zerlegt.
+ * Die erste Zeile (Header) wird ignoriert.
+ */
+public final class CSVRowIterator implements Iterator<String[]>, AutoCloseable
+{
+    private BufferedReader input = null;
+    private String nextLine = null;
+
+    /**
+     * Oeffnet die CSV-Datei und ueberspringt den Header.
+     *
+     * @param pathToCSV Pfad zur CSV-Datei.
+     * @precondition Der angegebene Pfad verweist auf eine existierende gueltige Datei.
+     * @postcondition bei Fehlern wird eine Fehlermeldung ausgegeben und der Iterator ist leer.
+     */
+    public CSVRowIterator (String pathToCSV)
+    {
+        try
+        {
+            input = new BufferedReader(new FileReader(pathToCSV));
+
+            // Erste Zeile (Header) ueberspringen
+            input.readLine();
+            nextLine = input.readLine();
+        } catch (IOException e)
+        {
+            System.err.println(ErrorMessages.ERROR_READING_CSV + e.getMessage());
+            close();
+        }
+    }
+
+    @Override
+    public boolean hasNext ()
+    {
+        return nextLine != null;
+    }
+
+    /**
+     * Liefert die naechste Datenzeile und liest die darauffolgende Zeile vor.
+     *
+     * @return die Zellen der naechsten Datenzeile.
+     * @throws NoSuchElementException falls keine weitere Zeile vorhanden ist.
+     * @precondition {@link #hasNext()} liefert true.
+     * @postcondition der Iterator steht auf der folgenden Zeile; bei Lesefehlern ist er erschoepft.
+     */
+    @Override
+    public String[] next ()
+    {
+        if (nextLine == null)
+        {
+            throw new NoSuchElementException();
+        }
+
+        String[] cells = CSVLineParser.parseLine(nextLine);
+
+        try
+        {
+            nextLine = input.readLine();
+        } catch (IOException e)
+        {
+            System.err.println(ErrorMessages.ERROR_READING_CSV + e.getMessage());
+            close();
+        }
+
+        return cells;
+    }
+
+    /**
+     * Schliesst die zugrunde liegende Datei.
+     *
+     * @precondition keine.
+     * @postcondition die Datei ist geschlossen und der Iterator liefert keine weiteren Zeilen.
+     */
+    @Override
+    public void close ()
+    {
+        nextLine = null;
+
+        if (input == null)
+        {
+            return;
+        }
+
+        try
+        {
+            input.close();
+        } catch (IOException e)
+        {
+            System.err.println(ErrorMessages.ERROR_READING_CSV + e.getMessage());
+        }
+        input = null;
+    }
+}
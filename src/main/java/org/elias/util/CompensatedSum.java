@@ -0,0 +1,100 @@
+package org.elias.util;
+
+/**
+ * Summiert {@code double}-Werte in mehreren Gruppen mit Fehlerkompensation (Kahan-Babuska/Neumaier).
+ * <p>
+ * Pro Gruppe wird neben der Summe der beim Addieren verlorene Rundungsfehler mitgefuehrt und erst beim Auslesen
+ * aufgeschlagen. Der Fehler der Summe haengt damit praktisch nicht mehr von der Anzahl der Summanden ab. Teilsummen,
+ * etwa aus einer parallelen Reduktion, lassen sich mit {@link #addAll(CompensatedSum)} zusammenfuehren.
+ */
+public final class CompensatedSum
+{
+    private final double[] sums;
+    private final double[] compensations;
+    private final int[] counts;
+
+    /**
+     * Erstellt leere Summen fuer die Gruppen {@code 0..size-1}.
+     *
+     * @param size Anzahl der Gruppen.
+     * @precondition {@code size} ist nicht negativ.
+     * @postcondition alle Summen und Anzahlen sind 0.
+     */
+    public CompensatedSum (int size)
+    {
+        this.sums = new double[size];
+        this.compensations = new double[size];
+        this.counts = new int[size];
+    }
+
+    // --- Getter ---
+
+    public int size ()
+    {
+        return sums.length;
+    }
+
+    public double getSum (int group)
+    {
+        return sums[group] + compensations[group];
+    }
+
+    public int getCount (int group)
+    {
+        return counts[group];
+    }
+
+    /**
+     * Addiert einen Wert zu einer Gruppe.
+     *
+     * @param group Gruppe.
+     * @param value Summand.
+     * @precondition {@code group} liegt in {@code 0..size()-1}.
+     * @postcondition Summe und Anzahl der Gruppe sind aktualisiert.
+     */
+    public void add (int group, double value)
+    {
+        addCompensated(group, value);
+        counts[group]++;
+    }
+
+    /**
+     * Fuehrt die Summen einer gleich grossen Teilsumme gruppenweise hinzu.
+     *
+     * @param other die Teilsumme.
+     * @precondition {@code other} ist nicht null und hat dieselbe Groesse.
+     * @postcondition die Summen und Anzahlen von {@code other} sind enthalten, {@code other} bleibt unveraendert.
+     */
+    public void addAll (CompensatedSum other)
+    {
+        for (int group = 0; group < sums.length; group++)
+        {
+            addCompensated(group, other.sums[group]);
+            addCompensated(group, other.compensations[group]);
+            counts[group] += other.counts[group];
+        }
+    }
+
+    /**
+     * Addiert einen Wert zur Summe einer Gruppe und merkt sich den Rundungsfehler.
+     *
+     * @param group Gruppe.
+     * @param value Summand.
+     * @precondition {@code group} liegt in {@code 0..size()-1}.
+     * @postcondition Summe und Kompensation der Gruppe sind aktualisiert.
+     */
+    private void addCompensated (int group, double value)
+    {
+        double sum = sums[group];
+        double newSum = sum + value;
+
+        if (Math.abs(sum) >= Math.abs(value))
+        {
+            compensations[group] += (sum - newSum) + value;
+        } else
+        {
+            compensations[group] += (value - newSum) + sum;
+        }
+        sums[group] = newSum;
+    }
+}
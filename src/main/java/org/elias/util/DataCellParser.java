@@ -20,20 +20,18 @@ import java.util.Map;
 public class DataCellParser
 {
     /**
-     * Wandelt einen uebergebenen Roh-String in eine ganzzahlige Objekt-ID um.
-     *
-     * @param raw der Roh-String, der die Objekt-ID enthaelt.
-     * @return die geparste Objekt-ID als integer.
-     * @precondition der Parameter {@code raw} ist nicht null und ist eine
-     * ganzzahlige Darstellung.
-     * @postcondition gibt den ganzzahlige Wert zurueck.
+     * Alle Schreibweisen der Landkreiskuerzel, mit und ohne Umlaute, mit ihrem {@link Districts}-Wert
      */
-    public static int parseObjectID (String raw)
+    private static final Map<String, Districts> DISTRICTS_BY_CODE = new HashMap<>();
+
+    static
     {
-        return Integer.parseInt(raw.trim());
+        for (Districts district : Districts.values())
+        {
+            addDistrictSpellings(district, district.name(), GeneralConstants.INT_ZERO);
+        }
     }
 
-
     /**
      * Wandelt einen uebergebenen Roh-String in den Namen des Windkraftparks um.
      *
@@ -50,10 +48,15 @@ public class DataCellParser
 
     /**
      * Wandelt einen uebergebenen Roh-String in ein ganzzahliges Datum um.
+     * <p>
+     * Jahresbereiche werden in einem Durchlauf ueber die Zeichen zerlegt: das letzte nicht leere Teilstueck wird
+     * verwendet, wenn es (getrimmt) vierstellig ist, sonst das erste.
      *
      * @param raw der Roh-String, der das Baujahr bzw. einen Jahresbereich enthaelt.
      * @return das Baujahr der Windkraftanlage als ganzzahliger Wert. Falls {@code raw} null,
      * leer oder ein Fragezeichen ist, wird 0 zurueckgegeben.
+     * @throws NumberFormatException falls das gewaehlte Teilstueck keine Zahl ist oder {@code raw} nur aus
+     * Bindestrichen besteht.
      * @precondition der Parameter {@code raw} enthaelt keine Buchstaben. null, leeres String
      * oder Fragezeichen sind erlaubt.
      * @postcondition gibt den geparsten ganzzahligen Wert zurueck. Bei Jahresbereich wird das letzte Jahr verwendet.
@@ -65,44 +68,51 @@ public class DataCellParser
             return Year.of(GeneralConstants.EMPTY_INT_VARIABLE);
         }
 
-        if (raw.contains(GeneralConstants.DASH) || raw.contains(GeneralConstants.EN_DASH))
+        int firstEnd = GeneralConstants.INT_ZERO;
+        while (firstEnd < raw.length() && !isYearSeparator(raw.charAt(firstEnd)))
         {
-            String[] parts = raw.split(ParserConstants.YEAR_SPLIT_REGEX);
+            firstEnd++;
+        }
 
-            // Wenn das letzte Element 4-stellig - verwenden, sonst das erste Element verwenden.
-            raw = parts[parts.length - ParserConstants.LAST_ELEMENT_OFFSET].trim().length()
-                    == GeneralConstants.YEAR_NUMBER_SIZE
-                    ? parts[parts.length - ParserConstants.LAST_ELEMENT_OFFSET]
-                    : parts[GeneralConstants.INT_ZERO];
+        if (firstEnd == raw.length())
+        {
+            return Year.of(NumericCellParser.parseInt(raw, GeneralConstants.INT_ZERO, raw.length()));
         }
 
-        return Year.of(Integer.parseInt(raw.trim()));
-    }
+        // Letztes nicht leeres Teilstueck, nachfolgende Bindestriche werden uebersprungen
+        int lastEnd = raw.length();
+        while (lastEnd > GeneralConstants.INT_ZERO && isYearSeparator(raw.charAt(lastEnd - GeneralConstants.INT_ONE)))
+        {
+            lastEnd--;
+        }
 
+        if (lastEnd == GeneralConstants.INT_ZERO)
+        {
+            throw new NumberFormatException(ErrorMessages.INVALID_MANUFACTURE_YEAR + raw);
+        }
 
-    /**
-     * Wandelt einen uebergebenen Roh-String in eine float-Leistung um.
-     *
-     * @param raw der Roh-String, der die Leistung eines Windkraftparks enthaelt.
-     * @return die Leistung des Windkraftparks als float-Wert. Falls {@code raw} null oder leer ist,
-     * wird 0.0f zurueckgegeben.
-     * @precondition der Parameter {@code raw} enthaelt keine Buchstaben oder Fragezeichen. null und
-     * leeres String sind erlaubt.
-     * @postcondition gibt den geparsten float-Wert zurueck.
-     */
-    public static float parseTotalPerformance (String raw)
-    {
-        if (raw == null || raw.isEmpty())
+        int lastStart = lastEnd;
+        while (lastStart > GeneralConstants.INT_ZERO
+                && !isYearSeparator(raw.charAt(lastStart - GeneralConstants.INT_ONE)))
         {
-            return GeneralConstants.EMPTY_FLOAT_VARIABLE;
+            lastStart--;
         }
 
-        return Float.parseFloat(raw.trim());
+        if (trimmedLength(raw, lastStart, lastEnd) == GeneralConstants.YEAR_NUMBER_SIZE)
+        {
+            return Year.of(NumericCellParser.parseInt(raw, lastStart, lastEnd));
+        }
+        return Year.of(NumericCellParser.parseInt(raw, GeneralConstants.INT_ZERO, firstEnd));
     }
 
+
     /**
      * Parst einen Roh-String, der Windturbinentypen und deren Anzahl enthaelt,
      * und wandelt ihn in eine Map aus Turbinentyp → Anzahl um.
+     * <p>
+     * Die Eintraege werden in einem Durchlauf an den schliessenden Klammern zerlegt ({@link String#indexOf(int, int)}
+     * statt {@code split}). Innerhalb eines Eintrags steht die Anzahl zwischen der letzten oeffnenden Klammer und dem
+     * letzten Zeichen (dem Suffix "×").
      *
      * @param raw Der Roh-String, der die Turbinentypen enthaelt. Darf null oder leer sein.
      * @return Eine Map, die jedem Turbinentyp seine Anzahl zuordnet. Bei ungueltigen oder
@@ -119,30 +129,44 @@ public class DataCellParser
             return result;
         }
 
-        // Mit schliessenden Klammern aufteilen
-        String[] turbineSegments = raw.split(ParserConstants.CLOSED_BRACKET_REGEX);
+        // Schliessende Klammern am Ende ergeben keine weiteren Eintraege
+        int end = raw.length();
+        while (end > GeneralConstants.INT_ZERO
+                && raw.charAt(end - GeneralConstants.INT_ONE) == GeneralConstants.CHAR_CLOSED_BRACKET)
+        {
+            end--;
+        }
 
-        for (String segment : turbineSegments)
+        if (end == GeneralConstants.INT_ZERO)
         {
-            String windTurbine = GeneralConstants.EMPTY_STRING;
-            String count = Integer.toString(GeneralConstants.INT_ONE);
+            return result;
+        }
 
-            // Pruefen, ob Anzahl angegeben wurde
-            if (segment.contains(GeneralConstants.OPEN_BRACKET))
+        int segmentStart = GeneralConstants.INT_ZERO;
+        while (true)
+        {
+            int segmentEnd = raw.indexOf(GeneralConstants.CHAR_CLOSED_BRACKET, segmentStart);
+            if (segmentEnd == GeneralConstants.UNASSIGNED_ID || segmentEnd > end)
             {
-                int openParenIndex = segment.lastIndexOf(GeneralConstants.OPEN_BRACKET);
+                segmentEnd = end;
+            }
 
-                // Typ extrahieren
-                windTurbine = segment.substring(GeneralConstants.INT_ZERO, openParenIndex).trim();
-                // Anzahl extrahieren (zwischen '(' und '×)')
-                count = segment.substring(openParenIndex + GeneralConstants.INT_ONE,
-                        segment.length() - GeneralConstants.INT_ONE);
+            int openBracket = raw.lastIndexOf(GeneralConstants.CHAR_OPEN_BRACKET,
+                    segmentEnd - GeneralConstants.INT_ONE);
+            if (openBracket >= segmentStart)
+            {
+                result.put(trimmedSubstring(raw, segmentStart, openBracket), parseTurbineCount(raw,
+                        openBracket + GeneralConstants.INT_ONE, segmentEnd - GeneralConstants.INT_ONE));
             } else
             {
-                windTurbine = segment.trim();
+                result.put(trimmedSubstring(raw, segmentStart, segmentEnd), ParserConstants.DEFAULT_TURBINE_COUNT);
             }
 
-            result.put(windTurbine, Integer.parseInt(count));
+            if (segmentEnd == end)
+            {
+                break;
+            }
+            segmentStart = segmentEnd + GeneralConstants.INT_ONE;
         }
 
         return result;
@@ -166,10 +190,13 @@ public class DataCellParser
     /**
      * Wandelt einen Roh-String in einen {@link Districts}-Enumwert um.
      * <p>
-     * Dabei werden die Umlaute mit {@code ParserConstants.UMLAUT_REPLACEMENT} ersetzt.
+     * Das Kuerzel wird direkt in einer vorberechneten Tabelle aller Schreibweisen nachgeschlagen, Umlaute muessen
+     * dafuer nicht ersetzt werden. Nur unbekannte Kuerzel gehen den Weg ueber {@link Districts#valueOf(String)},
+     * um dieselbe Ausnahme wie bisher zu liefern.
      *
      * @param raw der Roh-String, der den Landkreisnamen enthaelt.
      * @return entsprechende {@link Districts}-Enumwert oder null.
+     * @throws IllegalArgumentException falls das Kuerzel keinem Landkreis entspricht.
      * @precondition der Parameter {@code raw} enthaelt einen gueltigen Landkreisnamen oder ist null, leer.
      * @postcondition gibt entweder passenden Enumwert oder null zurueck.
      */
@@ -180,39 +207,18 @@ public class DataCellParser
             return null;
         }
 
-        for (String letter : ParserConstants.UMLAUT_REPLACEMENT.keySet())
+        Districts district = DISTRICTS_BY_CODE.get(raw.trim());
+        if (district != null)
         {
-            raw = raw.replace(letter, ParserConstants.UMLAUT_REPLACEMENT.get(letter));
+            return district;
         }
 
-        return Districts.valueOf(raw.trim());
-    }
-
-
-    /**
-     * Wandelt zwei Roh-String für Breiten- und Laengengrad und wandelt sie in ein float-Array um.
-     *
-     * @param latStr Der Roh-String für den Breitengrad. Darf nicht null sein.
-     * @param lonStr Der Roh-String für den Laengengrad. Darf nicht null sein.
-     * @return Ein float-Array {@code {latitude, longitude}}.
-     * @throws IllegalArgumentException wenn einer der Parameter null ist.
-     * @precondition Beide Parameter sind nicht null und enthalten gueltige Float-Werte.
-     * @postcondition Gibt ein Array der Laenge 2 zurueck, bestehend aus Breitengrad und Laengengrad.
-     */
-    public static float[] parseCoordinates (String latStr, String lonStr)
-    {
-        if (latStr == null || lonStr == null)
+        for (String letter : ParserConstants.UMLAUT_REPLACEMENT.keySet())
         {
-            throw new IllegalArgumentException(ErrorMessages.NULL_COORDINATES);
+            raw = raw.replace(letter, ParserConstants.UMLAUT_REPLACEMENT.get(letter));
         }
 
-        latStr = latStr.trim();
-        lonStr = lonStr.trim();
-
-        float lat = Float.parseFloat(latStr);
-        float lon = Float.parseFloat(lonStr);
-
-        return new float[]{lat, lon};
+        return Districts.valueOf(raw.trim());
     }
 
 
@@ -236,17 +242,21 @@ public class DataCellParser
             return result;
         }
 
-        // Mit Komma oder Semikolon aufteilen
-        String[] parts = raw.split(ParserConstants.COMMA_SEMICOLON_SPLIT_REGEX);
-
-        for (String part : parts)
+        // Bei Komma, Semikolon oder Zeilenende endet ein Name
+        int nameStart = GeneralConstants.INT_ZERO;
+        for (int i = 0; i <= raw.length(); i++)
         {
-            String trimmed = part.trim();
+            if (i < raw.length() && raw.charAt(i) != GeneralConstants.CHAR_COMMA
+                    && raw.charAt(i) != GeneralConstants.CHAR_SEMICOLON)
+            {
+                continue;
+            }
 
-            if (trimmed.length() > GeneralConstants.INT_ONE)
+            if (trimmedLength(raw, nameStart, i) > GeneralConstants.INT_ONE)
             {
-                result.add(trimmed);
+                result.add(trimmedSubstring(raw, nameStart, i));
             }
+            nameStart = i + GeneralConstants.INT_ONE;
         }
 
         return result;
@@ -266,4 +276,118 @@ public class DataCellParser
         return raw.trim();
     }
 
+
+    /**
+     * Traegt alle Schreibweisen eines Landkreiskuerzels ein, bei denen ab {@code from} beliebige Umschreibungen
+     * (z.B. "UE") durch ihren Umlaut ersetzt sind.
+     *
+     * @param district der Landkreis.
+     * @param code     bisherige Schreibweise.
+     * @param from     erster Index, ab dem noch Umschreibungen ersetzt werden.
+     * @precondition {@code district} und {@code code} sind nicht null.
+     * @postcondition jede Schreibweise, die nach Ersetzen der Umlaute {@code district.name()} ergibt, ist eingetragen.
+     */
+    private static void addDistrictSpellings (Districts district, String code, int from)
+    {
+        for (int i = from; i < code.length(); i++)
+        {
+            for (Map.Entry<String, String> replacement : ParserConstants.UMLAUT_REPLACEMENT.entrySet())
+            {
+                if (code.startsWith(replacement.getValue(), i))
+                {
+                    addDistrictSpellings(district, code, i + replacement.getValue().length());
+                    addDistrictSpellings(district, code.substring(GeneralConstants.INT_ZERO, i) + replacement.getKey()
+                            + code.substring(i + replacement.getValue().length()), i + replacement.getKey().length());
+                    return;
+                }
+            }
+        }
+        DISTRICTS_BY_CODE.put(code, district);
+    }
+
+
+    /**
+     * Prueft, ob ein Zeichen Jahre eines Jahresbereichs trennt.
+     *
+     * @param character das Zeichen.
+     * @return true bei Bindestrich oder Halbgeviertstrich.
+     * @precondition keine.
+     * @postcondition keine.
+     */
+    private static boolean isYearSeparator (char character)
+    {
+        return character == GeneralConstants.CHAR_DASH || character == GeneralConstants.CHAR_EN_DASH;
+    }
+
+
+    /**
+     * Parst die Anzahl zwischen Klammer und Suffix; Leerraum am Rand ist wie bei {@link Integer#parseInt(String)}
+     * nicht erlaubt.
+     *
+     * @param raw   der Roh-String.
+     * @param start erster Index der Anzahl (inklusive).
+     * @param end   letzter Index der Anzahl (exklusive).
+     * @return die Anzahl.
+     * @throws NumberFormatException           falls der Bereich keine ganze Zahl ist.
+     * @throws StringIndexOutOfBoundsException falls {@code start > end}.
+     * @precondition {@code raw} ist nicht null.
+     * @postcondition keine.
+     */
+    private static int parseTurbineCount (String raw, int start, int end)
+    {
+        if (start < end && raw.charAt(start) > GeneralConstants.CHAR_SPACE
+                && raw.charAt(end - GeneralConstants.INT_ONE) > GeneralConstants.CHAR_SPACE)
+        {
+            return NumericCellParser.parseInt(raw, start, end);
+        }
+        return Integer.parseInt(raw.substring(start, end));
+    }
+
+
+    /**
+     * Liefert die Laenge eines Bereichs ohne Leerraum am Rand, wie {@link String#trim()}.
+     *
+     * @param raw   der Roh-String.
+     * @param start erster Index (inklusive).
+     * @param end   letzter Index (exklusive).
+     * @return Laenge des getrimmten Bereichs.
+     * @precondition {@code 0 <= start <= end <= raw.length()}.
+     * @postcondition keine.
+     */
+    private static int trimmedLength (String raw, int start, int end)
+    {
+        while (start < end && raw.charAt(start) <= GeneralConstants.CHAR_SPACE)
+        {
+            start++;
+        }
+        while (end > start && raw.charAt(end - GeneralConstants.INT_ONE) <= GeneralConstants.CHAR_SPACE)
+        {
+            end--;
+        }
+        return end - start;
+    }
+
+
+    /**
+     * Schneidet einen Bereich ohne Leerraum am Rand aus, wie {@code raw.substring(start, end).trim()}.
+     *
+     * @param raw   der Roh-String.
+     * @param start erster Index (inklusive).
+     * @param end   letzter Index (exklusive).
+     * @return der getrimmte Bereich.
+     * @precondition {@code 0 <= start <= end <= raw.length()}.
+     * @postcondition keine.
+     */
+    private static String trimmedSubstring (String raw, int start, int end)
+    {
+        while (start < end && raw.charAt(start) <= GeneralConstants.CHAR_SPACE)
+        {
+            start++;
+        }
+        while (end > start && raw.charAt(end - GeneralConstants.INT_ONE) <= GeneralConstants.CHAR_SPACE)
+        {
+            end--;
+        }
+        return raw.substring(start, end);
+    }
 }
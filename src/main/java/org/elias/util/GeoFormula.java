@@ -9,6 +9,13 @@ import org.elias.res.constant.GeneralConstants;
  */
 public class GeoFormula
 {
+    /**
+     * Die Vector API ist ein Inkubator-Modul und nur verfuegbar, wenn es beim Start hinzugefuegt wurde; die
+     * Pruefung erfolgt einmal zur Laufzeit
+     */
+    private static final boolean VECTOR_API_AVAILABLE =
+            ModuleLayer.boot().findModule(GeneralConstants.VECTOR_API_MODULE).isPresent();
+
     /**
      * Berechnet die Entfernung zwischen zwei geografischen Punkten mithilfe der Haversine-Formel.
      * <p>
@@ -23,20 +30,149 @@ public class GeoFormula
      * @postcondition der Rueckgabewert ist die berechnete Distanz in Kilometern.
      */
     public static double haversineDistance (float latitude1, float latitude2, float longitude1, float longitude2)
+    {
+        return haversineDistance(latitude1, latitude2, longitude1, longitude2,
+                Math.cos(Math.toRadians(latitude1)), Math.cos(Math.toRadians(latitude2)));
+    }
+
+    /**
+     * Berechnet die Haversine-Entfernung mit bereits berechneten Kosinus-Werten der Breitengrade.
+     * <p>
+     * Liefert bitgenau dasselbe Ergebnis wie {@link #haversineDistance(float, float, float, float)}, spart aber
+     * die Kosinus-Berechnung, wenn ein Punkt mit vielen anderen verglichen wird.
+     *
+     * @param latitude1    Breitengrad des ersten Punktes.
+     * @param latitude2    Breitengrad des zweiten Punktes.
+     * @param longitude1   Laengengrad des ersten Punktes.
+     * @param longitude2   Laengengrad des zweiten Punktes.
+     * @param cosLatitude1 {@code Math.cos(Math.toRadians(latitude1))}.
+     * @param cosLatitude2 {@code Math.cos(Math.toRadians(latitude2))}.
+     * @return Entfernung der beiden Punkte in Kilometern.
+     * @precondition alle Koordinaten sind in Grad angegeben und gueltig.
+     * @postcondition der Rueckgabewert ist die berechnete Distanz in Kilometern.
+     */
+    public static double haversineDistance (float latitude1, float latitude2, float longitude1, float longitude2,
+                                            double cosLatitude1, double cosLatitude2)
     {
         double deltaLatitude = Math.toRadians(latitude2 - latitude1);
         double deltaLongitude = Math.toRadians(longitude2 - longitude1);
+        double sinHalfDeltaLatitude = Math.sin(deltaLatitude / GeneralConstants.INT_TWO);
+        double sinHalfDeltaLongitude = Math.sin(deltaLongitude / GeneralConstants.INT_TWO);
 
-        double havTheta = Math.sin(deltaLatitude / GeneralConstants.INT_TWO)
-                * Math.sin(deltaLatitude / GeneralConstants.INT_TWO)
-                + Math.cos(Math.toRadians(latitude1))
-                * Math.cos(Math.toRadians(latitude2))
-                * Math.sin(deltaLongitude / GeneralConstants.INT_TWO)
-                * Math.sin(deltaLongitude / GeneralConstants.INT_TWO);
+        double havTheta = sinHalfDeltaLatitude * sinHalfDeltaLatitude
+                + cosLatitude1 * cosLatitude2 * sinHalfDeltaLongitude * sinHalfDeltaLongitude;
 
         double theta = GeneralConstants.INT_TWO * Math.asin(Math.sqrt(havTheta));
 
         return theta * GeneralConstants.EARTH_RADIUS_KM;
     }
 
+    /**
+     * Berechnet die quadrierten Sehnenlaengen von einem Ursprung zu mehreren Punkten auf der Einheitskugel.
+     * <p>
+     * Die Punkte liegen spaltenweise als kartesische Einheitsvektoren vor ({@link #toUnitVector(float, float)}).
+     * Die Sehnenlaenge waechst streng monoton mit der Haversine-Distanz und benoetigt nur Multiplikationen und
+     * Additionen. Wurde das Modul {@code jdk.incubator.vector} beim Start hinzugefuegt
+     * ({@code java --add-modules jdk.incubator.vector}), wird die Berechnung mit der Vector API ausgefuehrt, sonst
+     * skalar; ohne das Modul wird {@link VectorHaversineKernel} nie geladen. Beide Wege rechnen dieselben
+     * Operationen in derselben Reihenfolge und liefern bitgleiche Ergebnisse.
+     *
+     * @param origin    Einheitsvektor des Ursprungs ({@code x, y, z}).
+     * @param unitX     x-Komponenten aller Punkte.
+     * @param unitY     y-Komponenten aller Punkte.
+     * @param unitZ     z-Komponenten aller Punkte.
+     * @param indices   Indizes der zu berechnenden Punkte.
+     * @param count     Anzahl der gueltigen Eintraege in {@code indices}.
+     * @param distances Ergebnis-Array, Eintrag {@code k} gehoert zu {@code indices[k]}.
+     * @precondition alle Arrays sind nicht null, {@code distances.length >= count}.
+     * @postcondition die ersten {@code count} Eintraege von {@code distances} sind gesetzt.
+     */
+    public static void squaredChordDistances (double[] origin, double[] unitX, double[] unitY, double[] unitZ,
+                                              int[] indices, int count, double[] distances)
+    {
+        if (VECTOR_API_AVAILABLE)
+        {
+            VectorHaversineKernel.squaredChordDistances(origin, unitX, unitY, unitZ, indices, count, distances);
+            return;
+        }
+
+        for (int k = 0; k < count; k++)
+        {
+            distances[k] = squaredChordDistance(origin, unitX[indices[k]], unitY[indices[k]], unitZ[indices[k]]);
+        }
+    }
+
+    /**
+     * Berechnet die quadrierte Sehnenlaenge zwischen einem Ursprung und einem Punkt auf der Einheitskugel.
+     *
+     * @param origin Einheitsvektor des Ursprungs ({@code x, y, z}).
+     * @param x      x-Komponente des Punktes.
+     * @param y      y-Komponente des Punktes.
+     * @param z      z-Komponente des Punktes.
+     * @return quadrierte Sehnenlaenge.
+     * @precondition {@code origin} hat drei Komponenten.
+     * @postcondition keine.
+     */
+    static double squaredChordDistance (double[] origin, double x, double y, double z)
+    {
+        double deltaX = x - origin[GeneralConstants.INT_ZERO];
+        double deltaY = y - origin[GeneralConstants.INT_ONE];
+        double deltaZ = z - origin[GeneralConstants.INT_TWO];
+
+        return deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ;
+    }
+
+    /**
+     * Rechnet eine Haversine-Distanz in eine obere Schranke fuer die quadrierte Sehnenlaenge um.
+     * <p>
+     * Jeder Punkt, dessen Haversine-Distanz (als {@code float}) kleiner als {@code distanceKm} ist, hat eine
+     * quadrierte Sehnenlaenge kleiner oder gleich dem Ergebnis. Ein Sicherheitsaufschlag deckt Rundungsfehler ab.
+     *
+     * @param distanceKm Distanz in Kilometern.
+     * @return Schranke fuer {@link #squaredChordDistances(double[], double[], double[], double[], int[], int,
+     * double[])}.
+     * @precondition {@code distanceKm >= 0}.
+     * @postcondition keine.
+     */
+    public static double squaredChordBound (double distanceKm)
+    {
+        double halfChord = Math.sin(Math.min(distanceKm / (GeneralConstants.INT_TWO * GeneralConstants.EARTH_RADIUS_KM),
+                Math.PI / GeneralConstants.INT_TWO));
+        double squaredChord = GeneralConstants.INT_TWO * GeneralConstants.INT_TWO * halfChord * halfChord;
+
+        return withChordTolerance(squaredChord);
+    }
+
+    /**
+     * Erhoeht eine quadrierte Sehnenlaenge um den Sicherheitsaufschlag gegen Rundungsfehler.
+     *
+     * @param squaredChord quadrierte Sehnenlaenge.
+     * @return die vergroesserte Sehnenlaenge; alle Punkte mit hoechstens gleicher Haversine-Distanz liegen darunter.
+     * @precondition {@code squaredChord >= 0}.
+     * @postcondition Rueckgabewert ist groesser als {@code squaredChord}.
+     */
+    public static double withChordTolerance (double squaredChord)
+    {
+        return squaredChord * (GeneralConstants.INT_ONE + GeneralConstants.CHORD_DISTANCE_RELATIVE_TOLERANCE)
+                + GeneralConstants.CHORD_DISTANCE_ABSOLUTE_TOLERANCE;
+    }
+
+    /**
+     * Rechnet eine Koordinate in einen kartesischen Einheitsvektor um.
+     *
+     * @param latitude  Breitengrad in Grad.
+     * @param longitude Laengengrad in Grad.
+     * @return Einheitsvektor {@code x, y, z}.
+     * @precondition keine.
+     * @postcondition der Vektor hat die Laenge 1 (bis auf Rundung).
+     */
+    public static double[] toUnitVector (float latitude, float longitude)
+    {
+        double latitudeRadians = Math.toRadians(latitude);
+        double longitudeRadians = Math.toRadians(longitude);
+        double cosLatitude = Math.cos(latitudeRadians);
+
+        return new double[]{cosLatitude * Math.cos(longitudeRadians), cosLatitude * Math.sin(longitudeRadians),
+                Math.sin(latitudeRadians)};
+    }
 }
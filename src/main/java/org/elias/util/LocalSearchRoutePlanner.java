@@ -0,0 +1,591 @@
+package org.elias.util;
+
+import org.elias.model.WindFarm;
+import org.elias.model.service.DistanceMatrix;
+import org.elias.model.service.DistanceService;
+import org.elias.res.constant.GeneralConstants;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Implementiert eine Routenplanung mit lokaler Verbesserung.
+ * <p>
+ * Die Startroute wird mit {@link NearestNeighborRoutePlanner} bestimmt und anschliessend mit 2-opt
+ * (Umkehren eines Teilstuecks) und Or-opt (Verschieben von 1 bis 3 aufeinanderfolgenden Windparks)
+ * verkuerzt. Die Route ist ein offener Pfad mit festem Start-Windpark.
+ * <p>
+ * Fuer jeden Windpark werden nur Zuege zu seinen naechsten Nachbarn betrachtet. Windparks, bei denen
+ * kein verbessernder Zug gefunden wurde, werden erst wieder geprueft, wenn sich ihre Umgebung aendert
+ * (Don't-Look-Bits). Die Suche endet, wenn keine Verbesserung mehr moeglich ist oder das Zeitbudget
+ * aufgebraucht ist. Distanzen stammen, sofern verfuegbar, aus der Distanzmatrix des {@link DistanceService}.
+ * Implementiert {@link RoutePlanner}.
+ */
+public class LocalSearchRoutePlanner implements RoutePlanner
+{
+    private final RoutePlanner seedPlanner = new NearestNeighborRoutePlanner();
+    private final Duration timeBudget;
+
+    /**
+     * Erstellt einen Planer mit dem Standard-Zeitbudget {@link GeneralConstants#LOCAL_SEARCH_TIME_BUDGET}.
+     *
+     * @precondition keine.
+     * @postcondition der Planer ist einsatzbereit.
+     */
+    public LocalSearchRoutePlanner ()
+    {
+        this(GeneralConstants.LOCAL_SEARCH_TIME_BUDGET);
+    }
+
+    /**
+     * Erstellt einen Planer mit einem eigenen Zeitbudget fuer die lokale Suche.
+     *
+     * @param timeBudget maximale Dauer der Verbesserungsphase nach der Nearest-Neighbor-Route
+     *                   (Aufbau der Nachbarlisten und lokale Suche).
+     * @precondition {@code timeBudget} ist nicht null und nicht negativ.
+     * @postcondition der Planer ist einsatzbereit.
+     */
+    public LocalSearchRoutePlanner (Duration timeBudget)
+    {
+        this.timeBudget = timeBudget;
+    }
+
+    /**
+     * Berechnet eine Besuchsreihenfolge und verbessert sie durch lokale Suche.
+     *
+     * @param windFarms Liste aller zu besuchenden Windparks.
+     * @param start     Start-Windpark der Route.
+     * @return Liste der Windparks in der berechneten Besuchsreihenfolge.
+     * @precondition {@code start} ist Element von {@code windFarms}.
+     * @postcondition jeder Windpark aus {@code windFarms} kommt genau einmal in der Rueckgabeliste vor,
+     * {@code start} steht an erster Stelle und die Route ist nicht laenger als die Nearest-Neighbor-Route.
+     */
+    @Override
+    public List<WindFarm> calculateRoute (List<WindFarm> windFarms, WindFarm start)
+    {
+        List<WindFarm> seedRoute = seedPlanner.calculateRoute(windFarms, start);
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+
+        if (seedRoute.size() <= GeneralConstants.INT_TWO)
+        {
+            return seedRoute;
+        }
+
+        LocalSearch localSearch = new LocalSearch(seedRoute);
+        localSearch.improve(deadline);
+
+        List<WindFarm> route = new ArrayList<>(seedRoute.size());
+        for (int node : localSearch.tour)
+        {
+            route.add(seedRoute.get(node));
+        }
+        return route;
+    }
+
+    /**
+     * Zustand einer lokalen Suche ueber eine Route.
+     * <p>
+     * Windparks werden ueber ihre Position in der Startroute als Knoten {@code 0..n-1} angesprochen;
+     * Knoten 0 ist der feste Start.
+     */
+    private static class LocalSearch
+    {
+        private final int size;
+        private final float[] latitudes;
+        private final float[] longitudes;
+        /**
+         * Distanzmatrix der Windparks oder null, falls die Distanzen direkt berechnet werden
+         */
+        private final DistanceMatrix matrix;
+        /**
+         * Position jedes Knotens in der Distanzmatrix
+         */
+        private final int[] matrixIndices;
+
+        /**
+         * Knoten an jeder Position der Route
+         */
+        private final int[] tour;
+        /**
+         * Position jedes Knotens in der Route
+         */
+        private final int[] positions;
+        /**
+         * Naechste Nachbarn jedes Knotens, aufsteigend nach Entfernung
+         */
+        private final int[][] neighbors;
+
+        private final Deque<Integer> activeNodes = new ArrayDeque<>();
+        private final boolean[] isActive;
+
+        /**
+         * Initialisiert die Suche mit der Startroute.
+         *
+         * @param seedRoute Startroute, erster Windpark ist der Start.
+         * @precondition {@code seedRoute} enthaelt mehr als zwei Windparks.
+         * @postcondition alle Knoten sind aktiv, die Nachbarlisten sind berechnet.
+         */
+        LocalSearch (List<WindFarm> seedRoute)
+        {
+            size = seedRoute.size();
+            latitudes = new float[size];
+            longitudes = new float[size];
+            tour = new int[size];
+            positions = new int[size];
+            isActive = new boolean[size];
+
+            for (int node = 0; node < size; node++)
+            {
+                latitudes[node] = seedRoute.get(node).getCoordinates().getLatitude();
+                longitudes[node] = seedRoute.get(node).getCoordinates().getLongitude();
+                tour[node] = node;
+                positions[node] = node;
+                activate(node);
+            }
+
+            matrix = DistanceService.getInstance().getDistanceMatrix(seedRoute);
+            matrixIndices = new int[size];
+            for (int node = 0; node < size && matrix != null; node++)
+            {
+                matrixIndices[node] = matrix.indexOf(seedRoute.get(node));
+            }
+
+            neighbors = calculateNeighbors(seedRoute);
+        }
+
+        /**
+         * Wendet verbessernde Zuege an, bis kein Knoten mehr aktiv ist oder die Frist ablaeuft.
+         *
+         * @param deadline Zeitpunkt im Format von {@link System#nanoTime()}, zu dem die Suche endet.
+         * @precondition keine.
+         * @postcondition die Route ist nicht laenger als zuvor.
+         */
+        void improve (long deadline)
+        {
+            while (!activeNodes.isEmpty() && System.nanoTime() < deadline)
+            {
+                int node = activeNodes.poll();
+                isActive[node] = false;
+
+                if (tryTwoOpt(node) || tryOrOpt(node))
+                {
+                    activate(node);
+                }
+            }
+        }
+
+        /**
+         * Sucht einen verbessernden 2-opt-Zug, der eine Kante zwischen {@code node} und einem Nachbarn erzeugt.
+         *
+         * @param node betrachteter Knoten.
+         * @return true, falls ein Zug angewendet wurde.
+         * @precondition keine.
+         * @postcondition bei Rueckgabe true ist die Route kuerzer geworden.
+         */
+        private boolean tryTwoOpt (int node)
+        {
+            for (int neighbor : neighbors[node])
+            {
+                int first = Math.min(positions[node], positions[neighbor]);
+                int last = Math.max(positions[node], positions[neighbor]);
+
+                if (last <= first + GeneralConstants.INT_ONE)
+                {
+                    continue;
+                }
+
+                // Nachfolger-Kanten ersetzen: Teilstueck (first, last] umkehren
+                double delta = distance(tour[first], tour[last])
+                        - distance(tour[first], tour[first + GeneralConstants.INT_ONE])
+                        + distanceOrZero(first + GeneralConstants.INT_ONE, last + GeneralConstants.INT_ONE)
+                        - distanceOrZero(last, last + GeneralConstants.INT_ONE);
+
+                if (delta < -GeneralConstants.LOCAL_SEARCH_EPSILON)
+                {
+                    activateAround(first, last + GeneralConstants.INT_ONE);
+                    reverse(first + GeneralConstants.INT_ONE, last);
+                    return true;
+                }
+
+                // Vorgaenger-Kanten ersetzen: Teilstueck [first, last) umkehren, der Start bleibt fest
+                if (first >= GeneralConstants.INT_ONE)
+                {
+                    delta = distance(tour[first], tour[last])
+                            + distance(tour[first - GeneralConstants.INT_ONE], tour[last - GeneralConstants.INT_ONE])
+                            - distance(tour[first - GeneralConstants.INT_ONE], tour[first])
+                            - distance(tour[last - GeneralConstants.INT_ONE], tour[last]);
+
+                    if (delta < -GeneralConstants.LOCAL_SEARCH_EPSILON)
+                    {
+                        activateAround(first - GeneralConstants.INT_ONE, last);
+                        reverse(first, last - GeneralConstants.INT_ONE);
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Sucht einen verbessernden Or-opt-Zug, der ein Teilstueck mit {@code node} als Endpunkt neben einen
+         * Nachbarn von {@code node} verschiebt.
+         *
+         * @param node betrachteter Knoten.
+         * @return true, falls ein Zug angewendet wurde.
+         * @precondition keine.
+         * @postcondition bei Rueckgabe true ist die Route kuerzer geworden.
+         */
+        private boolean tryOrOpt (int node)
+        {
+            int position = positions[node];
+
+            for (int length = 1; length <= GeneralConstants.LOCAL_SEARCH_MAX_SEGMENT_LENGTH; length++)
+            {
+                // Teilstueck beginnt bei node oder endet bei node
+                if (tryMoveSegment(node, position, position + length - GeneralConstants.INT_ONE)
+                        || tryMoveSegment(node, position - length + GeneralConstants.INT_ONE, position))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Versucht, das Teilstueck {@code [first, last]} neben einen Nachbarn von {@code node} zu verschieben.
+         *
+         * @param node  Endpunkt des Teilstuecks, der an den Nachbarn angrenzen soll.
+         * @param first erste Position des Teilstuecks.
+         * @param last  letzte Position des Teilstuecks.
+         * @return true, falls ein Zug angewendet wurde.
+         * @precondition {@code node} liegt an {@code first} oder {@code last}.
+         * @postcondition bei Rueckgabe true ist die Route kuerzer geworden.
+         */
+        private boolean tryMoveSegment (int node, int first, int last)
+        {
+            if (first < GeneralConstants.INT_ONE || last >= size)
+            {
+                return false;
+            }
+
+            int before = first - GeneralConstants.INT_ONE;
+            int after = last + GeneralConstants.INT_ONE;
+            int otherEnd = tour[first] == node ? tour[last] : tour[first];
+
+            double removeDelta = distanceOrZero(before, after)
+                    - distance(tour[before], tour[first])
+                    - distanceOrZero(last, after);
+
+            for (int neighbor : neighbors[node])
+            {
+                int neighborPosition = positions[neighbor];
+
+                if (neighborPosition >= first && neighborPosition <= last)
+                {
+                    continue;
+                }
+
+                // Einfuegen zwischen Nachbar und seinem Nachfolger: Nachbar, node, ..., otherEnd, Nachfolger
+                if (neighborPosition != before)
+                {
+                    double insertDelta = distance(neighbor, node);
+
+                    if (neighborPosition + GeneralConstants.INT_ONE < size)
+                    {
+                        int successor = tour[neighborPosition + GeneralConstants.INT_ONE];
+                        insertDelta += distance(otherEnd, successor) - distance(neighbor, successor);
+                    }
+
+                    if (removeDelta + insertDelta < -GeneralConstants.LOCAL_SEARCH_EPSILON)
+                    {
+                        moveSegment(first, last, neighborPosition, node);
+                        return true;
+                    }
+                }
+
+                // Einfuegen zwischen Vorgaenger und Nachbar: Vorgaenger, otherEnd, ..., node, Nachbar
+                if (neighborPosition != after && neighborPosition >= GeneralConstants.INT_ONE)
+                {
+                    int predecessor = tour[neighborPosition - GeneralConstants.INT_ONE];
+                    double insertDelta = distance(predecessor, otherEnd)
+                            + distance(node, neighbor)
+                            - distance(predecessor, neighbor);
+
+                    if (removeDelta + insertDelta < -GeneralConstants.LOCAL_SEARCH_EPSILON)
+                    {
+                        moveSegment(first, last, neighborPosition - GeneralConstants.INT_ONE, otherEnd);
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Verschiebt das Teilstueck {@code [first, last]} hinter die Position {@code target}.
+         *
+         * @param first     erste Position des Teilstuecks.
+         * @param last      letzte Position des Teilstuecks.
+         * @param target    Position des Knotens, hinter dem eingefuegt wird (ausserhalb des Teilstuecks).
+         * @param firstNode Endpunkt des Teilstuecks, der direkt hinter {@code target} stehen soll.
+         * @precondition {@code target} liegt nicht in {@code [first, last]}.
+         * @postcondition Route und Positionen sind aktualisiert, betroffene Knoten sind aktiv.
+         */
+        private void moveSegment (int first, int last, int target, int firstNode)
+        {
+            activateAround(first - GeneralConstants.INT_ONE, last + GeneralConstants.INT_ONE);
+            activateAround(target, target + GeneralConstants.INT_ONE);
+
+            int[] segment = Arrays.copyOfRange(tour, first, last + GeneralConstants.INT_ONE);
+            if (segment[GeneralConstants.INT_ZERO] != firstNode)
+            {
+                reverseArray(segment);
+            }
+
+            int segmentLength = segment.length;
+
+            if (target < first)
+            {
+                // Knoten zwischen target und dem Teilstueck nach hinten schieben
+                System.arraycopy(tour, target + GeneralConstants.INT_ONE, tour,
+                        target + GeneralConstants.INT_ONE + segmentLength, first - target - GeneralConstants.INT_ONE);
+                System.arraycopy(segment, GeneralConstants.INT_ZERO, tour, target + GeneralConstants.INT_ONE,
+                        segmentLength);
+                updatePositions(target + GeneralConstants.INT_ONE, last);
+            } else
+            {
+                // Knoten zwischen dem Teilstueck und target nach vorne schieben
+                System.arraycopy(tour, last + GeneralConstants.INT_ONE, tour, first, target - last);
+                System.arraycopy(segment, GeneralConstants.INT_ZERO, tour,
+                        target - segmentLength + GeneralConstants.INT_ONE, segmentLength);
+                updatePositions(first, target);
+            }
+        }
+
+        /**
+         * Kehrt die Reihenfolge der Route zwischen zwei Positionen um.
+         *
+         * @param from erste Position (inklusive).
+         * @param to   letzte Position (inklusive).
+         * @precondition {@code 1 <= from <= to < size}.
+         * @postcondition Route und Positionen sind aktualisiert.
+         */
+        private void reverse (int from, int to)
+        {
+            while (from < to)
+            {
+                int node = tour[from];
+                tour[from] = tour[to];
+                tour[to] = node;
+                positions[tour[from]] = from++;
+                positions[tour[to]] = to--;
+            }
+        }
+
+        /**
+         * Aktualisiert die Positionen der Knoten in einem Bereich der Route.
+         *
+         * @param from erste Position (inklusive).
+         * @param to   letzte Position (inklusive).
+         * @precondition der Bereich liegt innerhalb der Route.
+         * @postcondition {@code positions} ist fuer den Bereich konsistent mit {@code tour}.
+         */
+        private void updatePositions (int from, int to)
+        {
+            for (int position = from; position <= to; position++)
+            {
+                positions[tour[position]] = position;
+            }
+        }
+
+        /**
+         * Aktiviert die Knoten an zwei Kanten: {@code first} mit Nachfolger und {@code last} mit Vorgaenger.
+         *
+         * @param first Position am Anfang des veraenderten Bereichs.
+         * @param last  Position am Ende des veraenderten Bereichs (Positionen hinter dem Routenende werden ignoriert).
+         * @precondition {@code 0 <= first < last}.
+         * @postcondition die Endpunkte der betroffenen Kanten sind aktiv.
+         */
+        private void activateAround (int first, int last)
+        {
+            int[] affectedPositions = {first, first + GeneralConstants.INT_ONE, last - GeneralConstants.INT_ONE, last};
+
+            for (int position : affectedPositions)
+            {
+                if (position < size)
+                {
+                    activate(tour[position]);
+                }
+            }
+        }
+
+        /**
+         * Loescht das Don't-Look-Bit eines Knotens und reiht ihn zur erneuten Pruefung ein.
+         *
+         * @param node der Knoten.
+         * @precondition keine.
+         * @postcondition der Knoten ist aktiv.
+         */
+        private void activate (int node)
+        {
+            if (!isActive[node])
+            {
+                isActive[node] = true;
+                activeNodes.add(node);
+            }
+        }
+
+        /**
+         * Berechnet fuer jeden Knoten die naechsten Nachbarn.
+         * <p>
+         * Die Kandidaten werden ueber einen {@link SpatialGridIndex} gesucht; der Suchradius wird verdoppelt,
+         * bis genug Nachbarn innerhalb des Radius liegen. Damit sind die gefundenen Nachbarn exakt die naechsten.
+         * Liegen auch im groessten Radius zu wenige Windparks, werden alle Knoten durchsucht.
+         *
+         * @param seedRoute Startroute, Index entspricht dem Knoten.
+         * @return Nachbarlisten mit hoechstens {@link GeneralConstants#LOCAL_SEARCH_NEIGHBOR_COUNT} Eintraegen.
+         * @precondition Koordinaten sind gesetzt.
+         * @postcondition keine.
+         */
+        private int[][] calculateNeighbors (List<WindFarm> seedRoute)
+        {
+            int neighborCount = Math.min(GeneralConstants.LOCAL_SEARCH_NEIGHBOR_COUNT,
+                    size - GeneralConstants.INT_ONE);
+            int[][] result = new int[size][neighborCount];
+            double[] bestDistances = new double[neighborCount];
+            int[] allNodes = null;
+
+            SpatialGridIndex<WindFarm> index = new SpatialGridIndex<>(seedRoute, WindFarm::getCoordinates,
+                    GeneralConstants.MAX_WIND_FARM_DISTANCE_KM);
+
+            for (int node = 0; node < size; node++)
+            {
+                int found = GeneralConstants.INT_ZERO;
+                float radius = GeneralConstants.MAX_WIND_FARM_DISTANCE_KM;
+
+                while (found < neighborCount && radius < GeneralConstants.LOCAL_SEARCH_MAX_GRID_RADIUS_KM)
+                {
+                    radius *= GeneralConstants.INT_TWO;
+                    found = collectNearest(node, index.findCandidateIndices(latitudes[node], longitudes[node], radius),
+                            radius, result[node], bestDistances);
+                }
+
+                if (found < neighborCount)
+                {
+                    if (allNodes == null)
+                    {
+                        allNodes = new int[size];
+                        Arrays.setAll(allNodes, i -> i);
+                    }
+                    found = collectNearest(node, allNodes, Double.MAX_VALUE, result[node], bestDistances);
+                    result[node] = Arrays.copyOf(result[node], found);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Sucht unter den Kandidaten die naechsten Knoten innerhalb eines Radius.
+         *
+         * @param node          betrachteter Knoten.
+         * @param candidates    aufsteigend sortierte Kandidaten.
+         * @param radius        nur Knoten mit kleinerer Entfernung werden beruecksichtigt.
+         * @param best          Ergebnis-Array, aufsteigend nach Entfernung; die Laenge begrenzt die Anzahl.
+         * @param bestDistances Hilfs-Array mit mindestens der Laenge von {@code best}.
+         * @return Anzahl der gefundenen Nachbarn.
+         * @precondition die Arrays sind nicht null.
+         * @postcondition die ersten Rueckgabewert-vielen Eintraege von {@code best} sind gesetzt.
+         */
+        private int collectNearest (int node, int[] candidates, double radius, int[] best, double[] bestDistances)
+        {
+            int found = GeneralConstants.INT_ZERO;
+
+            for (int other : candidates)
+            {
+                if (other == node)
+                {
+                    continue;
+                }
+
+                double otherDistance = distance(node, other);
+
+                if (!(otherDistance < radius)
+                        || (found == best.length && otherDistance >= bestDistances[found - GeneralConstants.INT_ONE]))
+                {
+                    continue;
+                }
+
+                // Einfuegen in die sortierte Liste der besten Nachbarn
+                int position = found < best.length ? found++ : found - GeneralConstants.INT_ONE;
+                while (position > GeneralConstants.INT_ZERO
+                        && bestDistances[position - GeneralConstants.INT_ONE] > otherDistance)
+                {
+                    bestDistances[position] = bestDistances[position - GeneralConstants.INT_ONE];
+                    best[position] = best[position - GeneralConstants.INT_ONE];
+                    position--;
+                }
+                bestDistances[position] = otherDistance;
+                best[position] = other;
+            }
+            return found;
+        }
+
+        /**
+         * Berechnet die Entfernung zwischen zwei Knoten, bevorzugt aus der Distanzmatrix.
+         *
+         * @param node1 erster Knoten.
+         * @param node2 zweiter Knoten.
+         * @return Entfernung in Kilometern.
+         * @precondition beide Knoten sind gueltig.
+         * @postcondition keine.
+         */
+        private double distance (int node1, int node2)
+        {
+            if (matrix != null)
+            {
+                return matrix.getDistance(matrixIndices[node1], matrixIndices[node2]);
+            }
+            return GeoFormula.haversineDistance(latitudes[node1], latitudes[node2],
+                    longitudes[node1], longitudes[node2]);
+        }
+
+        /**
+         * Berechnet die Entfernung zwischen den Knoten an zwei Positionen; hinter dem Routenende ist sie 0.
+         *
+         * @param position1 erste Position.
+         * @param position2 zweite Position (darf gleich {@code size} sein).
+         * @return Entfernung in Kilometern oder 0, falls eine Position hinter dem Routenende liegt.
+         * @precondition {@code position1 < size}.
+         * @postcondition keine.
+         */
+        private double distanceOrZero (int position1, int position2)
+        {
+            if (position2 >= size)
+            {
+                return GeneralConstants.EMPTY_FLOAT_VARIABLE;
+            }
+            return distance(tour[position1], tour[position2]);
+        }
+
+        /**
+         * Kehrt ein Array in-place um.
+         *
+         * @param array das umzukehrende Array.
+         * @precondition {@code array} ist nicht null.
+         * @postcondition die Reihenfolge der Elemente ist umgekehrt.
+         */
+        private static void reverseArray (int[] array)
+        {
+            for (int i = 0, j = array.length - GeneralConstants.INT_ONE; i < j; i++, j--)
+            {
+                int value = array[i];
+                array[i] = array[j];
+                array[j] = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package org.elias.util;
+
+import org.elias.res.constant.GeneralConstants;
+import org.elias.res.constant.ParserConstants;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Eine von {@link MappedCSVTokenizer} zerlegte CSV-Zeile.
+ * <p>
+ * Die Zellen werden nur als Ausschnitte (Offset/Laenge) des gemappten Dateipuffers gespeichert und
+ * erst beim ersten Zugriff ueber {@link #getCell(int)} in einen {@code String} dekodiert. Zahlenzellen koennen
+ * ueber {@link #getCellSequence(int)} ganz ohne Dekodieren gelesen werden.
+ * Das Ergebnis entspricht dabei genau {@link CSVLineParser#parseLine(String)}: Anfuehrungszeichen werden
+ * entfernt und die Zelle wird getrimmt.
+ */
+public class MappedCSVRow implements CSVRow
+{
+    private final ByteBuffer buffer;
+    private final int[] cellStarts;
+    private final int[] cellEnds;
+    private final int cellCount;
+
+    /**
+     * Bereits dekodierte Zellen
+     */
+    private final String[] decodedCells = new String[GeneralConstants.COLUMN_COUNT];
+
+    /**
+     * Erstellt eine Zeile aus den Zellgrenzen im Puffer.
+     *
+     * @param buffer     gemappter Ausschnitt der CSV-Datei.
+     * @param cellStarts Startindizes der Zellen im Puffer (inklusive).
+     * @param cellEnds   Endindizes der Zellen im Puffer (exklusive).
+     * @param cellCount  Anzahl der vorhandenen Zellen.
+     * @precondition die Arrays haben die Laenge {@link GeneralConstants#COLUMN_COUNT}.
+     * @postcondition es wurde noch keine Zelle dekodiert.
+     */
+    MappedCSVRow (ByteBuffer buffer, int[] cellStarts, int[] cellEnds, int cellCount)
+    {
+        this.buffer = buffer;
+        this.cellStarts = cellStarts;
+        this.cellEnds = cellEnds;
+        this.cellCount = cellCount;
+    }
+
+    // --- Getters ---
+
+    public int getCellCount ()
+    {
+        return cellCount;
+    }
+
+    /**
+     * Liefert die Laenge des rohen Zellinhalts in Bytes.
+     *
+     * @param column Spaltenindex.
+     * @return Anzahl der Bytes der Zelle (inklusive Anfuehrungszeichen und Leerzeichen).
+     * @precondition {@code column < getCellCount()}.
+     * @postcondition die Zeile bleibt unveraendert.
+     */
+    public int getCellLength (int column)
+    {
+        return cellEnds[column] - cellStarts[column];
+    }
+
+    /**
+     * Liefert ein Byte des rohen Zellinhalts.
+     *
+     * @param column Spaltenindex.
+     * @param index  Position innerhalb der Zelle.
+     * @return das Byte an der Position.
+     * @precondition {@code column < getCellCount()} und {@code index < getCellLength(column)}.
+     * @postcondition die Zeile bleibt unveraendert.
+     */
+    public byte getCellByte (int column, int index)
+    {
+        return buffer.get(cellStarts[column] + index);
+    }
+
+    /**
+     * Liefert den Inhalt einer Zelle als {@code String}.
+     * <p>
+     * Die Zelle wird beim ersten Aufruf dekodiert und danach zwischengespeichert.
+     *
+     * @param column Spaltenindex.
+     * @return der getrimmte Zellinhalt ohne Anfuehrungszeichen oder null, falls die Zeile weniger Zellen hat.
+     * @precondition {@code column < GeneralConstants.COLUMN_COUNT}.
+     * @postcondition die Zelle ist dekodiert und zwischengespeichert.
+     */
+    @Override
+    public String getCell (int column)
+    {
+        if (column >= cellCount)
+        {
+            return null;
+        }
+
+        if (decodedCells[column] == null)
+        {
+            decodedCells[column] = decodeCell(cellStarts[column], cellEnds[column]);
+        }
+        return decodedCells[column];
+    }
+
+    /**
+     * Liefert den Inhalt einer Zelle als Zeichenfolge, ohne sie als {@code String} zu dekodieren.
+     * <p>
+     * Fuer Zahlenzellen gedacht: Besteht die getrimmte Zelle nur aus ASCII-Zeichen ohne Anfuehrungszeichen, wird
+     * eine Sicht direkt auf den Puffer geliefert. Sonst wird wie bei {@link #getCell(int)} dekodiert. Der Inhalt
+     * ist in beiden Faellen gleich.
+     *
+     * @param column Spaltenindex.
+     * @return der getrimmte Zellinhalt ohne Anfuehrungszeichen oder null, falls die Zeile weniger Zellen hat.
+     * @precondition {@code column < GeneralConstants.COLUMN_COUNT}.
+     * @postcondition die Zeile bleibt unveraendert.
+     */
+    @Override
+    public CharSequence getCellSequence (int column)
+    {
+        if (column >= cellCount || decodedCells[column] != null)
+        {
+            return getCell(column);
+        }
+
+        int start = trimStart(cellStarts[column], cellEnds[column]);
+        int end = trimEnd(start, cellEnds[column]);
+
+        for (int i = start; i < end; i++)
+        {
+            byte currentByte = buffer.get(i);
+
+            // Mehrbyte-Zeichen (negatives Byte) oder Anfuehrungszeichen im Inhalt → regulaer dekodieren
+            if (currentByte < GeneralConstants.INT_ZERO || currentByte == GeneralConstants.CHAR_DOUBLE_QUOTES)
+            {
+                return getCell(column);
+            }
+        }
+        return new AsciiCellSequence(buffer, start, end);
+    }
+
+    /**
+     * Dekodiert alle Zellen der Zeile.
+     *
+     * @return String-Array im Format von {@link CSVLineParser#parseLine(String)}.
+     * @precondition keine.
+     * @postcondition alle vorhandenen Zellen sind dekodiert.
+     */
+    @Override
+    public String[] toCells ()
+    {
+        String[] cells = new String[GeneralConstants.COLUMN_COUNT];
+
+        for (int column = 0; column < cellCount; column++)
+        {
+            cells[column] = getCell(column);
+        }
+        return cells;
+    }
+
+    /**
+     * Dekodiert einen Byte-Bereich als UTF-8 ohne Anfuehrungszeichen und ohne fuehrende/nachfolgende Leerzeichen.
+     *
+     * @param start Startindex im Puffer (inklusive).
+     * @param end   Endindex im Puffer (exklusive).
+     * @return der dekodierte Zellinhalt.
+     * @precondition {@code start <= end}.
+     * @postcondition der Puffer bleibt unveraendert.
+     */
+    private String decodeCell (int start, int end)
+    {
+        start = trimStart(start, end);
+        end = trimEnd(start, end);
+
+        byte[] bytes = new byte[end - start];
+        int length = GeneralConstants.INT_ZERO;
+
+        for (int i = start; i < end; i++)
+        {
+            byte currentByte = buffer.get(i);
+
+            if (currentByte != GeneralConstants.CHAR_DOUBLE_QUOTES)
+            {
+                bytes[length++] = currentByte;
+            }
+        }
+
+        return new String(bytes, GeneralConstants.INT_ZERO, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Ueberspringt fuehrende Leerzeichen und Anfuehrungszeichen.
+     * <p>
+     * Trimmen wie {@link String#trim()}: alle Zeichen {@code <= ' '} sind in UTF-8 einzelne ASCII-Bytes.
+     *
+     * @param start Startindex im Puffer (inklusive).
+     * @param end   Endindex im Puffer (exklusive).
+     * @return Index des ersten nicht trimmbaren Bytes oder {@code end}.
+     * @precondition {@code start <= end}.
+     * @postcondition der Puffer bleibt unveraendert.
+     */
+    private int trimStart (int start, int end)
+    {
+        while (start < end && isTrimmable(buffer.get(start)))
+        {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Ueberspringt nachfolgende Leerzeichen und Anfuehrungszeichen.
+     *
+     * @param start Startindex im Puffer (inklusive).
+     * @param end   Endindex im Puffer (exklusive).
+     * @return Index hinter dem letzten nicht trimmbaren Byte oder {@code start}.
+     * @precondition {@code start <= end}.
+     * @postcondition der Puffer bleibt unveraendert.
+     */
+    private int trimEnd (int start, int end)
+    {
+        while (end > start && isTrimmable(buffer.get(end - GeneralConstants.INT_ONE)))
+        {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Prueft, ob ein Byte beim Trimmen entfernt wird.
+     * <p>
+     * Anfuehrungszeichen zaehlen dazu, da sie ohnehin nicht Teil des Zellinhalts sind.
+     *
+     * @param value das zu pruefende Byte.
+     * @return true, falls das Byte ein Steuer-/Leerzeichen oder ein Anfuehrungszeichen ist.
+     * @precondition keine.
+     * @postcondition boolescher Wert wird zurueckgegeben.
+     */
+    private static boolean isTrimmable (byte value)
+    {
+        return value == GeneralConstants.CHAR_DOUBLE_QUOTES
+                || (value & ParserConstants.UNSIGNED_BYTE_MASK) <= GeneralConstants.CHAR_SPACE;
+    }
+
+    /**
+     * Sicht auf einen reinen ASCII-Bereich des Puffers als {@link CharSequence}.
+     * <p>
+     * Jedes Byte entspricht genau einem Zeichen; es wird nichts kopiert.
+     */
+    private static final class AsciiCellSequence implements CharSequence
+    {
+        private final ByteBuffer buffer;
+        private final int start;
+        private final int end;
+
+        /**
+         * Erstellt eine Sicht auf den Bereich {@code [start, end)}.
+         *
+         * @param buffer der Puffer.
+         * @param start  Startindex im Puffer (inklusive).
+         * @param end    Endindex im Puffer (exklusive).
+         * @precondition alle Bytes im Bereich sind ASCII-Zeichen.
+         * @postcondition der Puffer bleibt unveraendert.
+         */
+        private AsciiCellSequence (ByteBuffer buffer, int start, int end)
+        {
+            this.buffer = buffer;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length ()
+        {
+            return end - start;
+        }
+
+        @Override
+        public char charAt (int index)
+        {
+            return (char) buffer.get(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence (int from, int to)
+        {
+            return new AsciiCellSequence(buffer, start + from, start + to);
+        }
+
+        @Override
+        public String toString ()
+        {
+            byte[] bytes = new byte[end - start];
+
+            buffer.get(start, bytes);
+            return new String(bytes, StandardCharsets.US_ASCII);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package org.elias.util;
+
+import org.elias.res.constant.ErrorMessages;
+import org.elias.res.constant.GeneralConstants;
+import org.elias.res.constant.ParserConstants;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Zerlegt eine CSV-Datei direkt auf den Bytes einer speichergemappten Datei.
+ * <p>
+ * Die Datei wird fensterweise ueber {@link FileChannel#map} eingeblendet, jede Zeile liegt vollstaendig in einem
+ * Fenster. Zeilen- und Zellgrenzen werden auf den rohen UTF-8-Bytes gesucht; das ist sicher, da Anfuehrungszeichen,
+ * Komma, Leerzeichen und Zeilenumbrueche in UTF-8 nie Teil eines Mehrbyte-Zeichens sind. Jede Zeile wird als
+ * {@link MappedCSVRow} geliefert, deren Zellen erst bei Bedarf dekodiert werden.
+ * <p>
+ * Die Zerlegungsregeln entsprechen {@link CSVLineParser#parseLine(String)}; die erste Zeile (Header) wird ignoriert.
+ */
+public final class MappedCSVTokenizer implements Iterator<MappedCSVRow>, AutoCloseable
+{
+    /**
+     * Groesse eines Mapping-Fensters; nur fuer Zeilen, die nicht hineinpassen, wird groesser gemappt
+     */
+    private final long windowSize;
+
+    private FileChannel channel = null;
+    private long fileSize = GeneralConstants.EMPTY_INT_VARIABLE;
+
+    private MappedByteBuffer window = null;
+    private long windowFileOffset = GeneralConstants.EMPTY_INT_VARIABLE;
+    private int position = GeneralConstants.EMPTY_INT_VARIABLE;
+
+    private MappedCSVRow nextRow = null;
+
+    /**
+     * Oeffnet und mappt die CSV-Datei und ueberspringt den Header.
+     *
+     * @param pathToCSV Pfad zur CSV-Datei.
+     * @precondition Der angegebene Pfad verweist auf eine existierende gueltige Datei.
+     * @postcondition bei Fehlern wird eine Fehlermeldung ausgegeben und der Tokenizer ist leer.
+     */
+    public MappedCSVTokenizer (String pathToCSV)
+    {
+        this(pathToCSV, ParserConstants.MAPPED_WINDOW_SIZE);
+    }
+
+    /**
+     * Oeffnet und mappt die CSV-Datei mit vorgegebener Fenstergroesse und ueberspringt den Header.
+     * <p>
+     * Mit kleinen Fenstern lassen sich Zeilen und Zeilenumbrueche ueber Fenstergrenzen hinweg testen.
+     *
+     * @param pathToCSV  Pfad zur CSV-Datei.
+     * @param windowSize Groesse eines Mapping-Fensters in Bytes.
+     * @precondition Der angegebene Pfad verweist auf eine existierende gueltige Datei, {@code windowSize > 0}.
+     * @postcondition bei Fehlern wird eine Fehlermeldung ausgegeben und der Tokenizer ist leer.
+     */
+    MappedCSVTokenizer (String pathToCSV, long windowSize)
+    {
+        this.windowSize = windowSize;
+
+        try
+        {
+            channel = FileChannel.open(Path.of(pathToCSV), StandardOpenOption.READ);
+            fileSize = channel.size();
+            mapWindow(GeneralConstants.EMPTY_INT_VARIABLE, windowSize);
+
+            // Erste Zeile (Header) ueberspringen
+            if (readRow() != null)
+            {
+                nextRow = readRow();
+            }
+        } catch (IOException e)
+        {
+            System.err.println(ErrorMessages.ERROR_READING_CSV + e.getMessage());
+            close();
+        }
+    }
+
+    @Override
+    public boolean hasNext ()
+    {
+        return nextRow != null;
+    }
+
+    /**
+     * Liefert die naechste zerlegte Datenzeile.
+     *
+     * @return die naechste Zeile.
+     * @throws NoSuchElementException falls keine weitere Zeile vorhanden ist.
+     * @precondition {@link #hasNext()} liefert true.
+     * @postcondition der Tokenizer steht auf der folgenden Zeile; bei Lesefehlern ist er erschoepft.
+     */
+    @Override
+    public MappedCSVRow next ()
+    {
+        if (nextRow == null)
+        {
+            throw new NoSuchElementException();
+        }
+
+        MappedCSVRow row = nextRow;
+
+        try
+        {
+            nextRow = readRow();
+        } catch (IOException e)
+        {
+            System.err.println(ErrorMessages.ERROR_READING_CSV + e.getMessage());
+            close();
+        }
+        return row;
+    }
+
+    /**
+     * Schliesst die Datei. Bereits gelieferte Zeilen bleiben lesbar, solange sie referenziert werden.
+     *
+     * @precondition keine.
+     * @postcondition der Kanal ist geschlossen und es werden keine weiteren Zeilen geliefert.
+     */
+    @Override
+    public void close ()
+    {
+        nextRow = null;
+
+        if (channel == null)
+        {
+            return;
+        }
+
+        try
+        {
+            channel.close();
+        } catch (IOException e)
+        {
+            System.err.println(ErrorMessages.ERROR_READING_CSV + e.getMessage());
+        }
+        channel = null;
+    }
+
+    /**
+     * Blendet ein neues Fenster der Datei ab der angegebenen Position ein.
+     *
+     * @param fileOffset Byte-Position in der Datei, an der das Fenster beginnt.
+     * @param size       gewuenschte Groesse des Fensters, am Dateiende entsprechend kleiner.
+     * @throws IOException falls das Mapping fehlschlaegt.
+     * @precondition {@code fileOffset <= fileSize} und {@code size <= Integer.MAX_VALUE}.
+     * @postcondition {@code window} beginnt bei {@code fileOffset} und {@code position} ist 0.
+     */
+    private void mapWindow (long fileOffset, long size) throws IOException
+    {
+        window = channel.map(FileChannel.MapMode.READ_ONLY, fileOffset, Math.min(size, fileSize - fileOffset));
+        windowFileOffset = fileOffset;
+        position = GeneralConstants.INT_ZERO;
+    }
+
+    /**
+     * Liest die naechste Zeile aus dem gemappten Fenster und zerlegt sie in Zellen.
+     * <p>
+     * Reicht die Zeile ueber das Ende des Fensters hinaus, wird ab Zeilenanfang neu gemappt. Passt sie auch in ein
+     * dort beginnendes Fenster nicht, wird das Fenster so lange verdoppelt, bis das Zeilenende enthalten ist.
+     *
+     * @return die zerlegte Zeile oder null am Dateiende.
+     * @throws IOException falls das Mapping fehlschlaegt.
+     * @precondition der Kanal ist geoeffnet.
+     * @postcondition {@code position} steht hinter dem Zeilenumbruch der gelesenen Zeile.
+     */
+    private MappedCSVRow readRow () throws IOException
+    {
+        if (windowFileOffset + position >= fileSize)
+        {
+            return null;
+        }
+
+        int lineEnd = findLineEnd(position);
+
+        while (lineEnd == window.limit() && windowFileOffset + lineEnd < fileSize)
+        {
+            // Bereits durchsuchte Bytes der Zeile enthalten keinen Zeilenumbruch
+            int scannedLength = lineEnd - position;
+
+            if (position > GeneralConstants.INT_ZERO)
+            {
+                mapWindow(windowFileOffset + position, windowSize);
+            } else if (window.limit() < Integer.MAX_VALUE)
+            {
+                mapWindow(windowFileOffset, Math.min((long) window.limit() * GeneralConstants.INT_TWO,
+                        Integer.MAX_VALUE));
+            } else
+            {
+                throw new IOException(ErrorMessages.CSV_LINE_TOO_LONG + windowFileOffset);
+            }
+            lineEnd = findLineEnd(scannedLength);
+        }
+
+        MappedCSVRow row = tokenizeLine(position, lineEnd);
+
+        // Zeilenumbruch wie BufferedReader.readLine(): \n, \r oder \r\n
+        position = lineEnd;
+        if (position < window.limit() && window.get(position) == ParserConstants.CHAR_CARRIAGE_RETURN)
+        {
+            position++;
+
+            if (position == window.limit() && windowFileOffset + position < fileSize)
+            {
+                mapWindow(windowFileOffset + position, windowSize);
+            }
+            if (position < window.limit() && window.get(position) == ParserConstants.CHAR_LINE_FEED)
+            {
+                position++;
+            }
+        } else if (position < window.limit())
+        {
+            position++;
+        }
+
+        return row;
+    }
+
+    /**
+     * Sucht das Zeilenende ab einer Position im aktuellen Fenster.
+     *
+     * @param from Startindex der Suche.
+     * @return Index des ersten Zeilenumbruchs oder das Fensterende.
+     * @precondition {@code from <= window.limit()}.
+     * @postcondition das Fenster bleibt unveraendert.
+     */
+    private int findLineEnd (int from)
+    {
+        int limit = window.limit();
+
+        for (int i = from; i < limit; i++)
+        {
+            byte currentByte = window.get(i);
+
+            if (currentByte == ParserConstants.CHAR_LINE_FEED || currentByte == ParserConstants.CHAR_CARRIAGE_RETURN)
+            {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Bestimmt die Zellgrenzen einer Zeile.
+     * <p>
+     * Kommas innerhalb von Anfuehrungszeichen sowie Kommas, denen ein Leerzeichen folgt,
+     * werden nicht als Trennzeichen interpretiert.
+     *
+     * @param lineStart Index des ersten Bytes der Zeile.
+     * @param lineEnd   Index hinter dem letzten Byte der Zeile.
+     * @return die Zeile mit den gefundenen Zellgrenzen.
+     * @precondition {@code lineStart <= lineEnd}.
+     * @postcondition es wurden hoechstens {@link GeneralConstants#COLUMN_COUNT} Zellen erkannt.
+     */
+    private MappedCSVRow tokenizeLine (int lineStart, int lineEnd)
+    {
+        int[] cellStarts = new int[GeneralConstants.COLUMN_COUNT];
+        int[] cellEnds = new int[GeneralConstants.COLUMN_COUNT];
+
+        boolean insideQuotes = false;
+        int cellIndex = GeneralConstants.INT_ZERO;
+        int cellStart = lineStart;
+
+        for (int i = lineStart; i < lineEnd; i++)
+        {
+            byte currentByte = window.get(i);
+
+            if (currentByte == GeneralConstants.CHAR_DOUBLE_QUOTES)
+            {
+                insideQuotes = !insideQuotes;
+                continue;
+            }
+
+            // Wenn nach dem Komma ein Leerzeichen folgt → Teil des Inhalts der Zelle
+            if (currentByte == GeneralConstants.CHAR_COMMA && !insideQuotes
+                    && !(i + GeneralConstants.INT_ONE < lineEnd
+                    && window.get(i + GeneralConstants.INT_ONE) == GeneralConstants.CHAR_SPACE))
+            {
+                cellStarts[cellIndex] = cellStart;
+                cellEnds[cellIndex++] = i;
+                cellStart = i + GeneralConstants.INT_ONE;
+
+                if (cellIndex >= GeneralConstants.COLUMN_COUNT)
+                {
+                    break;
+                }
+            }
+        }
+
+        if (cellIndex < GeneralConstants.COLUMN_COUNT)
+        {
+            cellStarts[cellIndex] = cellStart;
+            cellEnds[cellIndex++] = lineEnd;
+        }
+
+        return new MappedCSVRow(window, cellStarts, cellEnds, cellIndex);
+    }
+}
@@ -1,17 +1,25 @@
 package org.elias.util;
 
+import org.elias.model.Coordinates;
 import org.elias.model.WindFarm;
+import org.elias.model.service.DistanceMatrix;
+import org.elias.model.service.DistanceService;
+import org.elias.res.constant.GeneralConstants;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Implementiert einen Nearest-Neighbor-Algorithmus zur Routenplanung.
  * <p>
  * Beginnend bei einem Start-Windpark wird jeweils der naechstgelegene,
  * noch nicht besuchte Windpark zur Route hinzugefuegt.
+ * <p>
+ * Die unbesuchten Windparks liegen in einem {@link SpatialGridIndex}, aus dem besuchte Windparks entfernt werden.
+ * Die Suche nach dem naechsten Windpark betrachtet dadurch nur die Zellen um den aktuellen Windpark.
+ * Fuer kleine Mengen, etwa die Windparks eines Projektmanagers, wird stattdessen die zwischengespeicherte
+ * Distanzmatrix des {@link DistanceService} verwendet.
  * Implementiert {@link RoutePlanner}.
  */
 public class NearestNeighborRoutePlanner implements RoutePlanner
@@ -33,54 +41,148 @@ public class NearestNeighborRoutePlanner implements RoutePlanner
             return List.of();
         }
 
-        List<WindFarm> route = new ArrayList<>();
-        Set<WindFarm> unvisited = new HashSet<>(windFarms);
+        // Gleiche Windparks werden wie in einer Menge nur einmal besucht
+        List<WindFarm> candidates = new ArrayList<>(new LinkedHashSet<>(windFarms));
+        int startIndex = candidates.indexOf(start);
+        DistanceMatrix matrix = DistanceService.getInstance().getDistanceMatrix(candidates);
 
-        WindFarm current = start;
+        if (matrix != null && startIndex != GeneralConstants.UNASSIGNED_ID)
+        {
+            return calculateRouteWithMatrix(candidates, start, startIndex, matrix);
+        }
+        return calculateRouteWithIndex(candidates, start, startIndex);
+    }
+
+    /**
+     * Berechnet die Route ueber die Distanzmatrix der Windparks.
+     * <p>
+     * Fuer kleine Mengen ist der Vergleich aller unbesuchten Windparks ueber die vorberechneten Distanzen
+     * guenstiger als eine raeumliche Suche.
+     *
+     * @param candidates Windparks ohne Duplikate.
+     * @param start      Start-Windpark der Route.
+     * @param startIndex Position des Start-Windparks in {@code candidates}.
+     * @param matrix     Distanzmatrix ueber {@code candidates}.
+     * @return Liste der Windparks in der berechneten Besuchsreihenfolge.
+     * @precondition {@code startIndex} ist gueltig, {@code matrix} enthaelt alle Kandidaten.
+     * @postcondition jeder Kandidat kommt genau einmal in der Rueckgabeliste vor.
+     */
+    private static List<WindFarm> calculateRouteWithMatrix (List<WindFarm> candidates, WindFarm start,
+                                                            int startIndex, DistanceMatrix matrix)
+    {
+        List<WindFarm> route = new ArrayList<>(candidates.size());
+        int[] matrixIndices = new int[candidates.size()];
+        boolean[] visited = new boolean[candidates.size()];
+
+        for (int i = 0; i < candidates.size(); i++)
+        {
+            matrixIndices[i] = matrix.indexOf(candidates.get(i));
+        }
+
+        int current = startIndex;
 
         route.add(start);
-        unvisited.remove(start);
+        visited[startIndex] = true;
 
-        while (!unvisited.isEmpty())
+        while (route.size() < candidates.size())
         {
-            WindFarm nearest = findNearest(current, unvisited);
-            route.add(nearest);
-            unvisited.remove(nearest);
+            int nearest = GeneralConstants.UNASSIGNED_ID;
+            float bestDistance = Float.MAX_VALUE;
+
+            for (int candidate = 0; candidate < candidates.size(); candidate++)
+            {
+                if (visited[candidate])
+                {
+                    continue;
+                }
+
+                float distance = matrix.getDistance(matrixIndices[current], matrixIndices[candidate]);
+
+                if (bestDistance > distance)
+                {
+                    bestDistance = distance;
+                    nearest = candidate;
+                }
+            }
+
+            route.add(candidates.get(nearest));
+            visited[nearest] = true;
             current = nearest;
         }
 
         return route;
     }
 
-
     /**
-     * Ermittelt den naechstgelegenen Windpark zu einem gegebenen Ausgangspunkt.
+     * Berechnet die Route ueber einen raeumlichen Index, aus dem besuchte Windparks entfernt werden.
      *
-     * @param current    aktueller Windpark.
-     * @param candidates Menge moeglicher naechster Windparks.
-     * @return der Windpark mit der geringsten Entfernung zu {@code current}.
+     * @param candidates Windparks ohne Duplikate.
+     * @param start      Start-Windpark der Route.
+     * @param startIndex Position des Start-Windparks in {@code candidates} oder
+     *                   {@link GeneralConstants#UNASSIGNED_ID}, falls er nicht enthalten ist.
+     * @return Liste der Windparks in der berechneten Besuchsreihenfolge.
      * @precondition {@code candidates} ist nicht leer.
-     * @postcondition der zurueckgegebene Windpark ist Element von {@code candidates}.
+     * @postcondition jeder Kandidat kommt genau einmal in der Rueckgabeliste vor.
      */
-    private WindFarm findNearest (WindFarm current, Set<WindFarm> candidates)
+    private static List<WindFarm> calculateRouteWithIndex (List<WindFarm> candidates, WindFarm start,
+                                                           int startIndex)
     {
-        WindFarm nearest = null;
-        float bestDistance = Float.MAX_VALUE;
+        List<WindFarm> route = new ArrayList<>(candidates.size());
+        SpatialGridIndex<WindFarm> unvisited = new SpatialGridIndex<>(candidates, WindFarm::getCoordinates,
+                estimateCellRadius(candidates));
+
+        WindFarm current = start;
 
-        for (WindFarm candidate : candidates)
+        route.add(start);
+        if (startIndex != GeneralConstants.UNASSIGNED_ID)
         {
-            float distance = (float) GeoFormula.haversineDistance(current.getCoordinates().getLatitude(),
-                    candidate.getCoordinates().getLatitude(),
-                    current.getCoordinates().getLongitude(),
-                    candidate.getCoordinates().getLongitude());
+            unvisited.remove(startIndex);
+        }
 
-            if (bestDistance > distance)
-            {
-                bestDistance = distance;
-                nearest = candidate;
-            }
+        while (unvisited.getRemainingCount() > GeneralConstants.INT_ZERO)
+        {
+            Coordinates currentCoordinates = current.getCoordinates();
+            int nearest = unvisited.findNearestIndex(currentCoordinates.getLatitude(),
+                    currentCoordinates.getLongitude());
+            current = unvisited.getElement(nearest);
+            route.add(current);
+            unvisited.remove(nearest);
+        }
+
+        return route;
+    }
+
+    /**
+     * Schaetzt den mittleren Abstand benachbarter Windparks als Zellradius fuer den raeumlichen Index.
+     * <p>
+     * Die Flaeche des umschliessenden Rechtecks wird gleichmaessig auf alle Windparks verteilt.
+     *
+     * @param windFarms die zu indizierenden Windparks.
+     * @return Zellradius in Kilometern, mindestens {@link GeneralConstants#NEAREST_NEIGHBOR_MIN_CELL_RADIUS_KM}.
+     * @precondition {@code windFarms} ist nicht leer.
+     * @postcondition keine.
+     */
+    private static float estimateCellRadius (List<WindFarm> windFarms)
+    {
+        float minLatitude = Float.MAX_VALUE;
+        float maxLatitude = -Float.MAX_VALUE;
+        float minLongitude = Float.MAX_VALUE;
+        float maxLongitude = -Float.MAX_VALUE;
+
+        for (WindFarm windFarm : windFarms)
+        {
+            Coordinates coordinates = windFarm.getCoordinates();
+            minLatitude = Math.min(minLatitude, coordinates.getLatitude());
+            maxLatitude = Math.max(maxLatitude, coordinates.getLatitude());
+            minLongitude = Math.min(minLongitude, coordinates.getLongitude());
+            maxLongitude = Math.max(maxLongitude, coordinates.getLongitude());
         }
 
-        return nearest;
+        float middleLatitude = (minLatitude + maxLatitude) / GeneralConstants.INT_TWO;
+        double height = GeoFormula.haversineDistance(minLatitude, maxLatitude, minLongitude, minLongitude);
+        double width = GeoFormula.haversineDistance(middleLatitude, middleLatitude, minLongitude, maxLongitude);
+        double cellRadius = Math.sqrt(height * width / windFarms.size());
+
+        return (float) Math.max(cellRadius, GeneralConstants.NEAREST_NEIGHBOR_MIN_CELL_RADIUS_KM);
     }
 }
@@ -0,0 +1,270 @@
+package org.elias.util;
+
+import org.elias.res.constant.ErrorMessages;
+import org.elias.res.constant.GeneralConstants;
+import org.elias.res.constant.ParserConstants;
+
+/**
+ * Parst Zahlen direkt aus einem Zeichenbereich, ohne Zwischen-Strings oder Boxing.
+ * <p>
+ * Die Methoden liefern dieselben Werte und Ausnahmen wie {@link Integer#parseInt(String)} bzw.
+ * {@link Float#parseFloat(String)} auf der getrimmten Zelle. Leerraum am Rand wird wie bei {@link String#trim()}
+ * uebersprungen statt abgeschnitten. Einfache Dezimalzahlen (Vorzeichen, hoechstens
+ * {@link ParserConstants#MAX_FAST_DECIMAL_DIGITS} Ziffern, optionaler Punkt) werden selbst berechnet; alle anderen
+ * Schreibweisen, etwa mit Exponent, gehen an diese beiden Methoden.
+ */
+public final class NumericCellParser
+{
+    /**
+     * Exakt als {@code double} darstellbare Zehnerpotenzen
+     */
+    private static final double[] POWERS_OF_TEN = new double[ParserConstants.MAX_FAST_DECIMAL_DIGITS
+            + GeneralConstants.INT_ONE];
+
+    static
+    {
+        POWERS_OF_TEN[GeneralConstants.INT_ZERO] = GeneralConstants.INT_ONE;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++)
+        {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - GeneralConstants.INT_ONE] * ParserConstants.DECIMAL_RADIX;
+        }
+    }
+
+    /**
+     * Privater Konstruktor, die Klasse bietet nur statische Methoden.
+     *
+     * @precondition keine.
+     * @postcondition keine.
+     */
+    private NumericCellParser ()
+    {
+    }
+
+    /**
+     * Wandelt eine Zelle in eine ganzzahlige Objekt-ID um.
+     *
+     * @param raw die Zelle mit der Objekt-ID.
+     * @return die geparste Objekt-ID.
+     * @throws NumberFormatException falls die Zelle keine ganze Zahl enthaelt.
+     * @precondition {@code raw} ist nicht null.
+     * @postcondition {@code raw} bleibt unveraendert.
+     */
+    public static int parseObjectID (CharSequence raw)
+    {
+        return parseInt(raw, GeneralConstants.INT_ZERO, raw.length());
+    }
+
+    /**
+     * Wandelt eine Zelle in eine Leistung um.
+     *
+     * @param raw die Zelle mit der Leistung.
+     * @return die Leistung, bei null oder leerer Zelle 0.0f.
+     * @throws NumberFormatException falls die Zelle keine Dezimalzahl enthaelt.
+     * @precondition keine.
+     * @postcondition {@code raw} bleibt unveraendert.
+     */
+    public static float parseTotalPerformance (CharSequence raw)
+    {
+        if (raw == null || raw.isEmpty())
+        {
+            return GeneralConstants.EMPTY_FLOAT_VARIABLE;
+        }
+
+        return parseFloat(raw, GeneralConstants.INT_ZERO, raw.length());
+    }
+
+    /**
+     * Wandelt eine Zelle in einen Breiten- oder Laengengrad um.
+     * <p>
+     * Der Aufrufer parst beide Zellen einzeln in eigene {@code float}-Variablen, ein Ergebnis-Array entfaellt.
+     *
+     * @param raw die Zelle mit der Koordinate.
+     * @return die Koordinate.
+     * @throws IllegalArgumentException falls {@code raw} null ist.
+     * @throws NumberFormatException    falls die Zelle keine Dezimalzahl enthaelt.
+     * @precondition keine.
+     * @postcondition {@code raw} bleibt unveraendert.
+     */
+    public static float parseCoordinate (CharSequence raw)
+    {
+        if (raw == null)
+        {
+            throw new IllegalArgumentException(ErrorMessages.NULL_COORDINATES);
+        }
+
+        return parseFloat(raw, GeneralConstants.INT_ZERO, raw.length());
+    }
+
+    /**
+     * Parst eine ganze Zahl aus dem Bereich {@code [start, end)}, wie {@code Integer.parseInt(text.trim())}.
+     *
+     * @param text  die Zeichenfolge.
+     * @param start erster Index (inklusive).
+     * @param end   letzter Index (exklusive).
+     * @return die Zahl.
+     * @throws NumberFormatException falls der Bereich keine ganze Zahl im {@code int}-Bereich enthaelt.
+     * @precondition {@code text} ist nicht null, {@code 0 <= start <= end <= text.length()}.
+     * @postcondition {@code text} bleibt unveraendert.
+     */
+    public static int parseInt (CharSequence text, int start, int end)
+    {
+        int from = skipLeadingWhitespace(text, start, end);
+        int to = skipTrailingWhitespace(text, from, end);
+        int index = from;
+        boolean negative = false;
+
+        if (index < to && isSign(text.charAt(index)))
+        {
+            negative = text.charAt(index) == ParserConstants.CHAR_MINUS;
+            index++;
+        }
+
+        int digitCount = to - index;
+        if (digitCount == GeneralConstants.INT_ZERO || digitCount > ParserConstants.MAX_FAST_INT_DIGITS)
+        {
+            return Integer.parseInt(text.subSequence(from, to).toString());
+        }
+
+        long value = GeneralConstants.INT_ZERO;
+        for (; index < to; index++)
+        {
+            int digit = text.charAt(index) - ParserConstants.CHAR_ZERO;
+
+            if (digit < GeneralConstants.INT_ZERO || digit >= ParserConstants.DECIMAL_RADIX)
+            {
+                return Integer.parseInt(text.subSequence(from, to).toString());
+            }
+            value = value * ParserConstants.DECIMAL_RADIX + digit;
+        }
+
+        value = negative ? -value : value;
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+        {
+            return Integer.parseInt(text.subSequence(from, to).toString());
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parst eine Dezimalzahl aus dem Bereich {@code [start, end)}, wie {@code Float.parseFloat(text.trim())}.
+     * <p>
+     * Ziffern und Nachkommastellen werden exakt als {@code long} und Zehnerpotenz gesammelt und in {@code double}
+     * dividiert; beide Operanden sind exakt, der Quotient ist daher korrekt gerundet. Liegt er genau in der Mitte
+     * zwischen zwei {@code float}-Werten, koennte die zweite Rundung auf {@code float} abweichen; dann wird
+     * {@link Float#parseFloat(String)} verwendet.
+     *
+     * @param text  die Zeichenfolge.
+     * @param start erster Index (inklusive).
+     * @param end   letzter Index (exklusive).
+     * @return die Zahl.
+     * @throws NumberFormatException falls der Bereich keine gueltige Gleitkommazahl enthaelt.
+     * @precondition {@code text} ist nicht null, {@code 0 <= start <= end <= text.length()}.
+     * @postcondition {@code text} bleibt unveraendert.
+     */
+    public static float parseFloat (CharSequence text, int start, int end)
+    {
+        int from = skipLeadingWhitespace(text, start, end);
+        int to = skipTrailingWhitespace(text, from, end);
+        int index = from;
+        boolean negative = false;
+
+        if (index < to && isSign(text.charAt(index)))
+        {
+            negative = text.charAt(index) == ParserConstants.CHAR_MINUS;
+            index++;
+        }
+
+        long mantissa = GeneralConstants.INT_ZERO;
+        int digitCount = GeneralConstants.INT_ZERO;
+        int fractionDigits = GeneralConstants.INT_ZERO;
+        boolean pointSeen = false;
+
+        for (; index < to; index++)
+        {
+            char character = text.charAt(index);
+            int digit = character - ParserConstants.CHAR_ZERO;
+
+            if (digit >= GeneralConstants.INT_ZERO && digit < ParserConstants.DECIMAL_RADIX)
+            {
+                if (++digitCount > ParserConstants.MAX_FAST_DECIMAL_DIGITS)
+                {
+                    return Float.parseFloat(text.subSequence(from, to).toString());
+                }
+                mantissa = mantissa * ParserConstants.DECIMAL_RADIX + digit;
+                fractionDigits += pointSeen ? GeneralConstants.INT_ONE : GeneralConstants.INT_ZERO;
+            } else if (character == GeneralConstants.CHAR_POINT && !pointSeen)
+            {
+                pointSeen = true;
+            } else
+            {
+                return Float.parseFloat(text.subSequence(from, to).toString());
+            }
+        }
+
+        if (digitCount == GeneralConstants.INT_ZERO)
+        {
+            return Float.parseFloat(text.subSequence(from, to).toString());
+        }
+
+        double value = mantissa / POWERS_OF_TEN[fractionDigits];
+        long roundingBits = Double.doubleToRawLongBits(value) & ParserConstants.FLOAT_ROUNDING_BITS_MASK;
+        if (roundingBits == ParserConstants.FLOAT_HALFWAY_BITS)
+        {
+            return Float.parseFloat(text.subSequence(from, to).toString());
+        }
+
+        float result = (float) value;
+        return negative ? -result : result;
+    }
+
+    /**
+     * Prueft, ob ein Zeichen ein Vorzeichen ist.
+     *
+     * @param character das Zeichen.
+     * @return true bei '+' oder '-'.
+     * @precondition keine.
+     * @postcondition keine.
+     */
+    private static boolean isSign (char character)
+    {
+        return character == ParserConstants.CHAR_MINUS || character == ParserConstants.CHAR_PLUS;
+    }
+
+    /**
+     * Ueberspringt fuehrenden Leerraum wie {@link String#trim()}.
+     *
+     * @param text  die Zeichenfolge.
+     * @param start erster Index (inklusive).
+     * @param end   letzter Index (exklusive).
+     * @return Index des ersten Zeichens ohne Leerraum oder {@code end}.
+     * @precondition {@code 0 <= start <= end <= text.length()}.
+     * @postcondition keine.
+     */
+    private static int skipLeadingWhitespace (CharSequence text, int start, int end)
+    {
+        while (start < end && text.charAt(start) <= GeneralConstants.CHAR_SPACE)
+        {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Ueberspringt nachfolgenden Leerraum wie {@link String#trim()}.
+     *
+     * @param text  die Zeichenfolge.
+     * @param start erster Index (inklusive).
+     * @param end   letzter Index (exklusive).
+     * @return Index hinter dem letzten Zeichen ohne Leerraum oder {@code start}.
+     * @precondition {@code 0 <= start <= end <= text.length()}.
+     * @postcondition keine.
+     */
+    private static int skipTrailingWhitespace (CharSequence text, int start, int end)
+    {
+        while (end > start && text.charAt(end - GeneralConstants.INT_ONE) <= GeneralConstants.CHAR_SPACE)
+        {
+            end--;
+        }
+        return end;
+    }
+}
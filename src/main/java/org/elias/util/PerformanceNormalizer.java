@@ -1,9 +1,8 @@
 package org.elias.util;
 
 import org.elias.model.WindFarm;
-import org.elias.model.WindTurbineGroup;
-import org.elias.model.graph.Graph;
-import org.elias.model.graph.Vertex;
+import org.elias.model.graph.CompactGraph;
+import org.elias.model.service.WindFarmImportState;
 import org.elias.res.constant.GeneralConstants;
 import org.elias.res.constant.ParserConstants;
 import org.elias.res.constant.ViewConstants;
@@ -27,57 +26,85 @@ public class PerformanceNormalizer
 
 
     /**
-     * Normalisiert die Leistung eines Windparks.
+     * Normalisiert die Leistungen aller Windparks nach einem inkrementellen Import.
      * <p>
-     * Falls keine Leistung gesetzt ist, wird sie berechnet.
-     * Andernfalls wird geprueft, ob die Leistung realistisch ist.
+     * Nur neu erzeugte Windparks werden geprueft. Uebernommene Windparks sind bereits normalisiert; fuer sie wird
+     * die fruehere Umrechnung nur erneut dokumentiert. Windparks ohne Leistung haengen von ihren Nachbarn ab und
+     * werden immer neu berechnet, dabei gehen wie bei einer vollstaendigen Normalisierung in ID-Reihenfolge die
+     * Nachbarn mit kleinerer ID mit ihrer normalisierten, die uebrigen mit ihrer urspruenglichen Leistung ein.
+     * Die dokumentierten Aenderungen sind daher dieselben wie bei einer vollstaendigen Normalisierung.
      *
-     * @param windFarm      der zu pruefende Windpark.
-     * @param windFarmGraph Graph mit benachbarten Windparks.
-     * @precondition windFarm und windFarmGraph sind nicht null.
-     * @postcondition die Leistung des Windparks ist validiert oder neu berechnet.
+     * @param windFarmGraph kompakter Graph aller Windparks, Vertex-ID entspricht der Windpark-ID.
+     * @param importState   Stand des Imports mit den urspruenglichen Leistungen.
+     * @precondition beide Parameter sind nicht null und beschreiben dieselben Windparks.
+     * @postcondition alle Leistungen sind validiert oder neu berechnet.
      */
-    public static void normalizePerformance (WindFarm windFarm, Graph<WindFarm> windFarmGraph)
+    public static void normalizePerformance (CompactGraph<WindFarm> windFarmGraph, WindFarmImportState importState)
     {
-        if (windFarm.getTotalPerformance() == GeneralConstants.INT_ZERO)
+        for (int windFarmId = 0; windFarmId < windFarmGraph.getVertexCount(); windFarmId++)
         {
-            addPerformance(windFarm, windFarmGraph);
-        } else
-        {
-            validatePerformance(windFarm);
+            WindFarm windFarm = windFarmGraph.getData(windFarmId);
+            float rawPerformance = importState.getRawPerformance(windFarmId);
+
+            if (rawPerformance == GeneralConstants.INT_ZERO)
+            {
+                addPerformance(windFarmId, windFarmGraph, importState);
+            } else if (importState.isReprocessed(windFarmId))
+            {
+                validatePerformance(windFarm);
+            } else if (windFarm.getTotalPerformance() != rawPerformance)
+            {
+                changedPerf.add(String.format(ViewConstants.CONVERTED_PERFORMANCE_NAME, windFarm.getName(),
+                        rawPerformance, windFarm.getTotalPerformance()));
+            }
         }
     }
 
     /**
-     * Berechnet die Leistung eines Windparks anhand seiner Nachbarn.
+     * Berechnet die Leistung eines Windparks anhand seiner Nachbarn im kompakten Graphen, wie sie waehrend einer
+     * vollstaendigen Normalisierung vorliegen.
      *
-     * @param windFarm      Windpark ohne gesetzte Leistung.
-     * @param windFarmGraph Graph mit Nachbarschaft.
-     * @precondition windFarm besitzt keine gueltige Gesamtleistung.
+     * @param windFarmId    Vertex-ID des Windparks ohne urspruengliche Leistung.
+     * @param windFarmGraph kompakter Graph mit Nachbarschaft.
+     * @param importState   Stand des Imports mit den urspruenglichen Leistungen.
+     * @precondition die Windparks mit kleinerer ID sind bereits normalisiert.
      * @postcondition die Gesamtleistung des Windparks ist berechnet und gesetzt.
      */
-    private static void addPerformance (WindFarm windFarm, Graph<WindFarm> windFarmGraph)
+    private static void addPerformance (int windFarmId, CompactGraph<WindFarm> windFarmGraph,
+                                        WindFarmImportState importState)
     {
-        List<Vertex<WindFarm>> neighborsVertexes = windFarmGraph.getNeighbors(new Vertex<>(windFarm));
         int neighborsWindTurbineTotalCount = GeneralConstants.EMPTY_INT_VARIABLE;
         float neighborsTotalPerformance = GeneralConstants.EMPTY_FLOAT_VARIABLE;
 
-        for (Vertex<WindFarm> windFarmVertex : neighborsVertexes)
+        for (int edge = windFarmGraph.getFirstEdge(windFarmId); edge < windFarmGraph.getEdgeEnd(windFarmId); edge++)
         {
-            for (WindTurbineGroup windTurbineGroup : windFarmVertex.getData().getWindTurbineGroups())
-            {
-                neighborsWindTurbineTotalCount += windTurbineGroup.getWindTurbines().size();
-            }
-            neighborsTotalPerformance += windFarmVertex.getData().getTotalPerformance();
+            int neighborId = windFarmGraph.getTarget(edge);
+            WindFarm neighbor = windFarmGraph.getData(neighborId);
+
+            neighborsWindTurbineTotalCount += neighbor.getWindTurbineCount();
+            neighborsTotalPerformance += neighborId < windFarmId
+                    ? neighbor.getTotalPerformance()
+                    : importState.getRawPerformance(neighborId);
         }
 
-        float averagePerformance = neighborsTotalPerformance / neighborsWindTurbineTotalCount;
-        int windFarmCounter = GeneralConstants.EMPTY_INT_VARIABLE;
+        setAveragePerformance(windFarmGraph.getData(windFarmId), neighborsWindTurbineTotalCount,
+                neighborsTotalPerformance);
+    }
 
-        for (WindTurbineGroup windTurbineGroup : windFarm.getWindTurbineGroups())
-        {
-            windFarmCounter += windTurbineGroup.getWindTurbines().size();
-        }
+    /**
+     * Setzt die Leistung eines Windparks auf den Durchschnitt pro Windturbine seiner Nachbarn.
+     *
+     * @param windFarm                       Windpark ohne gesetzte Leistung.
+     * @param neighborsWindTurbineTotalCount Anzahl der Windturbinen aller Nachbarn.
+     * @param neighborsTotalPerformance      Summe der Leistungen aller Nachbarn.
+     * @precondition windFarm ist nicht null.
+     * @postcondition die Gesamtleistung des Windparks ist gesetzt und die Aenderung dokumentiert.
+     */
+    private static void setAveragePerformance (WindFarm windFarm, int neighborsWindTurbineTotalCount,
+                                               float neighborsTotalPerformance)
+    {
+        float averagePerformance = neighborsTotalPerformance / neighborsWindTurbineTotalCount;
+        int windFarmCounter = windFarm.getWindTurbineCount();
 
         windFarm.setTotalPerformance(averagePerformance * windFarmCounter);
 
@@ -97,12 +124,7 @@ public class PerformanceNormalizer
      */
     private static void validatePerformance (WindFarm windFarm)
     {
-        int windTurbineCounter = GeneralConstants.EMPTY_INT_VARIABLE;
-
-        for (WindTurbineGroup windTurbineGroup : windFarm.getWindTurbineGroups())
-        {
-            windTurbineCounter += windTurbineGroup.getWindTurbines().size();
-        }
+        int windTurbineCounter = windFarm.getWindTurbineCount();
 
         if (windFarm.getTotalPerformance() > windTurbineCounter * GeneralConstants.TOP_TURBINE_PERFORMANCE)
         {
@@ -0,0 +1,540 @@
+package org.elias.util;
+
+import org.elias.model.Coordinates;
+import org.elias.res.constant.GeneralConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Raeumlicher Index, der Elemente anhand ihrer Koordinaten in ein Gitter aus Breiten-/Laengengrad-Zellen einteilt.
+ * <p>
+ * Die Zellgroesse wird aus einem Radius in Kilometern abgeleitet. Eine Umkreissuche muss dadurch nur die Zellen
+ * in der Naehe des Suchpunktes betrachten statt aller Elemente. Die Zellbreite in Laengenrichtung wird je
+ * Breitengrad-Zeile berechnet, da Laengengrade zu den Polen hin zusammenlaufen.
+ * <p>
+ * Der Index haelt eine Momentaufnahme der Elemente und ihrer Koordinaten; spaetere Aenderungen der
+ * Ursprungsliste oder der Koordinaten werden nicht beruecksichtigt. Die Datumsgrenze (±180°) wird nicht
+ * ueberbrueckt.
+ * <p>
+ * Elemente koennen mit {@link #remove(int)} aus dem Index entfernt werden. Sie werden danach von keiner Suche mehr
+ * geliefert, behalten aber ihren Index fuer {@link #getElement(int)}.
+ * <p>
+ * Zu jedem Element werden Kosinus des Breitengrades und kartesischer Einheitsvektor spaltenweise vorberechnet.
+ * Kandidaten werden zuerst ueber die quadrierte Sehnenlaenge gefiltert
+ * ({@link GeoFormula#squaredChordDistances(double[], double[], double[], double[], int[], int, double[])}); nur
+ * die verbleibenden werden mit der exakten Haversine-Distanz verglichen. Die Ergebnisse entsprechen damit genau
+ * einem Vergleich ueber {@link GeoFormula#haversineDistance(float, float, float, float)}.
+ *
+ * @param <E> Datentyp der indizierten Elemente.
+ */
+public class SpatialGridIndex<E>
+{
+    private final List<E> elements;
+    private final float[] latitudes;
+    private final float[] longitudes;
+    /**
+     * Kosinus der Breitengrade fuer die exakte Haversine-Distanz
+     */
+    private final double[] cosLatitudes;
+    /**
+     * Kartesische Einheitsvektoren als Spalten fuer den Sehnenlaengen-Vorfilter
+     */
+    private final double[] unitX;
+    private final double[] unitY;
+    private final double[] unitZ;
+    private final boolean[] removed;
+    private int remainingCount;
+
+    private final float cellRadiusKm;
+    private final double cellHeightDegrees;
+
+    /**
+     * Elementindizes je Zelle, aufsteigend sortiert
+     */
+    private final Map<Long, int[]> cells = new HashMap<>();
+
+    /**
+     * Erstellt den Index fuer eine Liste von Elementen.
+     *
+     * @param elements      die zu indizierenden Elemente.
+     * @param coordinatesOf liefert die Koordinaten eines Elements.
+     * @param cellRadiusKm  Radius, fuer den eine Suche genau die direkt benachbarten Zellen betrachtet.
+     * @precondition {@code elements} und {@code coordinatesOf} sind nicht null, {@code cellRadiusKm > 0}.
+     * @postcondition jedes Element ist genau einer Zelle zugeordnet.
+     */
+    public SpatialGridIndex (List<E> elements, Function<E, Coordinates> coordinatesOf, float cellRadiusKm)
+    {
+        this.elements = List.copyOf(elements);
+        this.latitudes = new float[elements.size()];
+        this.longitudes = new float[elements.size()];
+        this.cosLatitudes = new double[elements.size()];
+        this.unitX = new double[elements.size()];
+        this.unitY = new double[elements.size()];
+        this.unitZ = new double[elements.size()];
+        this.removed = new boolean[elements.size()];
+        this.remainingCount = elements.size();
+        this.cellRadiusKm = cellRadiusKm;
+        this.cellHeightDegrees = latitudeSpan(cellRadiusKm) * GeneralConstants.SPATIAL_GRID_CELL_MARGIN;
+
+        for (int i = 0; i < this.elements.size(); i++)
+        {
+            Coordinates coordinates = coordinatesOf.apply(this.elements.get(i));
+            latitudes[i] = coordinates.getLatitude();
+            longitudes[i] = coordinates.getLongitude();
+            cosLatitudes[i] = Math.cos(Math.toRadians(latitudes[i]));
+
+            double[] unitVector = GeoFormula.toUnitVector(latitudes[i], longitudes[i]);
+            unitX[i] = unitVector[GeneralConstants.INT_ZERO];
+            unitY[i] = unitVector[GeneralConstants.INT_ONE];
+            unitZ[i] = unitVector[GeneralConstants.INT_TWO];
+        }
+
+        fillCells();
+    }
+
+    // --- Getters ---
+
+    public List<E> getElements ()
+    {
+        return elements;
+    }
+
+    public E getElement (int index)
+    {
+        return elements.get(index);
+    }
+
+    public int size ()
+    {
+        return elements.size();
+    }
+
+    public int getRemainingCount ()
+    {
+        return remainingCount;
+    }
+
+    /**
+     * Berechnet die Haversine-Distanz zwischen zwei Elementen des Index.
+     *
+     * @param index1 Index des ersten Elements.
+     * @param index2 Index des zweiten Elements.
+     * @return Distanz in Kilometern, identisch zu {@link GeoFormula#haversineDistance(float, float, float, float)}
+     * mit den Koordinaten in derselben Reihenfolge.
+     * @precondition beide Indizes liegen in {@code 0..size()-1}.
+     * @postcondition der Index bleibt unveraendert.
+     */
+    public float getDistance (int index1, int index2)
+    {
+        return distanceTo(latitudes[index1], longitudes[index1], cosLatitudes[index1], index2);
+    }
+
+    /**
+     * Entfernt ein Element aus dem Index.
+     * <p>
+     * Das Element wird aus seiner Zelle geloescht; der Aufwand haengt nur von der Belegung dieser Zelle ab.
+     *
+     * @param index Index des zu entfernenden Elements.
+     * @precondition {@code 0 <= index < size()}.
+     * @postcondition das Element wird von keiner Suche mehr geliefert; bereits entfernte Elemente bleiben entfernt.
+     */
+    public void remove (int index)
+    {
+        if (removed[index])
+        {
+            return;
+        }
+
+        int row = cellOf(latitudes[index], cellHeightDegrees);
+        long key = cellKey(row, cellOf(longitudes[index], cellWidth(row)));
+        int[] cell = cells.get(key);
+        int position = Arrays.binarySearch(cell, index);
+
+        if (cell.length == GeneralConstants.INT_ONE)
+        {
+            cells.remove(key);
+        }
+        else
+        {
+            int[] remaining = new int[cell.length - GeneralConstants.INT_ONE];
+            System.arraycopy(cell, GeneralConstants.INT_ZERO, remaining, GeneralConstants.INT_ZERO, position);
+            System.arraycopy(cell, position + GeneralConstants.INT_ONE, remaining, position,
+                    remaining.length - position);
+            cells.put(key, remaining);
+        }
+
+        removed[index] = true;
+        remainingCount--;
+    }
+
+    /**
+     * Ermittelt das verbleibende Element mit der geringsten Haversine-Distanz zum Suchpunkt.
+     * <p>
+     * Der Suchradius beginnt beim Zellradius und wird verdoppelt, bis innerhalb des Radius ein Element gefunden
+     * wurde; alle Elemente ausserhalb der Kandidaten sind dann weiter entfernt. Wuerde eine Suche mehr Zellen
+     * betrachten, als noch Elemente vorhanden sind, werden stattdessen alle verbleibenden Elemente verglichen.
+     * Distanzen werden wie in {@link #findWithinRadius(Coordinates, float)} als {@code float} verglichen; bei
+     * gleicher Distanz gewinnt das Element mit dem kleineren Index.
+     *
+     * @param latitude  Breitengrad des Suchpunktes.
+     * @param longitude Laengengrad des Suchpunktes.
+     * @return Index des naechstgelegenen Elements oder {@link GeneralConstants#UNASSIGNED_ID}, falls der Index
+     * leer ist.
+     * @precondition die Koordinaten aller Elemente sind normalisiert.
+     * @postcondition der Index bleibt unveraendert.
+     */
+    public int findNearestIndex (float latitude, float longitude)
+    {
+        double[] origin = GeoFormula.toUnitVector(latitude, longitude);
+        double cosLatitude = Math.cos(Math.toRadians(latitude));
+        float radiusKm = cellRadiusKm;
+
+        while (remainingCount > GeneralConstants.INT_ZERO && isGridSearchCheaper(radiusKm))
+        {
+            int[] candidates = findCandidateIndices(latitude, longitude, radiusKm);
+            int nearest = findNearestCandidate(latitude, longitude, origin, cosLatitude, candidates);
+
+            // Nicht gelieferte Elemente sind mindestens radiusKm entfernt
+            if (nearest != GeneralConstants.UNASSIGNED_ID
+                    && distanceTo(latitude, longitude, cosLatitude, nearest) < radiusKm)
+            {
+                return nearest;
+            }
+            radiusKm *= GeneralConstants.INT_TWO;
+        }
+
+        int[] remaining = new int[remainingCount];
+        int remainingIndex = GeneralConstants.INT_ZERO;
+        for (int i = 0; i < elements.size(); i++)
+        {
+            if (!removed[i])
+            {
+                remaining[remainingIndex++] = i;
+            }
+        }
+        return findNearestCandidate(latitude, longitude, origin, cosLatitude, remaining);
+    }
+
+    /**
+     * Liefert alle verbleibenden Elemente, deren Haversine-Distanz zu einem Element kleiner als der Radius ist.
+     *
+     * @param index    Index des Elements, um das gesucht wird.
+     * @param radiusKm Suchradius in Kilometern.
+     * @return aufsteigend sortierte Indizes der gefundenen Elemente, einschliesslich {@code index} selbst,
+     * sofern es nicht entfernt wurde.
+     * @precondition {@code 0 <= index < size()}, {@code radiusKm > 0}.
+     * @postcondition der Index bleibt unveraendert.
+     */
+    public int[] findIndicesWithinRadius (int index, float radiusKm)
+    {
+        double[] origin = {unitX[index], unitY[index], unitZ[index]};
+
+        return filterWithinRadius(latitudes[index], longitudes[index], origin, cosLatitudes[index], radiusKm);
+    }
+
+    /**
+     * Liefert alle Elemente, die fuer eine Umkreissuche in Frage kommen.
+     * <p>
+     * Das Ergebnis ist eine Obermenge der Elemente im Umkreis: es enthaelt jedes Element mit einer
+     * Haversine-Distanz kleiner {@code radiusKm}, aber auch weiter entfernte Elemente aus denselben Zellen.
+     *
+     * @param latitude  Breitengrad des Suchpunktes.
+     * @param longitude Laengengrad des Suchpunktes.
+     * @param radiusKm  Suchradius in Kilometern.
+     * @return aufsteigend sortierte Indizes der Kandidaten.
+     * @precondition {@code radiusKm > 0}.
+     * @postcondition der Index bleibt unveraendert.
+     */
+    public int[] findCandidateIndices (float latitude, float longitude, float radiusKm)
+    {
+        double latitudeSpan = latitudeSpan(radiusKm) * GeneralConstants.SPATIAL_GRID_CELL_MARGIN;
+        int firstRow = cellOf(latitude - latitudeSpan, cellHeightDegrees);
+        int lastRow = cellOf(latitude + latitudeSpan, cellHeightDegrees);
+
+        int[] candidates = new int[GeneralConstants.INT_ZERO];
+        int candidateCount = GeneralConstants.INT_ZERO;
+
+        for (int row = firstRow; row <= lastRow; row++)
+        {
+            // Groesster Breitengrad, den Suchpunkt und Elemente dieser Zeile haben koennen
+            double maxLatitude = Math.max(Math.abs(latitude), Math.max(Math.abs(row * cellHeightDegrees),
+                    Math.abs((row + GeneralConstants.INT_ONE) * cellHeightDegrees)));
+            double longitudeSpan = longitudeSpan(radiusKm, maxLatitude) * GeneralConstants.SPATIAL_GRID_CELL_MARGIN;
+            double cellWidth = cellWidth(row);
+            int firstColumn = cellOf(longitude - longitudeSpan, cellWidth);
+            int lastColumn = cellOf(longitude + longitudeSpan, cellWidth);
+
+            for (int column = firstColumn; column <= lastColumn; column++)
+            {
+                int[] cell = cells.get(cellKey(row, column));
+
+                if (cell == null)
+                {
+                    continue;
+                }
+
+                if (candidateCount + cell.length > candidates.length)
+                {
+                    candidates = Arrays.copyOf(candidates,
+                            Math.max(candidateCount + cell.length, candidates.length * GeneralConstants.INT_TWO));
+                }
+                System.arraycopy(cell, GeneralConstants.INT_ZERO, candidates, candidateCount, cell.length);
+                candidateCount += cell.length;
+            }
+        }
+
+        candidates = Arrays.copyOf(candidates, candidateCount);
+        Arrays.sort(candidates);
+        return candidates;
+    }
+
+    /**
+     * Liefert alle Elemente, deren Haversine-Distanz zum Suchpunkt kleiner als der Radius ist.
+     *
+     * @param coordinates Koordinaten des Suchpunktes.
+     * @param radiusKm    Suchradius in Kilometern.
+     * @return die gefundenen Elemente in Indexreihenfolge.
+     * @precondition {@code coordinates} ist nicht null, {@code radiusKm > 0}.
+     * @postcondition der Index bleibt unveraendert.
+     */
+    public List<E> findWithinRadius (Coordinates coordinates, float radiusKm)
+    {
+        float latitude = coordinates.getLatitude();
+        float longitude = coordinates.getLongitude();
+        List<E> result = new ArrayList<>();
+
+        for (int index : filterWithinRadius(latitude, longitude, GeoFormula.toUnitVector(latitude, longitude),
+                Math.cos(Math.toRadians(latitude)), radiusKm))
+        {
+            result.add(elements.get(index));
+        }
+        return result;
+    }
+
+    /**
+     * Filtert die Kandidaten einer Umkreissuche ueber die Sehnenlaenge und bestaetigt sie exakt.
+     *
+     * @param latitude    Breitengrad des Suchpunktes.
+     * @param longitude   Laengengrad des Suchpunktes.
+     * @param origin      Einheitsvektor des Suchpunktes.
+     * @param cosLatitude Kosinus des Breitengrades des Suchpunktes.
+     * @param radiusKm    Suchradius in Kilometern.
+     * @return aufsteigend sortierte Indizes aller Elemente mit {@code (float) haversine < radiusKm}.
+     * @precondition {@code radiusKm > 0}.
+     * @postcondition der Index bleibt unveraendert.
+     */
+    private int[] filterWithinRadius (float latitude, float longitude, double[] origin, double cosLatitude,
+                                      float radiusKm)
+    {
+        int[] candidates = findCandidateIndices(latitude, longitude, radiusKm);
+        double[] squaredChords = new double[candidates.length];
+        double bound = GeoFormula.squaredChordBound(radiusKm);
+        int count = GeneralConstants.INT_ZERO;
+
+        GeoFormula.squaredChordDistances(origin, unitX, unitY, unitZ, candidates, candidates.length, squaredChords);
+
+        for (int k = 0; k < candidates.length; k++)
+        {
+            if (squaredChords[k] <= bound && distanceTo(latitude, longitude, cosLatitude, candidates[k]) < radiusKm)
+            {
+                candidates[count++] = candidates[k];
+            }
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * Ermittelt unter den Kandidaten das Element mit der geringsten Haversine-Distanz.
+     * <p>
+     * Exakt verglichen werden nur Kandidaten, deren Sehnenlaenge hoechstens um den Sicherheitsaufschlag ueber der
+     * kleinsten liegt; alle anderen sind sicher weiter entfernt. Bei gleicher Distanz gewinnt der erste Kandidat.
+     *
+     * @param latitude    Breitengrad des Suchpunktes.
+     * @param longitude   Laengengrad des Suchpunktes.
+     * @param origin      Einheitsvektor des Suchpunktes.
+     * @param cosLatitude Kosinus des Breitengrades des Suchpunktes.
+     * @param candidates  aufsteigend sortierte Kandidaten.
+     * @return Index des naechstgelegenen Kandidaten oder {@link GeneralConstants#UNASSIGNED_ID}, falls keiner
+     * existiert.
+     * @precondition {@code candidates} ist nicht null.
+     * @postcondition der Index bleibt unveraendert.
+     */
+    private int findNearestCandidate (float latitude, float longitude, double[] origin, double cosLatitude,
+                                      int[] candidates)
+    {
+        double[] squaredChords = new double[candidates.length];
+        double smallestChord = Double.MAX_VALUE;
+
+        GeoFormula.squaredChordDistances(origin, unitX, unitY, unitZ, candidates, candidates.length, squaredChords);
+
+        for (double squaredChord : squaredChords)
+        {
+            if (squaredChord < smallestChord)
+            {
+                smallestChord = squaredChord;
+            }
+        }
+
+        double bound = GeoFormula.withChordTolerance(smallestChord);
+        int nearest = GeneralConstants.UNASSIGNED_ID;
+        float bestDistance = Float.MAX_VALUE;
+
+        for (int k = 0; k < candidates.length; k++)
+        {
+            if (squaredChords[k] > bound)
+            {
+                continue;
+            }
+
+            float distance = distanceTo(latitude, longitude, cosLatitude, candidates[k]);
+
+            if (bestDistance > distance)
+            {
+                bestDistance = distance;
+                nearest = candidates[k];
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Schaetzt ab, ob eine Gittersuche mit dem Radius weniger Zellen betrachtet, als noch Elemente vorhanden sind.
+     *
+     * @param radiusKm Suchradius in Kilometern.
+     * @return {@code true}, wenn die Gittersuche guenstiger ist als ein Vergleich aller Elemente.
+     * @precondition {@code radiusKm > 0}.
+     * @postcondition keine.
+     */
+    private boolean isGridSearchCheaper (float radiusKm)
+    {
+        // Zellen je Richtung: Suchspanne plus angeschnittene Randzellen
+        double cellsPerAxis = GeneralConstants.INT_TWO * radiusKm / cellRadiusKm + GeneralConstants.INT_TWO;
+
+        return cellsPerAxis * cellsPerAxis < remainingCount;
+    }
+
+    /**
+     * Berechnet die Haversine-Distanz vom Suchpunkt zu einem Element.
+     *
+     * @param latitude    Breitengrad des Suchpunktes.
+     * @param longitude   Laengengrad des Suchpunktes.
+     * @param cosLatitude Kosinus des Breitengrades des Suchpunktes.
+     * @param index       Index des Elements.
+     * @return Distanz in Kilometern.
+     * @precondition {@code 0 <= index < size()}.
+     * @postcondition keine.
+     */
+    private float distanceTo (float latitude, float longitude, double cosLatitude, int index)
+    {
+        return (float) GeoFormula.haversineDistance(latitude, latitudes[index], longitude, longitudes[index],
+                cosLatitude, cosLatitudes[index]);
+    }
+
+    /**
+     * Ordnet alle Elemente ihren Zellen zu.
+     *
+     * @precondition Koordinaten und Zellgroesse sind gesetzt.
+     * @postcondition {@code cells} enthaelt fuer jede belegte Zelle die aufsteigenden Elementindizes.
+     */
+    private void fillCells ()
+    {
+        Map<Long, List<Integer>> cellLists = new HashMap<>();
+
+        for (int i = 0; i < elements.size(); i++)
+        {
+            int row = cellOf(latitudes[i], cellHeightDegrees);
+            long key = cellKey(row, cellOf(longitudes[i], cellWidth(row)));
+            cellLists.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+        }
+
+        for (Map.Entry<Long, List<Integer>> entry : cellLists.entrySet())
+        {
+            cells.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    /**
+     * Berechnet die Zellbreite einer Breitengrad-Zeile.
+     * <p>
+     * Die Breite entspricht dem Laengengrad-Abstand des Zellradius am polnaechsten Rand der Nachbarzeilen,
+     * sodass die Zellen annaehernd quadratisch sind.
+     *
+     * @param row Index der Breitengrad-Zeile.
+     * @return Zellbreite in Grad.
+     * @precondition keine.
+     * @postcondition Rueckgabewert ist positiv.
+     */
+    private double cellWidth (int row)
+    {
+        double maxLatitude = Math.max(Math.abs((row - GeneralConstants.INT_ONE) * cellHeightDegrees),
+                Math.abs((row + GeneralConstants.INT_TWO) * cellHeightDegrees));
+
+        return longitudeSpan(cellRadiusKm, maxLatitude) * GeneralConstants.SPATIAL_GRID_CELL_MARGIN;
+    }
+
+    /**
+     * Berechnet den Breitengrad-Abstand, den zwei Punkte mit einer Distanz kleiner als der Radius hoechstens haben.
+     *
+     * @param radiusKm Radius in Kilometern.
+     * @return maximaler Breitengrad-Abstand in Grad.
+     * @precondition {@code radiusKm > 0}.
+     * @postcondition Rueckgabewert ist positiv.
+     */
+    private static double latitudeSpan (float radiusKm)
+    {
+        return Math.toDegrees(radiusKm / GeneralConstants.EARTH_RADIUS_KM);
+    }
+
+    /**
+     * Berechnet den Laengengrad-Abstand, den zwei Punkte mit einer Distanz kleiner als der Radius hoechstens haben,
+     * wenn keiner der beiden Punkte weiter als {@code maxLatitude} vom Aequator entfernt liegt.
+     * <p>
+     * Folgt aus der Haversine-Formel: {@code hav(d/R) >= cos²(maxLatitude) * hav(deltaLongitude)}.
+     *
+     * @param radiusKm    Radius in Kilometern.
+     * @param maxLatitude groesster Betrag des Breitengrades in Grad, Werte ueber 90° werden begrenzt.
+     * @return maximaler Laengengrad-Abstand in Grad (hoechstens 180°).
+     * @precondition {@code radiusKm > 0}.
+     * @postcondition Rueckgabewert ist positiv.
+     */
+    private static double longitudeSpan (float radiusKm, double maxLatitude)
+    {
+        double halfAngle = Math.sin(radiusKm / (GeneralConstants.INT_TWO * GeneralConstants.EARTH_RADIUS_KM))
+                / Math.cos(Math.toRadians(Math.min(maxLatitude, GeneralConstants.MAX_LATITUDE_DEGREES)));
+
+        return Math.toDegrees(GeneralConstants.INT_TWO * Math.asin(Math.min(halfAngle, GeneralConstants.INT_ONE)));
+    }
+
+    /**
+     * Berechnet den Zellindex einer Koordinate.
+     *
+     * @param degrees     Breiten- oder Laengengrad.
+     * @param cellDegrees Zellgroesse in Grad.
+     * @return Zellindex.
+     * @precondition {@code cellDegrees > 0}.
+     * @postcondition keine.
+     */
+    private static int cellOf (double degrees, double cellDegrees)
+    {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    /**
+     * Fasst zwei Zellindizes zu einem Schluessel zusammen.
+     *
+     * @param latitudeCell  Zellindex in Breitenrichtung.
+     * @param longitudeCell Zellindex in Laengenrichtung.
+     * @return eindeutiger Schluessel der Zelle.
+     * @precondition keine.
+     * @postcondition keine.
+     */
+    private static long cellKey (int latitudeCell, int longitudeCell)
+    {
+        return ((long) latitudeCell << Integer.SIZE) | (longitudeCell & GeneralConstants.UNSIGNED_INT_MASK);
+    }
+}
@@ -0,0 +1,39 @@
+package org.elias.util;
+
+/**
+ * Eine CSV-Datenzeile, deren Zellen bereits von {@link CSVLineParser#parseLine(String)} dekodiert wurden.
+ */
+public final class StringCSVRow implements CSVRow
+{
+    private final String[] cells;
+
+    /**
+     * Erstellt eine Zeile aus zerlegten Zellen.
+     *
+     * @param cells Zellen im Format von {@link CSVLineParser#parseLine(String)}.
+     * @precondition {@code cells} ist nicht null.
+     * @postcondition die Zeile verweist auf {@code cells}, es wird nicht kopiert.
+     */
+    public StringCSVRow (String[] cells)
+    {
+        this.cells = cells;
+    }
+
+    @Override
+    public String getCell (int column)
+    {
+        return cells[column];
+    }
+
+    @Override
+    public CharSequence getCellSequence (int column)
+    {
+        return cells[column];
+    }
+
+    @Override
+    public String[] toCells ()
+    {
+        return cells;
+    }
+}
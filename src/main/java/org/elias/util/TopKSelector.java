@@ -0,0 +1,45 @@
+package org.elias.util;
+
+import org.elias.res.constant.GeneralConstants;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Ermittelt das kleinste Element einer Sammlung in einem einzigen Durchlauf.
+ * <p>
+ * Die Sammlung wird dabei nicht veraendert. Bei gleichwertigen Elementen gewinnt das zuerst gelesene, das
+ * Ergebnis entspricht damit dem ersten Element einer stabilen Sortierung (z.B. {@link List#sort(Comparator)}).
+ */
+public class TopKSelector
+{
+    /**
+     * Ermittelt das kleinste Element bezueglich des Comparators.
+     *
+     * @param elements   die zu durchsuchenden Elemente.
+     * @param comparator legt die Reihenfolge fest.
+     * @param <E>        Datentyp der Elemente.
+     * @return das erste Element, zu dem kein kleineres existiert.
+     * @throws NoSuchElementException falls {@code elements} leer ist.
+     * @precondition beide Parameter sind nicht null.
+     * @postcondition {@code elements} bleibt unveraendert.
+     */
+    public static <E> E findMin (Iterable<E> elements, Comparator<? super E> comparator)
+    {
+        Iterator<E> iterator = elements.iterator();
+        E min = iterator.next();
+
+        while (iterator.hasNext())
+        {
+            E element = iterator.next();
+
+            if (comparator.compare(element, min) < GeneralConstants.INT_ZERO)
+            {
+                min = element;
+            }
+        }
+        return min;
+    }
+}
@@ -0,0 +1,69 @@
+package org.elias.util;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+import org.elias.res.constant.GeneralConstants;
+
+/**
+ * Berechnet quadrierte Sehnenlaengen mit der Vector API ({@code jdk.incubator.vector}).
+ * <p>
+ * Die Punkte werden ueber ihre Indizes aus den Spalten geladen (Gather), sodass auch nicht zusammenhaengende
+ * Kandidaten aus dem raeumlichen Index in einem Durchlauf verarbeitet werden. Die Klasse darf nur verwendet
+ * werden, wenn das Inkubator-Modul geladen ist; {@link GeoFormula} prueft das vor dem Aufruf.
+ */
+final class VectorHaversineKernel
+{
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Privater Konstruktor, die Klasse bietet nur statische Methoden.
+     *
+     * @precondition keine.
+     * @postcondition keine.
+     */
+    private VectorHaversineKernel ()
+    {
+    }
+
+    /**
+     * Berechnet die quadrierten Sehnenlaengen vom Ursprung zu den Punkten an den angegebenen Indizes.
+     *
+     * @param origin    Einheitsvektor des Ursprungs ({@code x, y, z}).
+     * @param unitX     x-Komponenten aller Punkte.
+     * @param unitY     y-Komponenten aller Punkte.
+     * @param unitZ     z-Komponenten aller Punkte.
+     * @param indices   Indizes der zu berechnenden Punkte.
+     * @param count     Anzahl der gueltigen Eintraege in {@code indices}.
+     * @param distances Ergebnis-Array, Eintrag {@code k} gehoert zu {@code indices[k]}.
+     * @precondition alle Arrays sind nicht null, {@code distances.length >= count}.
+     * @postcondition die ersten {@code count} Eintraege von {@code distances} sind gesetzt.
+     */
+    static void squaredChordDistances (double[] origin, double[] unitX, double[] unitY, double[] unitZ,
+                                       int[] indices, int count, double[] distances)
+    {
+        DoubleVector originX = DoubleVector.broadcast(SPECIES, origin[GeneralConstants.INT_ZERO]);
+        DoubleVector originY = DoubleVector.broadcast(SPECIES, origin[GeneralConstants.INT_ONE]);
+        DoubleVector originZ = DoubleVector.broadcast(SPECIES, origin[GeneralConstants.INT_TWO]);
+        int vectorEnd = SPECIES.loopBound(count);
+        int k = GeneralConstants.INT_ZERO;
+
+        for (; k < vectorEnd; k += SPECIES.length())
+        {
+            DoubleVector deltaX = DoubleVector.fromArray(SPECIES, unitX, GeneralConstants.INT_ZERO, indices, k)
+                    .sub(originX);
+            DoubleVector deltaY = DoubleVector.fromArray(SPECIES, unitY, GeneralConstants.INT_ZERO, indices, k)
+                    .sub(originY);
+            DoubleVector deltaZ = DoubleVector.fromArray(SPECIES, unitZ, GeneralConstants.INT_ZERO, indices, k)
+                    .sub(originZ);
+
+            deltaX.mul(deltaX).add(deltaY.mul(deltaY)).add(deltaZ.mul(deltaZ)).intoArray(distances, k);
+        }
+
+        // Rest, der kein volles Vektorregister fuellt
+        for (; k < count; k++)
+        {
+            distances[k] = GeoFormula.squaredChordDistance(origin, unitX[indices[k]], unitY[indices[k]],
+                    unitZ[indices[k]]);
+        }
+    }
+}
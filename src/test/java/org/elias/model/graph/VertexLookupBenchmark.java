@@ -0,0 +1,173 @@
+package org.elias.model.graph;
+
+import org.elias.model.WindFarm;
+import org.elias.model.service.GraphFactory;
+import org.elias.model.service.WindFarmImporter;
+import org.elias.model.service.WindFarmRepository;
+import org.elias.res.constant.GeneralConstants;
+import org.elias.util.CoordinatesNormalizer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reproduzierbarer Vergleich der Nachbarsuche ueber alle Windparks der mitgelieferten CSV-Datei.
+ * <p>
+ * Gemessen werden drei Varianten mit denselben Kanten: ein {@link Graph}, dessen Vertices wie der fruehere
+ * {@link Vertex} ueber {@link WindFarm#equals(Object)} und {@link WindFarm#hashCode()} tief verglichen und gehasht
+ * werden, derselbe {@link Graph} mit identitaetsbasierten Vertices und der {@link CompactGraph} ueber die
+ * Windpark-ID. Zusaetzlich wird der Aufbau beider Adjazenzlisten gemessen.
+ * Aufruf nach {@code mvn test-compile}:
+ * <pre>
+ * java -cp target/classes:target/test-classes org.elias.model.graph.VertexLookupBenchmark [Durchlaeufe]
+ * </pre>
+ */
+public final class VertexLookupBenchmark
+{
+    private static final int DEFAULT_ROUNDS = 50;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Verhindert, dass der JIT die gemessenen Schleifen als wirkungslos entfernt
+     */
+    private static long sink = GeneralConstants.INT_ZERO;
+
+    private VertexLookupBenchmark ()
+    {
+    }
+
+    public static void main (String[] args)
+    {
+        int rounds = args.length > GeneralConstants.INT_ZERO ? Integer.parseInt(args[GeneralConstants.INT_ZERO])
+                : DEFAULT_ROUNDS;
+
+        WindFarmRepository repository = WindFarmRepository.getInstance();
+        WindFarmImporter.importMapped(GeneralConstants.PATH_TO_CSV, repository);
+        List<WindFarm> windFarms = repository.getGermanWindFarms();
+        for (WindFarm windFarm : windFarms)
+        {
+            windFarm.setCoordinates(CoordinatesNormalizer.normalizeCoordinates(
+                    windFarm.getCoordinates().getLatitude(), windFarm.getCoordinates().getLongitude()));
+        }
+        CompactGraph<WindFarm> compactGraph = GraphFactory.createCompactGraph(GraphFactory.createIndex(windFarms));
+
+        Graph<WindFarm> deepGraph = buildGraph(compactGraph, DeepVertex::new);
+        Graph<WindFarm> identityGraph = buildGraph(compactGraph, Vertex::new);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++)
+        {
+            buildGraph(compactGraph, DeepVertex::new);
+            buildGraph(compactGraph, Vertex::new);
+            lookupNeighbors(deepGraph, windFarms, DeepVertex::new);
+            lookupNeighbors(identityGraph, windFarms, Vertex::new);
+            lookupCompact(compactGraph, windFarms);
+        }
+
+        long deepBuild = GeneralConstants.INT_ZERO;
+        long identityBuild = GeneralConstants.INT_ZERO;
+        long deepLookup = GeneralConstants.INT_ZERO;
+        long identityLookup = GeneralConstants.INT_ZERO;
+        long compactLookup = GeneralConstants.INT_ZERO;
+
+        for (int i = 0; i < rounds; i++)
+        {
+            long start = System.nanoTime();
+            sink += buildGraph(compactGraph, DeepVertex::new).getAdjacencyMap().size();
+            long afterDeepBuild = System.nanoTime();
+            sink += buildGraph(compactGraph, Vertex::new).getAdjacencyMap().size();
+            long afterIdentityBuild = System.nanoTime();
+            lookupNeighbors(deepGraph, windFarms, DeepVertex::new);
+            long afterDeepLookup = System.nanoTime();
+            lookupNeighbors(identityGraph, windFarms, Vertex::new);
+            long afterIdentityLookup = System.nanoTime();
+            lookupCompact(compactGraph, windFarms);
+            long afterCompactLookup = System.nanoTime();
+
+            deepBuild += afterDeepBuild - start;
+            identityBuild += afterIdentityBuild - afterDeepBuild;
+            deepLookup += afterDeepLookup - afterIdentityBuild;
+            identityLookup += afterIdentityLookup - afterDeepLookup;
+            compactLookup += afterCompactLookup - afterIdentityLookup;
+        }
+
+        System.out.println(windFarms.size() + " Windparks, " + compactGraph.getEdgeCount() + " Kanten");
+        printResult("Aufbau, tiefer Hash", deepBuild, rounds);
+        printResult("Aufbau, Identitaet", identityBuild, rounds);
+        printResult("Nachbarn, tiefer Hash", deepLookup, rounds);
+        printResult("Nachbarn, Identitaet", identityLookup, rounds);
+        printResult("Nachbarn, CompactGraph per ID", compactLookup, rounds);
+        System.out.println("(" + sink + ")");
+    }
+
+    private static void printResult (String label, long totalNanos, int rounds)
+    {
+        System.out.printf("%-32s: %8.3f ms/Durchlauf%n", label, totalNanos / NANOS_PER_MILLI / rounds);
+    }
+
+    private static Graph<WindFarm> buildGraph (CompactGraph<WindFarm> compactGraph,
+                                              Function<WindFarm, Vertex<WindFarm>> vertexFactory)
+    {
+        Graph<WindFarm> graph = new Graph<>();
+        List<Vertex<WindFarm>> vertices = new ArrayList<>(compactGraph.getVertexCount());
+
+        for (WindFarm windFarm : compactGraph.getVertexData())
+        {
+            vertices.add(vertexFactory.apply(windFarm));
+        }
+        for (int vertex = 0; vertex < vertices.size(); vertex++)
+        {
+            graph.addVertex(vertices.get(vertex));
+            for (int edge = compactGraph.getFirstEdge(vertex); edge < compactGraph.getEdgeEnd(vertex); edge++)
+            {
+                if (compactGraph.getTarget(edge) > vertex)
+                {
+                    graph.addEdge(vertices.get(vertex), vertices.get(compactGraph.getTarget(edge)),
+                            compactGraph.getWeight(edge));
+                }
+            }
+        }
+        return graph;
+    }
+
+    private static void lookupNeighbors (Graph<WindFarm> graph, List<WindFarm> windFarms,
+                                         Function<WindFarm, Vertex<WindFarm>> vertexFactory)
+    {
+        for (WindFarm windFarm : windFarms)
+        {
+            sink += graph.getNeighbors(vertexFactory.apply(windFarm)).size();
+        }
+    }
+
+    private static void lookupCompact (CompactGraph<WindFarm> compactGraph, List<WindFarm> windFarms)
+    {
+        for (WindFarm windFarm : windFarms)
+        {
+            sink += compactGraph.getDegree(windFarm.getId());
+        }
+    }
+
+    /**
+     * Vertex mit dem frueheren Vergleich ueber den gesamten Inhalt des Windparks.
+     */
+    private static final class DeepVertex extends Vertex<WindFarm>
+    {
+        DeepVertex (WindFarm windFarm)
+        {
+            super(windFarm);
+        }
+
+        @Override
+        public boolean equals (Object object)
+        {
+            return object instanceof DeepVertex vertex && getData().equals(vertex.getData());
+        }
+
+        @Override
+        public int hashCode ()
+        {
+            return getData().hashCode();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package org.elias.model.service;
+
+import org.elias.model.WindFarm;
+import org.elias.res.constant.GeneralConstants;
+import org.elias.util.CompensatedSum;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reproduzierbarer Vergleich der Analyse-Abfragen ueber die {@link WindFarm}-Objekte und ueber den
+ * {@link WindFarmColumnStore} mit synthetischen 100.000 Windparks.
+ * <p>
+ * Die Windparks der mitgelieferten CSV-Datei werden wiederholt und mit festem Seed gemischt. Gemessen werden vier
+ * Abfragen (suedlichster Windpark, hoechste Leistung, meiste Windturbinen, Gesamtleistung) einmal als Schleifen
+ * ueber die Objekte und einmal ueber die Spalten, beide mit derselben Gleichstandsregel und derselben
+ * {@link CompensatedSum}. Zusaetzlich wird der einmalige Aufbau des Spaltenspeichers gemessen.
+ * Aufruf nach {@code mvn test-compile}:
+ * <pre>
+ * java -cp target/classes:target/test-classes org.elias.model.service.WindFarmColumnStoreBenchmark [Durchlaeufe]
+ * </pre>
+ */
+public final class WindFarmColumnStoreBenchmark
+{
+    private static final int DEFAULT_ROUNDS = 50;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final int SYNTHETIC_SIZE = 100_000;
+    private static final long SEED = 20240611L;
+
+    /**
+     * Verhindert, dass der JIT die gemessenen Schleifen als wirkungslos entfernt
+     */
+    private static double sink = GeneralConstants.INT_ZERO;
+
+    private WindFarmColumnStoreBenchmark ()
+    {
+    }
+
+    public static void main (String[] args)
+    {
+        int rounds = args.length > GeneralConstants.INT_ZERO ? Integer.parseInt(args[GeneralConstants.INT_ZERO])
+                : DEFAULT_ROUNDS;
+
+        WindFarmRepository repository = WindFarmRepository.getInstance();
+        WindFarmImporter.importMapped(GeneralConstants.PATH_TO_CSV, repository);
+        List<WindFarm> windFarms = createSyntheticWindFarms(repository.getGermanWindFarms());
+        WindFarmColumnStore columnStore = new WindFarmColumnStore(windFarms);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++)
+        {
+            queryObjects(windFarms);
+            queryColumns(columnStore);
+            sink += new WindFarmColumnStore(windFarms).size();
+        }
+
+        long objects = GeneralConstants.INT_ZERO;
+        long columns = GeneralConstants.INT_ZERO;
+        long build = GeneralConstants.INT_ZERO;
+
+        for (int i = 0; i < rounds; i++)
+        {
+            long start = System.nanoTime();
+            queryObjects(windFarms);
+            long afterObjects = System.nanoTime();
+            queryColumns(columnStore);
+            long afterColumns = System.nanoTime();
+            sink += new WindFarmColumnStore(windFarms).size();
+            long afterBuild = System.nanoTime();
+
+            objects += afterObjects - start;
+            columns += afterColumns - afterObjects;
+            build += afterBuild - afterColumns;
+        }
+
+        System.out.println(windFarms.size() + " Windparks");
+        printResult("4 Abfragen, Objekte", objects, rounds);
+        printResult("4 Abfragen, Spalten", columns, rounds);
+        printResult("Aufbau Spaltenspeicher", build, rounds);
+        System.out.println("(" + sink + ")");
+    }
+
+    private static void printResult (String label, long totalNanos, int rounds)
+    {
+        System.out.printf("%-32s: %8.3f ms/Durchlauf%n", label, totalNanos / NANOS_PER_MILLI / rounds);
+    }
+
+    private static List<WindFarm> createSyntheticWindFarms (List<WindFarm> windFarms)
+    {
+        List<WindFarm> synthetic = new ArrayList<>(SYNTHETIC_SIZE);
+
+        while (synthetic.size() < SYNTHETIC_SIZE)
+        {
+            synthetic.addAll(windFarms.subList(GeneralConstants.INT_ZERO,
+                    Math.min(windFarms.size(), SYNTHETIC_SIZE - synthetic.size())));
+        }
+        Collections.shuffle(synthetic, new Random(SEED));
+        return synthetic;
+    }
+
+    private static void queryObjects (List<WindFarm> windFarms)
+    {
+        WindFarm southernmost = windFarms.getFirst();
+        WindFarm highestPerformance = windFarms.getFirst();
+        WindFarm mostWindTurbines = windFarms.getFirst();
+
+        for (WindFarm windFarm : windFarms)
+        {
+            if (Float.compare(windFarm.getCoordinates().getLatitude(),
+                    southernmost.getCoordinates().getLatitude()) < GeneralConstants.INT_ZERO)
+            {
+                southernmost = windFarm;
+            }
+        }
+        for (WindFarm windFarm : windFarms)
+        {
+            if (Float.compare(windFarm.getTotalPerformance(), highestPerformance.getTotalPerformance())
+                    > GeneralConstants.INT_ZERO)
+            {
+                highestPerformance = windFarm;
+            }
+        }
+        for (WindFarm windFarm : windFarms)
+        {
+            if (windFarm.getWindTurbineCount() > mostWindTurbines.getWindTurbineCount())
+            {
+                mostWindTurbines = windFarm;
+            }
+        }
+
+        CompensatedSum totalPerformance = new CompensatedSum(GeneralConstants.INT_ONE);
+        for (WindFarm windFarm : windFarms)
+        {
+            totalPerformance.add(GeneralConstants.INT_ZERO, windFarm.getTotalPerformance());
+        }
+
+        sink += southernmost.getId() + highestPerformance.getId() + mostWindTurbines.getId()
+                + totalPerformance.getSum(GeneralConstants.INT_ZERO);
+    }
+
+    private static void queryColumns (WindFarmColumnStore columnStore)
+    {
+        WindFarm southernmost = columnStore.getWindFarm(columnStore.findSouthernmostPosition());
+        WindFarm highestPerformance = columnStore.getWindFarm(columnStore.findHighestPerformancePosition());
+        WindFarm mostWindTurbines = columnStore.getWindFarm(columnStore.findMostWindTurbinesPosition());
+
+        CompensatedSum totalPerformance = new CompensatedSum(GeneralConstants.INT_ONE);
+        for (int position = 0; position < columnStore.size(); position++)
+        {
+            totalPerformance.add(GeneralConstants.INT_ZERO, columnStore.getTotalPerformance(position));
+        }
+
+        sink += southernmost.getId() + highestPerformance.getId() + mostWindTurbines.getId()
+                + totalPerformance.getSum(GeneralConstants.INT_ZERO);
+    }
+}
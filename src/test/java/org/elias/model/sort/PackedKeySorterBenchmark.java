@@ -0,0 +1,146 @@
+package org.elias.model.sort;
+
+import org.elias.model.WindFarm;
+import org.elias.model.service.WindFarmColumnStore;
+import org.elias.model.service.WindFarmImporter;
+import org.elias.model.service.WindFarmRepository;
+import org.elias.res.constant.GeneralConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Reproduzierbarer Vergleich der Comparator-Sortierung mit {@link PackedKeySorter} ueber steigende Anzahlen von
+ * Windparks, Grundlage fuer {@link GeneralConstants#PARALLEL_SORT_THRESHOLD}.
+ * <p>
+ * Die Windparks der mitgelieferten CSV-Datei werden bis zur jeweiligen Groesse wiederholt und mit festem Seed
+ * gemischt. Gemessen wird die Sortierung absteigend nach Gesamtleistung wie im Sortiermenue: die Comparator-Variante
+ * wie im sequenziellen Modus (Kopie, stabile Sortierung, Permutation), die gepackte Variante einmal mit und einmal
+ * ohne den Aufbau des {@link WindFarmColumnStore}. Da der Spaltenspeicher nur einmal erstellt und von allen
+ * Sichten geteilt wird, wird je Groesse ausgegeben, nach wie vielen sortierten Sichten sich sein Aufbau lohnt.
+ * <p>
+ * {@link java.util.Arrays#parallelSort(long[])} teilt erst oberhalb von 8192 Elementen auf; fuer Messungen auf
+ * mehreren Kernen die Parallelitaet ueber {@code -Djava.util.concurrent.ForkJoinPool.common.parallelism} setzen.
+ * Aufruf nach {@code mvn test-compile}:
+ * <pre>
+ * java -cp target/classes:target/test-classes org.elias.model.sort.PackedKeySorterBenchmark [Durchlaeufe]
+ * </pre>
+ */
+public final class PackedKeySorterBenchmark
+{
+    private static final int DEFAULT_ROUNDS = 50;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final int[] SIZES = {64, 256, 1024, 4096, 16_384, 65_536, 262_144, 1_048_576};
+    private static final long SEED = 20240611L;
+    /**
+     * Kleine Groessen laufen entsprechend oefter, damit jede Messung mindestens so viele Windparks sortiert
+     */
+    private static final int MIN_SORTED_PER_ROUND = 4096;
+
+    private static final Comparator<WindFarm> PERFORMANCE_DESCENDING = new TotalPerformanceComparator();
+
+    /**
+     * Verhindert, dass der JIT die gemessenen Schleifen als wirkungslos entfernt
+     */
+    private static long sink = GeneralConstants.INT_ZERO;
+
+    private PackedKeySorterBenchmark ()
+    {
+    }
+
+    public static void main (String[] args)
+    {
+        int rounds = args.length > GeneralConstants.INT_ZERO ? Integer.parseInt(args[GeneralConstants.INT_ZERO])
+                : DEFAULT_ROUNDS;
+
+        WindFarmRepository repository = WindFarmRepository.getInstance();
+        WindFarmImporter.importMapped(GeneralConstants.PATH_TO_CSV, repository);
+        List<WindFarm> bundledWindFarms = repository.getGermanWindFarms();
+
+        System.out.println(Runtime.getRuntime().availableProcessors() + " Prozessoren, Parallelitaet "
+                + ForkJoinPool.getCommonPoolParallelism());
+
+        for (int size : SIZES)
+        {
+            List<WindFarm> windFarms = createSyntheticWindFarms(bundledWindFarms, size);
+            WindFarmColumnStore columnStore = new WindFarmColumnStore(windFarms);
+            int repetitions = Math.max(GeneralConstants.INT_ONE, MIN_SORTED_PER_ROUND / size);
+
+            for (int i = 0; i < WARMUP_ROUNDS * repetitions; i++)
+            {
+                sortWithComparator(windFarms);
+                sortPacked(new WindFarmColumnStore(windFarms));
+            }
+
+            long comparator = GeneralConstants.INT_ZERO;
+            long packedWithStore = GeneralConstants.INT_ZERO;
+            long packed = GeneralConstants.INT_ZERO;
+
+            for (int i = 0; i < rounds * repetitions; i++)
+            {
+                long start = System.nanoTime();
+                sortWithComparator(windFarms);
+                long afterComparator = System.nanoTime();
+                sortPacked(new WindFarmColumnStore(windFarms));
+                long afterPackedWithStore = System.nanoTime();
+                sortPacked(columnStore);
+                long afterPacked = System.nanoTime();
+
+                comparator += afterComparator - start;
+                packedWithStore += afterPackedWithStore - afterComparator;
+                packed += afterPacked - afterPackedWithStore;
+            }
+
+            printResult("n=" + size + ", Comparator", comparator, rounds * repetitions);
+            printResult("n=" + size + ", gepackt + Spalten", packedWithStore, rounds * repetitions);
+            printResult("n=" + size + ", gepackt", packed, rounds * repetitions);
+            System.out.printf("%-32s: %8.1f Sichten%n", "n=" + size + ", Spalten amortisiert",
+                    (double) (packedWithStore - packed) / (comparator - packed));
+        }
+
+        System.out.println("PARALLEL_SORT_THRESHOLD = " + GeneralConstants.PARALLEL_SORT_THRESHOLD);
+        System.out.println("(" + sink + ")");
+    }
+
+    private static void printResult (String label, long totalNanos, int rounds)
+    {
+        System.out.printf("%-32s: %8.3f ms/Durchlauf%n", label, totalNanos / NANOS_PER_MILLI / rounds);
+    }
+
+    private static List<WindFarm> createSyntheticWindFarms (List<WindFarm> windFarms, int size)
+    {
+        List<WindFarm> synthetic = new ArrayList<>(size);
+
+        while (synthetic.size() < size)
+        {
+            synthetic.addAll(windFarms.subList(GeneralConstants.INT_ZERO,
+                    Math.min(windFarms.size(), size - synthetic.size())));
+        }
+        Collections.shuffle(synthetic, new Random(SEED));
+        return synthetic;
+    }
+
+    private static void sortWithComparator (List<WindFarm> windFarms)
+    {
+        List<WindFarm> sortedWindFarms = new ArrayList<>(windFarms);
+        sortedWindFarms.sort(PERFORMANCE_DESCENDING);
+
+        int[] permutation = new int[sortedWindFarms.size()];
+        for (int position = 0; position < permutation.length; position++)
+        {
+            permutation[position] = sortedWindFarms.get(position).getId();
+        }
+        sink += permutation[GeneralConstants.INT_ZERO];
+    }
+
+    private static void sortPacked (WindFarmColumnStore columnStore)
+    {
+        sink += PackedKeySorter.sortPositions(columnStore, PrimitiveSortKey.TOTAL_PERFORMANCE, true)
+                [GeneralConstants.INT_ZERO];
+    }
+}
@@ -0,0 +1,116 @@
+package org.elias.model.sort;
+
+import org.elias.model.Coordinates;
+import org.elias.model.Location;
+import org.elias.model.WindFarm;
+import org.elias.model.WindTurbineGroup;
+import org.elias.model.service.FlyweightRegistry;
+import org.elias.model.service.WindFarmBlockIterator;
+import org.elias.model.service.WindFarmColumnStore;
+import org.elias.model.service.WindFarmFactory;
+import org.elias.res.Districts;
+import org.elias.res.constant.GeneralConstants;
+import org.elias.util.MappedCSVRow;
+import org.elias.util.MappedCSVTokenizer;
+import org.junit.jupiter.api.Test;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Vergleicht {@link PackedKeySorter} mit der stabilen Sortierung ueber die Comparatoren, die das Sortiermenue im
+ * sequenziellen Modus verwendet.
+ * <p>
+ * Geprueft werden die Windparks der mitgelieferten CSV-Datei sowie einige Randwerte ({@code -0.0f}, negative
+ * Breitengrade, gleiche Schluessel).
+ */
+class PackedKeySorterTest
+{
+    @Test
+    void bundledWindFarmsMatchComparatorSort ()
+    {
+        assertAllKeysMatch(loadBundledWindFarms());
+    }
+
+    @Test
+    void edgeValuesMatchComparatorSort ()
+    {
+        List<WindFarm> windFarms = new ArrayList<>();
+        float[] values = {0.0f, -0.0f, -1.5f, 1.5f, 0.0f, -0.0f, Float.MAX_VALUE, -Float.MAX_VALUE, 1.5f};
+
+        for (int i = 0; i < values.length; i++)
+        {
+            WindFarm windFarm = new WindFarm("Park " + i, values[i], new Coordinates(values[i], values[i]));
+            WindTurbineGroup group = new WindTurbineGroup(values.length - i % 3, Year.of(2000),
+                    new Location("Ort", Districts.values()[GeneralConstants.INT_ZERO]), null);
+
+            group.addWindTurbines(FlyweightRegistry.getWindTurbineType("Typ"), i % 4);
+            windFarm.addWindTurbineGroup(group);
+            windFarms.add(windFarm);
+        }
+
+        assertAllKeysMatch(windFarms);
+    }
+
+    private static void assertAllKeysMatch (List<WindFarm> windFarms)
+    {
+        WindFarmColumnStore columnStore = new WindFarmColumnStore(windFarms);
+
+        assertSameOrder(windFarms, new IdComparator(), columnStore, PrimitiveSortKey.ID, false);
+        assertSameOrder(windFarms, new IdComparator().reversed(), columnStore, PrimitiveSortKey.ID, true);
+        assertSameOrder(windFarms, new LatitudeComparator(), columnStore, PrimitiveSortKey.LATITUDE, false);
+        assertSameOrder(windFarms, new LatitudeComparator().reversed(), columnStore, PrimitiveSortKey.LATITUDE,
+                true);
+        assertSameOrder(windFarms, new WindTurbineCountComparator(), columnStore,
+                PrimitiveSortKey.WIND_TURBINE_COUNT, false);
+        assertSameOrder(windFarms, new TotalPerformanceComparator().reversed(), columnStore,
+                PrimitiveSortKey.TOTAL_PERFORMANCE, false);
+        assertSameOrder(windFarms, new TotalPerformanceComparator(), columnStore,
+                PrimitiveSortKey.TOTAL_PERFORMANCE, true);
+    }
+
+    private static void assertSameOrder (List<WindFarm> windFarms, Comparator<WindFarm> comparator,
+                                         WindFarmColumnStore columnStore, PrimitiveSortKey key, boolean descending)
+    {
+        List<WindFarm> expected = new ArrayList<>(windFarms);
+        expected.sort(comparator);
+
+        int[] positions = PackedKeySorter.sortPositions(columnStore, key, descending);
+
+        assertEquals(expected.size(), positions.length, key + " descending=" + descending);
+        for (int i = 0; i < positions.length; i++)
+        {
+            assertSame(expected.get(i), windFarms.get(positions[i]));
+        }
+    }
+
+    /**
+     * Erzeugt die Windparks der mitgelieferten CSV-Datei ohne Repository; fehlerhafte Bloecke werden uebersprungen.
+     */
+    private static List<WindFarm> loadBundledWindFarms ()
+    {
+        List<WindFarm> windFarms = new ArrayList<>();
+
+        try (MappedCSVTokenizer tokenizer = new MappedCSVTokenizer(GeneralConstants.PATH_TO_CSV))
+        {
+            WindFarmBlockIterator<MappedCSVRow> blocks = new WindFarmBlockIterator<>(tokenizer);
+
+            while (blocks.hasNext())
+            {
+                try
+                {
+                    windFarms.add(WindFarmFactory.createWindFarm(blocks.next()));
+                } catch (RuntimeException e)
+                {
+                    // fehlerhafte Zeilen spielen fuer die Sortierung keine Rolle
+                }
+            }
+        }
+        return windFarms;
+    }
+}
@@ -0,0 +1,133 @@
+package org.elias.util;
+
+import org.elias.res.constant.GeneralConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Reproduzierbarer Vergleich der Zellparser aus {@link DataCellParser} mit den frueheren Implementierungen ueber
+ * {@link String#split(String)} ({@link DataCellParserReference}) ueber die mitgelieferte CSV-Datei.
+ * <p>
+ * Gemessen werden Baujahr, Windturbinentypen und Projektmanager. Verwendet werden nur Zellen, die die Referenz
+ * ohne Ausnahme parst, damit beide Varianten dieselbe Arbeit leisten.
+ * Aufruf nach {@code mvn test-compile}:
+ * <pre>
+ * java -cp target/classes:target/test-classes org.elias.util.DataCellParserBenchmark [Durchlaeufe]
+ * </pre>
+ */
+public final class DataCellParserBenchmark
+{
+    private static final int DEFAULT_ROUNDS = 50;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static final ToIntFunction<String> REGEX_YEAR =
+            cell -> DataCellParserReference.parseManufactureYear(cell).getValue();
+    private static final ToIntFunction<String> SCANNER_YEAR =
+            cell -> DataCellParser.parseManufactureYear(cell).getValue();
+    private static final ToIntFunction<String> REGEX_TYPES =
+            cell -> DataCellParserReference.parseWindTurbineType(cell).size();
+    private static final ToIntFunction<String> SCANNER_TYPES =
+            cell -> DataCellParser.parseWindTurbineType(cell).size();
+    private static final ToIntFunction<String> REGEX_MANAGERS =
+            cell -> DataCellParserReference.parseProjectManager(cell).size();
+    private static final ToIntFunction<String> SCANNER_MANAGERS =
+            cell -> DataCellParser.parseProjectManager(cell).size();
+
+    /**
+     * Verhindert, dass der JIT die gemessenen Schleifen als wirkungslos entfernt
+     */
+    private static long sink = GeneralConstants.INT_ZERO;
+
+    private DataCellParserBenchmark ()
+    {
+    }
+
+    public static void main (String[] args)
+    {
+        int rounds = args.length > GeneralConstants.INT_ZERO ? Integer.parseInt(args[GeneralConstants.INT_ZERO])
+                : DEFAULT_ROUNDS;
+
+        List<String> years = readParsableCells(GeneralConstants.COLUMN_INDEX_MANUFACTURE_YEAR, REGEX_YEAR);
+        List<String> types = readParsableCells(GeneralConstants.COLUMN_INDEX_WINDTURBINE_NAME, REGEX_TYPES);
+        List<String> managers = readParsableCells(GeneralConstants.COLUMN_INDEX_PROJECTMANAGER, REGEX_MANAGERS);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++)
+        {
+            parseAll(years, REGEX_YEAR);
+            parseAll(years, SCANNER_YEAR);
+            parseAll(types, REGEX_TYPES);
+            parseAll(types, SCANNER_TYPES);
+            parseAll(managers, REGEX_MANAGERS);
+            parseAll(managers, SCANNER_MANAGERS);
+        }
+
+        long regexYear = GeneralConstants.INT_ZERO;
+        long scannerYear = GeneralConstants.INT_ZERO;
+        long regexTypes = GeneralConstants.INT_ZERO;
+        long scannerTypes = GeneralConstants.INT_ZERO;
+        long regexManagers = GeneralConstants.INT_ZERO;
+        long scannerManagers = GeneralConstants.INT_ZERO;
+
+        for (int i = 0; i < rounds; i++)
+        {
+            regexYear += parseAll(years, REGEX_YEAR);
+            scannerYear += parseAll(years, SCANNER_YEAR);
+            regexTypes += parseAll(types, REGEX_TYPES);
+            scannerTypes += parseAll(types, SCANNER_TYPES);
+            regexManagers += parseAll(managers, REGEX_MANAGERS);
+            scannerManagers += parseAll(managers, SCANNER_MANAGERS);
+        }
+
+        System.out.println(years.size() + " Baujahre, " + types.size() + " Typzellen, " + managers.size()
+                + " Projektmanagerzellen");
+        printResult("Baujahr, split", regexYear, rounds);
+        printResult("Baujahr, Scanner", scannerYear, rounds);
+        printResult("Turbinentypen, split", regexTypes, rounds);
+        printResult("Turbinentypen, Scanner", scannerTypes, rounds);
+        printResult("Projektmanager, split", regexManagers, rounds);
+        printResult("Projektmanager, Scanner", scannerManagers, rounds);
+        System.out.println("(" + sink + ")");
+    }
+
+    private static void printResult (String label, long totalNanos, int rounds)
+    {
+        System.out.printf("%-32s: %8.3f ms/Durchlauf%n", label, totalNanos / NANOS_PER_MILLI / rounds);
+    }
+
+    private static List<String> readParsableCells (int column, ToIntFunction<String> referenceParser)
+    {
+        List<String> cells = new ArrayList<>();
+
+        try (CSVRowIterator rows = new CSVRowIterator(GeneralConstants.PATH_TO_CSV))
+        {
+            while (rows.hasNext())
+            {
+                String cell = rows.next()[column];
+
+                try
+                {
+                    referenceParser.applyAsInt(cell);
+                    cells.add(cell);
+                } catch (RuntimeException exception)
+                {
+                    // Zelle wird auch vom Import abgelehnt
+                }
+            }
+        }
+        return cells;
+    }
+
+    private static long parseAll (List<String> cells, ToIntFunction<String> parser)
+    {
+        long start = System.nanoTime();
+
+        for (String cell : cells)
+        {
+            sink += parser.applyAsInt(cell);
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,115 @@
+package org.elias.util;
+
+import org.elias.res.Districts;
+import org.elias.res.constant.GeneralConstants;
+import org.elias.res.constant.ParserConstants;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fruehere Implementierungen der Zellparser aus {@link DataCellParser} ueber {@link String#split(String)} und die
+ * Umlautersetzung, unveraendert nachgebildet als Referenz fuer {@link DataCellParserTest} und die Benchmarks.
+ */
+final class DataCellParserReference
+{
+    private static final String YEAR_SPLIT_REGEX = "[-–]";
+    private static final String COMMA_SEMICOLON_SPLIT_REGEX = "[,;]";
+    private static final String CLOSED_BRACKET_REGEX = "\\)";
+    private static final int LAST_ELEMENT_OFFSET = 1;
+
+    private DataCellParserReference ()
+    {
+    }
+
+    static Year parseManufactureYear (String raw)
+    {
+        if (raw == null || raw.isEmpty() || raw.contains(GeneralConstants.QUESTION_MARK))
+        {
+            return Year.of(GeneralConstants.EMPTY_INT_VARIABLE);
+        }
+
+        if (raw.indexOf(GeneralConstants.CHAR_DASH) >= 0 || raw.indexOf(GeneralConstants.CHAR_EN_DASH) >= 0)
+        {
+            String[] parts = raw.split(YEAR_SPLIT_REGEX);
+
+            raw = parts[parts.length - LAST_ELEMENT_OFFSET].trim().length() == GeneralConstants.YEAR_NUMBER_SIZE
+                    ? parts[parts.length - LAST_ELEMENT_OFFSET]
+                    : parts[GeneralConstants.INT_ZERO];
+        }
+
+        return Year.of(Integer.parseInt(raw.trim()));
+    }
+
+    static Map<String, Integer> parseWindTurbineType (String raw)
+    {
+        Map<String, Integer> result = new HashMap<>();
+
+        if (raw == null || raw.trim().isEmpty())
+        {
+            return result;
+        }
+
+        for (String segment : raw.split(CLOSED_BRACKET_REGEX))
+        {
+            String windTurbine;
+            String count = Integer.toString(GeneralConstants.INT_ONE);
+
+            if (segment.indexOf(GeneralConstants.CHAR_OPEN_BRACKET) >= 0)
+            {
+                int openParenIndex = segment.lastIndexOf(GeneralConstants.CHAR_OPEN_BRACKET);
+
+                windTurbine = segment.substring(GeneralConstants.INT_ZERO, openParenIndex).trim();
+                count = segment.substring(openParenIndex + GeneralConstants.INT_ONE,
+                        segment.length() - GeneralConstants.INT_ONE);
+            } else
+            {
+                windTurbine = segment.trim();
+            }
+
+            result.put(windTurbine, Integer.parseInt(count));
+        }
+
+        return result;
+    }
+
+    static List<String> parseProjectManager (String raw)
+    {
+        List<String> result = new ArrayList<>();
+
+        if (raw == null || raw.trim().isEmpty())
+        {
+            return result;
+        }
+
+        for (String part : raw.split(COMMA_SEMICOLON_SPLIT_REGEX))
+        {
+            String trimmed = part.trim();
+
+            if (trimmed.length() > GeneralConstants.INT_ONE)
+            {
+                result.add(trimmed);
+            }
+        }
+
+        return result;
+    }
+
+    static Districts parseDistrict (String raw)
+    {
+        if (raw == null || raw.trim().isEmpty())
+        {
+            return null;
+        }
+
+        for (String letter : ParserConstants.UMLAUT_REPLACEMENT.keySet())
+        {
+            raw = raw.replace(letter, ParserConstants.UMLAUT_REPLACEMENT.get(letter));
+        }
+
+        return Districts.valueOf(raw.trim());
+    }
+}
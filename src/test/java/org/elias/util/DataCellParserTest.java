@@ -0,0 +1,143 @@
+package org.elias.util;
+
+import org.elias.res.Districts;
+import org.elias.res.constant.GeneralConstants;
+import org.elias.res.constant.ParserConstants;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Vergleicht die zeichenweisen Scanner in {@link DataCellParser} mit den frueheren Implementierungen ueber
+ * {@link String#split(String)} und die Umlautersetzung in {@link DataCellParserReference}.
+ * <p>
+ * Verglichen werden Ergebnis bzw. Ausnahmeklasse; die Meldungen duerfen abweichen, da der Import jede Ausnahme
+ * gleich behandelt. Einzige bewusste Abweichung: Ein Baujahr nur aus Bindestrichen fuehrte frueher zu einer
+ * {@link ArrayIndexOutOfBoundsException} und liefert jetzt eine {@link NumberFormatException}.
+ */
+class DataCellParserTest
+{
+    private static final String[] YEAR_CASES = {
+            "2001", " 2001 ", "1999-2001", "1999 - 2001", "1999–2001", "1999-01", "1999-", "-2001", "1999--2001",
+            "1999-2001-2003", "1999-2001--", "?", "2001?", "", null, "abc", "1999-abc", "abc-2001", "1999-20011",
+            "+2001", "1999-+2001", "1999-2001 ", "01-1999", "2001-1999-", "99999999999", " ", "1999 -"};
+
+    private static final String[] TURBINE_TYPE_CASES = {
+            "REpower MM92(3×)", "A(2×) B(3×)", "A(2×)B", "A", "  ", "", null, "A(x×)", "A()", "A(2×))", ")",
+            "))A(2×)", "A(2×), B", "A(1×)(2×)", " A (2×) ", "A( 2×)", "A(2 ×)", "A(2)", "A(", "A(2×) A(3×)",
+            "Enercon E-82 E2(12×)Vestas V90(1×)", "A)B)C", "A(-1×)", "A(+2×)", "A(99999999999×)", "(2×)"};
+
+    private static final String[] PROJECT_MANAGER_CASES = {
+            "A, B; C", "A;;B", "x, Yy", " ", "", null, "A,", ",", "Meier GmbH & Co. KG, Schulze", "a b ; c",
+            "Ab", "Ab,,Cd;", " ;Ab ; ", "Ä,Öl;Üb", "x"};
+
+    @Test
+    void bundledCsvMatchesRegexParser ()
+    {
+        int comparedRows = GeneralConstants.INT_ZERO;
+
+        try (CSVRowIterator rows = new CSVRowIterator(GeneralConstants.PATH_TO_CSV))
+        {
+            while (rows.hasNext())
+            {
+                String[] cells = rows.next();
+
+                assertSameManufactureYear(cells[GeneralConstants.COLUMN_INDEX_MANUFACTURE_YEAR]);
+                assertSameWindTurbineType(cells[GeneralConstants.COLUMN_INDEX_WINDTURBINE_NAME]);
+                assertSameProjectManager(cells[GeneralConstants.COLUMN_INDEX_PROJECTMANAGER]);
+                assertSameDistrict(cells[GeneralConstants.COLUMN_INDEX_DISTRICT]);
+                comparedRows++;
+            }
+        }
+        assertTrue(comparedRows > GeneralConstants.INT_ZERO);
+    }
+
+    @Test
+    void edgeCasesMatchRegexParser ()
+    {
+        for (String raw : YEAR_CASES)
+        {
+            assertSameManufactureYear(raw);
+        }
+        for (String raw : TURBINE_TYPE_CASES)
+        {
+            assertSameWindTurbineType(raw);
+        }
+        for (String raw : PROJECT_MANAGER_CASES)
+        {
+            assertSameProjectManager(raw);
+        }
+    }
+
+    @Test
+    void allDistrictSpellingsMatchUmlautReplacement ()
+    {
+        for (Districts district : Districts.values())
+        {
+            String code = district.name();
+
+            assertSameDistrict(code);
+            assertSameDistrict(" " + code + " ");
+            for (Map.Entry<String, String> replacement : ParserConstants.UMLAUT_REPLACEMENT.entrySet())
+            {
+                assertSameDistrict(code.replace(replacement.getValue(), replacement.getKey()));
+            }
+        }
+        for (String raw : new String[]{"", " ", null, "XX", "hh", "ÄÖÜ", "A E"})
+        {
+            assertSameDistrict(raw);
+        }
+    }
+
+    @Test
+    void yearOfDashesOnlyIsRejected ()
+    {
+        for (String raw : new String[]{"-", "--", "–", "- -"})
+        {
+            assertThrows(NumberFormatException.class, () -> DataCellParser.parseManufactureYear(raw), raw);
+        }
+    }
+
+    private static void assertSameManufactureYear (String raw)
+    {
+        assertEquals(outcome(() -> DataCellParserReference.parseManufactureYear(raw)),
+                outcome(() -> DataCellParser.parseManufactureYear(raw)), "parseManufactureYear(" + raw + ")");
+    }
+
+    private static void assertSameWindTurbineType (String raw)
+    {
+        assertEquals(outcome(() -> DataCellParserReference.parseWindTurbineType(raw)),
+                outcome(() -> DataCellParser.parseWindTurbineType(raw)), "parseWindTurbineType(" + raw + ")");
+    }
+
+    private static void assertSameProjectManager (String raw)
+    {
+        assertEquals(outcome(() -> DataCellParserReference.parseProjectManager(raw)),
+                outcome(() -> DataCellParser.parseProjectManager(raw)), "parseProjectManager(" + raw + ")");
+    }
+
+    private static void assertSameDistrict (String raw)
+    {
+        assertEquals(outcome(() -> DataCellParserReference.parseDistrict(raw)),
+                outcome(() -> DataCellParser.parseDistrict(raw)), "parseDistrict(" + raw + ")");
+    }
+
+    /**
+     * Beschreibt das Ergebnis eines Aufrufs als Wert oder als Ausnahmeklasse.
+     */
+    private static String outcome (Callable<?> parser)
+    {
+        try
+        {
+            return "value " + parser.call();
+        } catch (Exception e)
+        {
+            return "throws " + e.getClass().getName();
+        }
+    }
+}
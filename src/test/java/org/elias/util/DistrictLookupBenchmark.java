@@ -0,0 +1,148 @@
+package org.elias.util;
+
+import org.elias.res.Districts;
+import org.elias.res.constant.GeneralConstants;
+import org.elias.res.constant.ParserConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Reproduzierbarer Vergleich von {@link DataCellParser#parseDistrict(String)} (Tabelle aller Schreibweisen) mit der
+ * frueheren Umlautersetzung und {@link Districts#valueOf(String)} ({@link DataCellParserReference}).
+ * <p>
+ * Gemessen wird ueber die gueltigen Landkreis-Zellen der mitgelieferten CSV-Datei (einschliesslich leerer Zellen)
+ * und ueber alle Landkreiskuerzel mit jeweils einem als Umlaut geschriebenen AE/OE/UE, bei denen die
+ * Umlautersetzung tatsaechlich ersetzen muss. Diese werden auf die Anzahl der CSV-Zellen wiederholt.
+ * Aufruf nach {@code mvn test-compile}:
+ * <pre>
+ * java -cp target/classes:target/test-classes org.elias.util.DistrictLookupBenchmark [Durchlaeufe]
+ * </pre>
+ */
+public final class DistrictLookupBenchmark
+{
+    private static final int DEFAULT_ROUNDS = 50;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static final ToIntFunction<String> REPLACEMENT =
+            cell -> toId(DataCellParserReference.parseDistrict(cell));
+    private static final ToIntFunction<String> TABLE = cell -> toId(DataCellParser.parseDistrict(cell));
+
+    /**
+     * Verhindert, dass der JIT die gemessenen Schleifen als wirkungslos entfernt
+     */
+    private static long sink = GeneralConstants.INT_ZERO;
+
+    private DistrictLookupBenchmark ()
+    {
+    }
+
+    public static void main (String[] args)
+    {
+        int rounds = args.length > GeneralConstants.INT_ZERO ? Integer.parseInt(args[GeneralConstants.INT_ZERO])
+                : DEFAULT_ROUNDS;
+
+        List<String> csvCells = readValidDistrictCells();
+        List<String> umlautSpellings = createUmlautSpellings(csvCells.size());
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++)
+        {
+            lookupAll(csvCells, REPLACEMENT);
+            lookupAll(csvCells, TABLE);
+            lookupAll(umlautSpellings, REPLACEMENT);
+            lookupAll(umlautSpellings, TABLE);
+        }
+
+        long csvReplacement = GeneralConstants.INT_ZERO;
+        long csvTable = GeneralConstants.INT_ZERO;
+        long umlautReplacement = GeneralConstants.INT_ZERO;
+        long umlautTable = GeneralConstants.INT_ZERO;
+
+        for (int i = 0; i < rounds; i++)
+        {
+            csvReplacement += lookupAll(csvCells, REPLACEMENT);
+            csvTable += lookupAll(csvCells, TABLE);
+            umlautReplacement += lookupAll(umlautSpellings, REPLACEMENT);
+            umlautTable += lookupAll(umlautSpellings, TABLE);
+        }
+
+        System.out.println(csvCells.size() + " CSV-Zellen, " + umlautSpellings.size() + " Umlaut-Schreibweisen");
+        printResult("CSV, Umlautersetzung", csvReplacement, rounds);
+        printResult("CSV, Tabelle", csvTable, rounds);
+        printResult("Umlaute, Umlautersetzung", umlautReplacement, rounds);
+        printResult("Umlaute, Tabelle", umlautTable, rounds);
+        System.out.println("(" + sink + ")");
+    }
+
+    private static void printResult (String label, long totalNanos, int rounds)
+    {
+        System.out.printf("%-32s: %8.3f ms/Durchlauf%n", label, totalNanos / NANOS_PER_MILLI / rounds);
+    }
+
+    private static List<String> readValidDistrictCells ()
+    {
+        List<String> cells = new ArrayList<>();
+
+        try (CSVRowIterator rows = new CSVRowIterator(GeneralConstants.PATH_TO_CSV))
+        {
+            while (rows.hasNext())
+            {
+                String cell = rows.next()[GeneralConstants.COLUMN_INDEX_DISTRICT];
+
+                try
+                {
+                    DataCellParserReference.parseDistrict(cell);
+                    cells.add(cell);
+                } catch (IllegalArgumentException exception)
+                {
+                    // Zelle wird auch vom Import abgelehnt
+                }
+            }
+        }
+        return cells;
+    }
+
+    private static List<String> createUmlautSpellings (int size)
+    {
+        List<String> spellings = new ArrayList<>(size);
+
+        for (Districts district : Districts.values())
+        {
+            for (Map.Entry<String, String> replacement : ParserConstants.UMLAUT_REPLACEMENT.entrySet())
+            {
+                String spelling = district.name().replace(replacement.getValue(), replacement.getKey());
+
+                if (!spelling.equals(district.name()))
+                {
+                    spellings.add(spelling);
+                }
+            }
+        }
+
+        int distinctSpellings = spellings.size();
+        while (spellings.size() < size)
+        {
+            spellings.add(spellings.get(spellings.size() % distinctSpellings));
+        }
+        return spellings;
+    }
+
+    private static int toId (Districts district)
+    {
+        return district == null ? GeneralConstants.UNASSIGNED_ID : district.ordinal();
+    }
+
+    private static long lookupAll (List<String> cells, ToIntFunction<String> parser)
+    {
+        long start = System.nanoTime();
+
+        for (String cell : cells)
+        {
+            sink += parser.applyAsInt(cell);
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,84 @@
+package org.elias.util;
+
+import org.elias.res.constant.GeneralConstants;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Vergleicht die gebuendelte Sehnenlaengen-Berechnung in {@link GeoFormula} mit der skalaren Einzelberechnung.
+ * <p>
+ * Mit {@code --add-modules jdk.incubator.vector} (wie in der Surefire-Konfiguration) laeuft
+ * {@link GeoFormula#squaredChordDistances} ueber {@link VectorHaversineKernel}, der dann zusaetzlich direkt geprueft
+ * wird; ohne das Modul wird nur der skalare Pfad geprueft. Die Ergebnisse muessen bitgleich sein.
+ */
+class GeoFormulaTest
+{
+    private static final long SEED = 42L;
+    private static final int POINT_COUNT = 1000;
+    private static final int[] COUNTS = {0, 1, 2, 3, 5, 7, 8, 9, 16, 31, 257, POINT_COUNT};
+    private static final float MIN_LATITUDE = 47.0f;
+    private static final float LATITUDE_RANGE = 8.0f;
+    private static final float MIN_LONGITUDE = 5.5f;
+    private static final float LONGITUDE_RANGE = 9.5f;
+
+    @Test
+    void batchedDistancesMatchScalar ()
+    {
+        Random random = new Random(SEED);
+        double[] unitX = new double[POINT_COUNT];
+        double[] unitY = new double[POINT_COUNT];
+        double[] unitZ = new double[POINT_COUNT];
+
+        for (int i = 0; i < POINT_COUNT; i++)
+        {
+            double[] unitVector = GeoFormula.toUnitVector(MIN_LATITUDE + random.nextFloat() * LATITUDE_RANGE,
+                    MIN_LONGITUDE + random.nextFloat() * LONGITUDE_RANGE);
+
+            unitX[i] = unitVector[GeneralConstants.INT_ZERO];
+            unitY[i] = unitVector[GeneralConstants.INT_ONE];
+            unitZ[i] = unitVector[GeneralConstants.INT_TWO];
+        }
+
+        boolean vectorApiAvailable = ModuleLayer.boot().findModule(GeneralConstants.VECTOR_API_MODULE).isPresent();
+
+        for (int count : COUNTS)
+        {
+            double[] origin = {unitX[count % POINT_COUNT], unitY[count % POINT_COUNT], unitZ[count % POINT_COUNT]};
+            int[] indices = new int[count];
+            for (int k = 0; k < count; k++)
+            {
+                indices[k] = random.nextInt(POINT_COUNT);
+            }
+
+            double[] expected = new double[count];
+            for (int k = 0; k < count; k++)
+            {
+                expected[k] = GeoFormula.squaredChordDistance(origin, unitX[indices[k]], unitY[indices[k]],
+                        unitZ[indices[k]]);
+            }
+
+            double[] batched = new double[count];
+            GeoFormula.squaredChordDistances(origin, unitX, unitY, unitZ, indices, count, batched);
+            assertSameBits(expected, batched, "GeoFormula, count " + count);
+
+            if (vectorApiAvailable)
+            {
+                double[] vector = new double[count];
+                VectorHaversineKernel.squaredChordDistances(origin, unitX, unitY, unitZ, indices, count, vector);
+                assertSameBits(expected, vector, "VectorHaversineKernel, count " + count);
+            }
+        }
+    }
+
+    private static void assertSameBits (double[] expected, double[] actual, String message)
+    {
+        for (int k = 0; k < expected.length; k++)
+        {
+            assertEquals(Double.doubleToRawLongBits(expected[k]), Double.doubleToRawLongBits(actual[k]),
+                    message + ", index " + k);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.elias.util;
+
+import org.elias.res.constant.GeneralConstants;
+
+/**
+ * Reproduzierbarer Durchsatzvergleich zwischen {@link CSVRowIterator} ({@link CSVLineParser}) und
+ * {@link MappedCSVTokenizer} ueber die mitgelieferte CSV-Datei.
+ * <p>
+ * Gemessen werden drei Varianten: die zeilenweise Zerlegung in Strings, der Tokenizer mit vollstaendig dekodierten
+ * Zeilen und der Tokenizer mit dem Zugriffsmuster des Imports (Namenszelle dekodiert, Zahlenzellen direkt geparst).
+ * Aufruf nach {@code mvn test-compile}:
+ * <pre>
+ * java -cp target/classes:target/test-classes org.elias.util.MappedCSVTokenizerBenchmark [Durchlaeufe]
+ * </pre>
+ */
+public final class MappedCSVTokenizerBenchmark
+{
+    private static final int DEFAULT_ROUNDS = 50;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Verhindert, dass der JIT die gemessenen Schleifen als wirkungslos entfernt
+     */
+    private static long sink = GeneralConstants.INT_ZERO;
+
+    private MappedCSVTokenizerBenchmark ()
+    {
+    }
+
+    public static void main (String[] args)
+    {
+        int rounds = args.length > GeneralConstants.INT_ZERO ? Integer.parseInt(args[GeneralConstants.INT_ZERO])
+                : DEFAULT_ROUNDS;
+        String path = GeneralConstants.PATH_TO_CSV;
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++)
+        {
+            readLineParser(path);
+            readMappedCells(path);
+            readMappedLazy(path);
+        }
+
+        long lineParser = GeneralConstants.INT_ZERO;
+        long mappedCells = GeneralConstants.INT_ZERO;
+        long mappedLazy = GeneralConstants.INT_ZERO;
+
+        for (int i = 0; i < rounds; i++)
+        {
+            long start = System.nanoTime();
+            readLineParser(path);
+            long afterLineParser = System.nanoTime();
+            readMappedCells(path);
+            long afterMappedCells = System.nanoTime();
+            readMappedLazy(path);
+            long afterMappedLazy = System.nanoTime();
+
+            lineParser += afterLineParser - start;
+            mappedCells += afterMappedCells - afterLineParser;
+            mappedLazy += afterMappedLazy - afterMappedCells;
+        }
+
+        printResult("CSVRowIterator + CSVLineParser", lineParser, rounds);
+        printResult("MappedCSVTokenizer, alle Zellen", mappedCells, rounds);
+        printResult("MappedCSVTokenizer, wie Import", mappedLazy, rounds);
+        System.out.println("(" + sink + ")");
+    }
+
+    private static void printResult (String label, long totalNanos, int rounds)
+    {
+        System.out.printf("%-32s: %8.3f ms/Durchlauf%n", label, totalNanos / NANOS_PER_MILLI / rounds);
+    }
+
+    private static void readLineParser (String path)
+    {
+        try (CSVRowIterator rows = new CSVRowIterator(path))
+        {
+            while (rows.hasNext())
+            {
+                sink += rows.next()[GeneralConstants.COLUMN_INDEX_NAME].length();
+            }
+        }
+    }
+
+    private static void readMappedCells (String path)
+    {
+        try (MappedCSVTokenizer tokenizer = new MappedCSVTokenizer(path))
+        {
+            while (tokenizer.hasNext())
+            {
+                sink += tokenizer.next().toCells()[GeneralConstants.COLUMN_INDEX_NAME].length();
+            }
+        }
+    }
+
+    private static void readMappedLazy (String path)
+    {
+        try (MappedCSVTokenizer tokenizer = new MappedCSVTokenizer(path))
+        {
+            while (tokenizer.hasNext())
+            {
+                MappedCSVRow row = tokenizer.next();
+
+                sink += row.getCell(GeneralConstants.COLUMN_INDEX_NAME).length();
+                sink += NumericCellParser.parseObjectID(row.getCellSequence(GeneralConstants.COLUMN_INDEX_ID));
+                sink += (long) NumericCellParser.parseTotalPerformance(
+                        row.getCellSequence(GeneralConstants.COLUMN_INDEX_PERFORMANCE));
+            }
+        }
+    }
+}
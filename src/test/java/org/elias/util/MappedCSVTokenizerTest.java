@@ -0,0 +1,147 @@
+package org.elias.util;
+
+import org.elias.res.constant.GeneralConstants;
+import org.elias.res.constant.ParserConstants;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Vergleicht {@link MappedCSVTokenizer} mit der zeilenweisen Zerlegung durch {@link CSVRowIterator}, die auf
+ * {@link CSVLineParser#parseLine(String)} beruht.
+ * <p>
+ * Neben der Standardfenstergroesse werden sehr kleine Fenster geprueft, damit Zeilen, Zellen und
+ * {@code \r\n}-Umbrueche ueber Fenstergrenzen reichen und neu gemappt bzw. das Fenster vergroessert wird.
+ */
+class MappedCSVTokenizerTest
+{
+    private static final long[] SMALL_WINDOW_SIZES = {1, 7, 64};
+
+    private static final String EDGE_CASE_CONTENT = "OBJECTID,Name\n"
+            + "1,\"Park, Nord\",2001,\" 4.5 \",2,\"A\",Ort,Kreis,52.1,13.4,Firma,\n"
+            + "2,Park, Sued,1999,\"1\"\"2\",1\r\n"
+            + "3,Müühle,2010,0.8,1,B,Ört,Kreis,51.0,\"1\"3.5\",,Bemerkung\r"
+            + "4,kurz\n"
+            + "\n"
+            + "5,a,b,c,d,e,f,g,h,i,j,k,l,m,n\n"
+            + "6,  Leerzeichen  ,,  ,\"\",7";
+
+    private static final String CRLF_CONTENT = "OBJECTID,Name\r\n"
+            + "1,ab\r\n"
+            + "2,abc\r\n"
+            + "3,abcd\r\n"
+            + "\r\n"
+            + "4,\"a\r\n";
+
+    @Test
+    void bundledCsvMatchesLineParser ()
+    {
+        assertSameRows(GeneralConstants.PATH_TO_CSV);
+    }
+
+    @Test
+    void edgeCasesMatchLineParser () throws IOException
+    {
+        Path csv = writeTempCsv(EDGE_CASE_CONTENT);
+
+        try
+        {
+            assertSameRows(csv.toString());
+        } finally
+        {
+            Files.delete(csv);
+        }
+    }
+
+    @Test
+    void smallWindowsMatchLineParser () throws IOException
+    {
+        Path edgeCases = writeTempCsv(EDGE_CASE_CONTENT);
+        Path crlf = writeTempCsv(CRLF_CONTENT);
+
+        try
+        {
+            for (long windowSize : SMALL_WINDOW_SIZES)
+            {
+                assertSameRows(edgeCases.toString(), windowSize);
+                assertSameRows(crlf.toString(), windowSize);
+            }
+        } finally
+        {
+            Files.delete(edgeCases);
+            Files.delete(crlf);
+        }
+    }
+
+    @Test
+    void bundledCsvMatchesLineParserAcrossWindows ()
+    {
+        for (long windowSize : SMALL_WINDOW_SIZES)
+        {
+            assertSameRows(GeneralConstants.PATH_TO_CSV, windowSize);
+        }
+    }
+
+    @Test
+    void numericCellsAreReadWithoutDecoding ()
+    {
+        try (MappedCSVTokenizer tokenizer = new MappedCSVTokenizer(GeneralConstants.PATH_TO_CSV))
+        {
+            MappedCSVRow row = tokenizer.next();
+
+            assertFalse(row.getCellSequence(GeneralConstants.COLUMN_INDEX_ID) instanceof String);
+            assertFalse(row.getCellSequence(GeneralConstants.COLUMN_INDEX_LATITUDE) instanceof String);
+        }
+    }
+
+    private static Path writeTempCsv (String content) throws IOException
+    {
+        Path csv = Files.createTempFile("tokenizer", ".csv");
+
+        Files.writeString(csv, content, StandardCharsets.UTF_8);
+        return csv;
+    }
+
+    private static void assertSameRows (String pathToCSV)
+    {
+        assertSameRows(pathToCSV, ParserConstants.MAPPED_WINDOW_SIZE);
+    }
+
+    /**
+     * Zerlegt eine Datei mit beiden Verfahren und vergleicht jede Zelle; {@link MappedCSVRow#getCellSequence(int)}
+     * wird vor {@link MappedCSVRow#getCell(int)} abgefragt, damit kein bereits dekodierter Wert verglichen wird.
+     */
+    private static void assertSameRows (String pathToCSV, long windowSize)
+    {
+        try (CSVRowIterator expectedRows = new CSVRowIterator(pathToCSV);
+             MappedCSVTokenizer tokenizer = new MappedCSVTokenizer(pathToCSV, windowSize))
+        {
+            int rowNumber = GeneralConstants.INT_ZERO;
+
+            while (expectedRows.hasNext())
+            {
+                String[] expected = expectedRows.next();
+                rowNumber++;
+                assertTrue(tokenizer.hasNext(), "Fenster " + windowSize + ", Zeile " + rowNumber + " fehlt");
+
+                MappedCSVRow row = tokenizer.next();
+                for (int column = 0; column < GeneralConstants.COLUMN_COUNT; column++)
+                {
+                    CharSequence cell = row.getCellSequence(column);
+                    assertEquals(expected[column], cell == null ? null : cell.toString(),
+                            "Fenster " + windowSize + ", Zeile " + rowNumber + ", Spalte " + column);
+                }
+                assertArrayEquals(expected, row.toCells(), "Fenster " + windowSize + ", Zeile " + rowNumber);
+            }
+            assertFalse(tokenizer.hasNext(), "Fenster " + windowSize);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package org.elias.util;
+
+import org.elias.res.constant.ErrorMessages;
+import org.elias.res.constant.GeneralConstants;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Differenzieller Test: {@link NumericCellParser} muss dieselben Werte und Ausnahmen liefern wie die frueheren
+ * {@code String}-Methoden von {@link DataCellParser} ({@code Integer.parseInt}/{@code Float.parseFloat} auf der
+ * getrimmten Zelle), die hier als private Referenz-Methoden erhalten sind.
+ * <p>
+ * Verglichen wird ueber die mitgelieferte CSV-Datei, sowohl mit dekodierten Zellen als auch mit den Puffer-Sichten
+ * aus {@link MappedCSVRow#getCellSequence(int)}, und ueber Randfaelle einschliesslich der Werte, die genau in der
+ * Mitte zwischen zwei {@code float}-Werten liegen und daher an {@link Float#parseFloat(String)} weitergereicht
+ * werden.
+ */
+class NumericCellParserTest
+{
+    private static final String[] EDGE_CASES = {
+            "16777217", "16777219", "-16777217", "33554434", "33554438", "16777217.0", "16777217.000001",
+            "1.00000005960464477539062", "0.1", "-0", "+1.5", "1e3", " 4.5 ", "", "abc", "1.2.3", ".5", "5.", "-",
+            "+", "NaN", "Infinity", "0x10", "1_000", "007", "2147483647", "2147483648", "-2147483648",
+            "-2147483649", "123456789012345", "1234567890123456", "0.000000000000001", "\t52.5\n"};
+
+    @Test
+    void bundledCsvMatchesReference ()
+    {
+        int comparedRows = GeneralConstants.INT_ZERO;
+
+        try (CSVRowIterator rows = new CSVRowIterator(GeneralConstants.PATH_TO_CSV);
+             MappedCSVTokenizer tokenizer = new MappedCSVTokenizer(GeneralConstants.PATH_TO_CSV))
+        {
+            while (rows.hasNext())
+            {
+                String[] cells = rows.next();
+                MappedCSVRow row = tokenizer.next();
+
+                assertSameObjectID(cells[GeneralConstants.COLUMN_INDEX_ID],
+                        row.getCellSequence(GeneralConstants.COLUMN_INDEX_ID));
+                assertSamePerformance(cells[GeneralConstants.COLUMN_INDEX_PERFORMANCE],
+                        row.getCellSequence(GeneralConstants.COLUMN_INDEX_PERFORMANCE));
+                assertSameCoordinates(cells[GeneralConstants.COLUMN_INDEX_LATITUDE],
+                        cells[GeneralConstants.COLUMN_INDEX_LONGITUDE],
+                        row.getCellSequence(GeneralConstants.COLUMN_INDEX_LATITUDE),
+                        row.getCellSequence(GeneralConstants.COLUMN_INDEX_LONGITUDE));
+                comparedRows++;
+            }
+        }
+        assertTrue(comparedRows > GeneralConstants.INT_ZERO);
+    }
+
+    @Test
+    void edgeCasesMatchReference ()
+    {
+        for (String raw : EDGE_CASES)
+        {
+            assertSameObjectID(raw, raw);
+            assertSamePerformance(raw, raw);
+            assertSameCoordinates(raw, raw, raw, raw);
+        }
+        assertSamePerformance(null, null);
+        assertSameCoordinates(null, "1.0", null, "1.0");
+    }
+
+    @Test
+    void halfwayValuesRoundToEven ()
+    {
+        assertEquals(16777216.0f, NumericCellParser.parseTotalPerformance("16777217"));
+        assertEquals(16777220.0f, NumericCellParser.parseTotalPerformance("16777219"));
+        assertEquals(16777218.0f, NumericCellParser.parseTotalPerformance("16777217.000001"));
+    }
+
+    @Test
+    void rangesIgnoreSurroundingText ()
+    {
+        String text = "x 12.75 y";
+
+        assertEquals(12.75f, NumericCellParser.parseFloat(text, 1, 8));
+        assertEquals(-42, NumericCellParser.parseInt("[-42]", 1, 4));
+    }
+
+    private static void assertSameObjectID (String expected, CharSequence actual)
+    {
+        assertEquals(outcome(() -> parseObjectIDReference(expected)),
+                outcome(() -> NumericCellParser.parseObjectID(actual)), "parseObjectID(" + expected + ")");
+    }
+
+    private static void assertSamePerformance (String expected, CharSequence actual)
+    {
+        assertEquals(outcome(() -> floatBits(parseTotalPerformanceReference(expected))),
+                outcome(() -> floatBits(NumericCellParser.parseTotalPerformance(actual))),
+                "parseTotalPerformance(" + expected + ")");
+    }
+
+    private static void assertSameCoordinates (String expectedLatitude, String expectedLongitude,
+                                               CharSequence actualLatitude, CharSequence actualLongitude)
+    {
+        assertEquals(outcome(() -> coordinateBits(parseCoordinatesReference(expectedLatitude, expectedLongitude))),
+                outcome(() -> coordinateBits(new float[]{NumericCellParser.parseCoordinate(actualLatitude),
+                        NumericCellParser.parseCoordinate(actualLongitude)})),
+                "parseCoordinates(" + expectedLatitude + ", " + expectedLongitude + ")");
+    }
+
+    /**
+     * Referenz: die fruehere {@code DataCellParser.parseObjectID(String)}.
+     */
+    private static int parseObjectIDReference (String raw)
+    {
+        return Integer.parseInt(raw.trim());
+    }
+
+    /**
+     * Referenz: die fruehere {@code DataCellParser.parseTotalPerformance(String)}.
+     */
+    private static float parseTotalPerformanceReference (String raw)
+    {
+        if (raw == null || raw.isEmpty())
+        {
+            return GeneralConstants.EMPTY_FLOAT_VARIABLE;
+        }
+
+        return Float.parseFloat(raw.trim());
+    }
+
+    /**
+     * Referenz: die fruehere {@code DataCellParser.parseCoordinates(String, String)}.
+     */
+    private static float[] parseCoordinatesReference (String latitude, String longitude)
+    {
+        if (latitude == null || longitude == null)
+        {
+            throw new IllegalArgumentException(ErrorMessages.NULL_COORDINATES);
+        }
+
+        return new float[]{Float.parseFloat(latitude.trim()), Float.parseFloat(longitude.trim())};
+    }
+
+    private static String floatBits (float value)
+    {
+        return Integer.toHexString(Float.floatToRawIntBits(value));
+    }
+
+    private static String coordinateBits (float[] coordinates)
+    {
+        return floatBits(coordinates[GeneralConstants.INT_ZERO]) + "/"
+                + floatBits(coordinates[GeneralConstants.INT_ONE]);
+    }
+
+    /**
+     * Beschreibt das Ergebnis eines Aufrufs als Wert oder als Ausnahmeklasse mit Meldung.
+     */
+    private static String outcome (Callable<?> parser)
+    {
+        try
+        {
+            return "value " + parser.call();
+        } catch (Exception e)
+        {
+            return "throws " + e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+}
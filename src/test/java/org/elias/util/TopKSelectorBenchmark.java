@@ -0,0 +1,125 @@
+package org.elias.util;
+
+import org.elias.model.WindFarm;
+import org.elias.model.service.WindFarmImporter;
+import org.elias.model.service.WindFarmRepository;
+import org.elias.res.constant.GeneralConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reproduzierbarer Vergleich der Extremwertsuche ueber synthetische 100.000 Windparks.
+ * <p>
+ * Die Windparks der mitgelieferten CSV-Datei werden wiederholt und mit festem Seed gemischt. Gemessen werden die
+ * drei Abfragen des Analyse-Menues (suedlichster Windpark, hoechste Leistung, meiste Windturbinen) einmal ueber
+ * Kopieren und stabiles Sortieren mit anschliessendem {@link List#getFirst()} und einmal ueber einen einzigen
+ * Durchlauf mit {@link TopKSelector#findMin(Iterable, Comparator)}. Beide Varianten liefern bei Gleichstand
+ * denselben Windpark.
+ * Aufruf nach {@code mvn test-compile}:
+ * <pre>
+ * java -cp target/classes:target/test-classes org.elias.util.TopKSelectorBenchmark [Durchlaeufe]
+ * </pre>
+ */
+public final class TopKSelectorBenchmark
+{
+    private static final int DEFAULT_ROUNDS = 50;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final int SYNTHETIC_SIZE = 100_000;
+    private static final long SEED = 20240611L;
+
+    private static final Comparator<WindFarm> BY_LATITUDE =
+            Comparator.comparingDouble(windFarm -> windFarm.getCoordinates().getLatitude());
+    private static final Comparator<WindFarm> BY_PERFORMANCE_DESCENDING =
+            Comparator.comparingDouble(WindFarm::getTotalPerformance).reversed();
+    private static final Comparator<WindFarm> BY_WIND_TURBINES_DESCENDING =
+            Comparator.comparingInt(WindFarm::getWindTurbineCount).reversed();
+
+    /**
+     * Verhindert, dass der JIT die gemessenen Schleifen als wirkungslos entfernt
+     */
+    private static long sink = GeneralConstants.INT_ZERO;
+
+    private TopKSelectorBenchmark ()
+    {
+    }
+
+    public static void main (String[] args)
+    {
+        int rounds = args.length > GeneralConstants.INT_ZERO ? Integer.parseInt(args[GeneralConstants.INT_ZERO])
+                : DEFAULT_ROUNDS;
+
+        WindFarmRepository repository = WindFarmRepository.getInstance();
+        WindFarmImporter.importMapped(GeneralConstants.PATH_TO_CSV, repository);
+        List<WindFarm> windFarms = createSyntheticWindFarms(repository.getGermanWindFarms());
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++)
+        {
+            querySorted(windFarms);
+            querySinglePass(windFarms);
+        }
+
+        long sorted = GeneralConstants.INT_ZERO;
+        long singlePass = GeneralConstants.INT_ZERO;
+
+        for (int i = 0; i < rounds; i++)
+        {
+            long start = System.nanoTime();
+            querySorted(windFarms);
+            long afterSorted = System.nanoTime();
+            querySinglePass(windFarms);
+            long afterSinglePass = System.nanoTime();
+
+            sorted += afterSorted - start;
+            singlePass += afterSinglePass - afterSorted;
+        }
+
+        System.out.println(windFarms.size() + " Windparks");
+        printResult("3 Abfragen, Kopie + Sortierung", sorted, rounds);
+        printResult("3 Abfragen, TopKSelector.findMin", singlePass, rounds);
+        System.out.println("(" + sink + ")");
+    }
+
+    private static void printResult (String label, long totalNanos, int rounds)
+    {
+        System.out.printf("%-32s: %8.3f ms/Durchlauf%n", label, totalNanos / NANOS_PER_MILLI / rounds);
+    }
+
+    private static List<WindFarm> createSyntheticWindFarms (List<WindFarm> windFarms)
+    {
+        List<WindFarm> synthetic = new ArrayList<>(SYNTHETIC_SIZE);
+
+        while (synthetic.size() < SYNTHETIC_SIZE)
+        {
+            synthetic.addAll(windFarms.subList(GeneralConstants.INT_ZERO,
+                    Math.min(windFarms.size(), SYNTHETIC_SIZE - synthetic.size())));
+        }
+        Collections.shuffle(synthetic, new Random(SEED));
+        return synthetic;
+    }
+
+    private static void querySorted (List<WindFarm> windFarms)
+    {
+        sink += sortedFirst(windFarms, BY_LATITUDE).getId();
+        sink += sortedFirst(windFarms, BY_PERFORMANCE_DESCENDING).getId();
+        sink += sortedFirst(windFarms, BY_WIND_TURBINES_DESCENDING).getId();
+    }
+
+    private static void querySinglePass (List<WindFarm> windFarms)
+    {
+        sink += TopKSelector.findMin(windFarms, BY_LATITUDE).getId();
+        sink += TopKSelector.findMin(windFarms, BY_PERFORMANCE_DESCENDING).getId();
+        sink += TopKSelector.findMin(windFarms, BY_WIND_TURBINES_DESCENDING).getId();
+    }
+
+    private static WindFarm sortedFirst (List<WindFarm> windFarms, Comparator<WindFarm> comparator)
+    {
+        List<WindFarm> copy = new ArrayList<>(windFarms);
+        copy.sort(comparator);
+        return copy.getFirst();
+    }
+}
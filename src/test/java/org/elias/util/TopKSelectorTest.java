@@ -0,0 +1,79 @@
+package org.elias.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Vergleicht {@link TopKSelector} mit dem ersten Element einer stabilen Sortierung ueber {@link List#sort(Comparator)}.
+ * <p>
+ * Die Schluessel haben wenige verschiedene Werte, damit gleichwertige Elemente haeufig sind; verglichen wird
+ * auf Objektidentitaet, sodass auch die Reihenfolge gleichwertiger Elemente geprueft wird.
+ */
+class TopKSelectorTest
+{
+    private static final long SEED = 20240611L;
+    private static final int ROUNDS = 200;
+    private static final int MAX_SIZE = 300;
+    private static final int DISTINCT_KEYS = 17;
+
+    private static final Comparator<Item> BY_KEY = Comparator.comparingInt(Item::key);
+
+    @Test
+    void findMinMatchesStableSort ()
+    {
+        Random random = new Random(SEED);
+
+        for (int round = 0; round < ROUNDS; round++)
+        {
+            List<Item> items = randomItems(random);
+
+            if (items.isEmpty())
+            {
+                continue;
+            }
+            assertSame(sorted(items, BY_KEY).getFirst(), TopKSelector.findMin(items, BY_KEY));
+            assertSame(sorted(items, BY_KEY.reversed()).getFirst(), TopKSelector.findMin(items, BY_KEY.reversed()));
+        }
+    }
+
+    @Test
+    void edgeCases ()
+    {
+        List<Item> items = List.of(new Item(3, 0), new Item(1, 1), new Item(1, 2));
+
+        assertSame(items.get(1), TopKSelector.findMin(items, BY_KEY));
+        assertSame(items.getFirst(), TopKSelector.findMin(items, BY_KEY.reversed()));
+        assertThrows(NoSuchElementException.class, () -> TopKSelector.findMin(List.<Item>of(), BY_KEY));
+    }
+
+    private static List<Item> randomItems (Random random)
+    {
+        int size = random.nextInt(MAX_SIZE);
+        List<Item> items = new ArrayList<>(size);
+
+        for (int id = 0; id < size; id++)
+        {
+            items.add(new Item(random.nextInt(DISTINCT_KEYS), id));
+        }
+        return items;
+    }
+
+    private static List<Item> sorted (List<Item> items, Comparator<Item> comparator)
+    {
+        List<Item> copy = new ArrayList<>(items);
+        copy.sort(comparator);
+        return copy;
+    }
+
+    private record Item(int key, int id)
+    {
+    }
+}